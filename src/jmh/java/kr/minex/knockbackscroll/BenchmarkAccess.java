@@ -0,0 +1,21 @@
+package kr.minex.knockbackscroll;
+
+import kr.minex.knockbackscroll.utils.ScrollClock;
+
+/**
+ * 벤치마크에서 플러그인 내부 설정에 접근하기 위한 통로 (src/jmh 전용)
+ */
+public final class BenchmarkAccess {
+
+    private BenchmarkAccess() {
+    }
+
+    /**
+     * 시계 교체
+     * @param plugin 대상 플러그인
+     * @param clock 사용할 시계
+     */
+    public static void setScrollClock(KnockbackScroll plugin, ScrollClock clock) {
+        plugin.setScrollClock(clock);
+    }
+}
@@ -0,0 +1,88 @@
+package kr.minex.knockbackscroll.benchmark;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import kr.minex.knockbackscroll.BenchmarkAccess;
+import kr.minex.knockbackscroll.KnockbackScroll;
+import kr.minex.knockbackscroll.utils.ManualScrollClock;
+import org.bukkit.entity.Player;
+
+import java.lang.reflect.Proxy;
+import java.util.UUID;
+
+/**
+ * 벤치마크 공통 준비 코드
+ * MockBukkit 서버 위에 플러그인을 올리고, 측정에 방해되는 요소를 꺼 둡니다.
+ */
+final class BenchmarkSupport {
+
+    // 벤치마크 시작 시각 (밀리초)
+    static final long START_MILLIS = 1_000L;
+
+    private BenchmarkSupport() {
+    }
+
+    /**
+     * MockBukkit 서버 시작 및 플러그인 로드
+     * - 시계는 수동 시계로 교체 (측정 중 쿨타임/효과가 저절로 만료되지 않도록)
+     * - 저널, 감사 로그, 설정 파일 감시는 닫음 (백그라운드 스레드가 측정에 끼어들지 않도록)
+     */
+    static KnockbackScroll startPlugin(ManualScrollClock clock) {
+        MockBukkit.mock();
+        KnockbackScroll plugin = MockBukkit.load(KnockbackScroll.class);
+        BenchmarkAccess.setScrollClock(plugin, clock);
+        plugin.getPersistenceManager().shutdown();
+        plugin.getAuditManager().shutdown();
+        plugin.getConfigWatcher().stop();
+        return plugin;
+    }
+
+    /**
+     * MockBukkit 서버 종료
+     */
+    static void stop() {
+        MockBukkit.unmock();
+    }
+
+    /**
+     * UUID만 가진 가벼운 플레이어 스텁 생성
+     * 수십만 명 규모에서 PlayerMock 대신 사용하며, 속성(getAttribute)은 없는 것으로 취급됩니다.
+     */
+    static Player stubPlayer(UUID uuid) {
+        return (Player) Proxy.newProxyInstance(Player.class.getClassLoader(), new Class<?>[] {Player.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getUniqueId" -> uuid;
+                    case "hashCode" -> uuid.hashCode();
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "StubPlayer[" + uuid + "]";
+                    default -> defaultValue(method.getReturnType());
+                });
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (!type.isPrimitive() || type == void.class) {
+            return null;
+        }
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == char.class) {
+            return '\0';
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        if (type == float.class) {
+            return 0F;
+        }
+        if (type == double.class) {
+            return 0D;
+        }
+        if (type == byte.class) {
+            return (byte) 0;
+        }
+        if (type == short.class) {
+            return (short) 0;
+        }
+        return 0;
+    }
+}
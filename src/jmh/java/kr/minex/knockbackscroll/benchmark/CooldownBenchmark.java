@@ -0,0 +1,67 @@
+package kr.minex.knockbackscroll.benchmark;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.entity.PlayerMock;
+import kr.minex.knockbackscroll.KnockbackScroll;
+import kr.minex.knockbackscroll.managers.CooldownManager;
+import kr.minex.knockbackscroll.managers.PlayerScrollData;
+import kr.minex.knockbackscroll.utils.ManualScrollClock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 쿨타임 조회 벤치마크
+ * CooldownManager.isOnCooldown 을 쿨타임 중/아닌 플레이어에 대해 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CooldownBenchmark {
+
+    private CooldownManager cooldownManager;
+
+    private PlayerMock coolingPlayer;
+    private PlayerMock idlePlayer;
+    private PlayerScrollData coolingData;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        KnockbackScroll plugin = BenchmarkSupport.startPlugin(new ManualScrollClock(BenchmarkSupport.START_MILLIS));
+        cooldownManager = plugin.getCooldownManager();
+
+        // 수동 시계이므로 측정 중 쿨타임이 끝나지 않음
+        coolingPlayer = MockBukkit.getMock().addPlayer("CoolingPlayer");
+        idlePlayer = MockBukkit.getMock().addPlayer("IdlePlayer");
+        cooldownManager.setCooldown(coolingPlayer);
+        coolingData = plugin.getPlayerState().get(coolingPlayer.getUniqueId());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkSupport.stop();
+    }
+
+    @Benchmark
+    public boolean onCooldown() {
+        return cooldownManager.isOnCooldown(coolingPlayer);
+    }
+
+    @Benchmark
+    public boolean notOnCooldown() {
+        return cooldownManager.isOnCooldown(idlePlayer);
+    }
+
+    @Benchmark
+    public boolean onCooldownByState() {
+        return cooldownManager.isOnCooldown(coolingData);
+    }
+}
@@ -0,0 +1,97 @@
+package kr.minex.knockbackscroll.benchmark;
+
+import kr.minex.knockbackscroll.KnockbackScroll;
+import kr.minex.knockbackscroll.managers.EffectManager;
+import kr.minex.knockbackscroll.utils.ManualScrollClock;
+import org.bukkit.entity.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 효과 만료 처리 벤치마크
+ * 활성 효과 10 / 1,000 / 100,000개에서 EffectManager.processExpirations 한 틱 비용을 측정
+ *
+ * - idleTick: 만료되는 효과가 없는 평상시 틱 (효과는 휠 전체에 흩어져 있음)
+ * - expireAll: 모든 효과가 같은 틱에 만료되는 최악의 틱
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ExpirationSweepBenchmark {
+
+    // 측정 중 만료되지 않을 만큼 긴 지속시간 (1년)
+    private static final long FAR_FUTURE_MILLIS = 365L * 24 * 60 * 60 * 1000;
+
+    @Param({"10", "1000", "100000"})
+    public int entries;
+
+    private ManualScrollClock clock;
+    private EffectManager effectManager;
+    private Player[] players;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        clock = new ManualScrollClock(BenchmarkSupport.START_MILLIS);
+        KnockbackScroll plugin = BenchmarkSupport.startPlugin(clock);
+        effectManager = plugin.getEffectManager();
+
+        players = new Player[entries];
+        for (int i = 0; i < entries; i++) {
+            players[i] = BenchmarkSupport.stubPlayer(UUID.randomUUID());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkSupport.stop();
+    }
+
+    /**
+     * 평상시 틱 측정용 상태 (반복마다 효과를 휠 전체에 흩어 다시 배치)
+     */
+    @Setup(Level.Iteration)
+    public void scheduleSpread() {
+        effectManager.clear();
+        for (int i = 0; i < entries; i++) {
+            effectManager.activateEffect(players[i], FAR_FUTURE_MILLIS + i * 50L);
+        }
+    }
+
+    @Benchmark
+    public void idleTick() {
+        clock.advanceTicks(1);
+        effectManager.processExpirations();
+    }
+
+    /**
+     * 최악의 틱 측정용 상태 (호출마다 모든 효과를 다음 틱 만료로 배치)
+     */
+    @State(Scope.Benchmark)
+    public static class DueNextTick {
+
+        @Setup(Level.Invocation)
+        public void scheduleDue(ExpirationSweepBenchmark benchmark) {
+            benchmark.effectManager.clear();
+            for (Player player : benchmark.players) {
+                benchmark.effectManager.activateEffect(player, 50L);
+            }
+        }
+    }
+
+    @Benchmark
+    public void expireAll(DueNextTick due) {
+        clock.advanceTicks(1);
+        effectManager.processExpirations();
+    }
+}
@@ -0,0 +1,58 @@
+package kr.minex.knockbackscroll.benchmark;
+
+import kr.minex.knockbackscroll.config.MessageManager;
+import kr.minex.knockbackscroll.utils.ManualScrollClock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메시지 렌더링 벤치마크
+ * MessageManager.getMessage 를 플레이스홀더 0개/1개/3개 메시지에 대해 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MessageBenchmark {
+
+    private MessageManager messageManager;
+
+    // 상수 폴딩 방지용 값
+    private int remaining = 42;
+    private int count = 1234;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        messageManager = BenchmarkSupport.startPlugin(new ManualScrollClock(BenchmarkSupport.START_MILLIS))
+                .getMessageManager();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkSupport.stop();
+    }
+
+    @Benchmark
+    public String staticMessage() {
+        return messageManager.getMessage("effect.expired");
+    }
+
+    @Benchmark
+    public String singlePlaceholder() {
+        return messageManager.getMessage("cooldown.remaining", "remaining", remaining);
+    }
+
+    @Benchmark
+    public String multiplePlaceholders() {
+        return messageManager.getMessage("command.scroll-distributed",
+                "count", count, "type", "다회용", "amount", remaining);
+    }
+}
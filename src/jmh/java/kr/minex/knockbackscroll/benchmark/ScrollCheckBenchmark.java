@@ -0,0 +1,82 @@
+package kr.minex.knockbackscroll.benchmark;
+
+import kr.minex.knockbackscroll.KnockbackScroll;
+import kr.minex.knockbackscroll.managers.ScrollManager;
+import kr.minex.knockbackscroll.models.ScrollType;
+import kr.minex.knockbackscroll.utils.ManualScrollClock;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문서 판별 벤치마크
+ * ScrollManager.isKnockbackScroll / getScrollType 을 주문서, 일반 종이, 다른 아이템에 대해 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ScrollCheckBenchmark {
+
+    private ScrollManager scrollManager;
+
+    private ItemStack scroll;
+    private ItemStack namedPaper;
+    private ItemStack otherItem;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        KnockbackScroll plugin = BenchmarkSupport.startPlugin(new ManualScrollClock(BenchmarkSupport.START_MILLIS));
+        scrollManager = plugin.getScrollManager();
+
+        scroll = scrollManager.createScroll(scrollManager.getScrollTypes().fromId("unlimited"));
+
+        // 메타는 있지만 주문서 태그는 없는 종이 (PDC까지 읽어야 판별 가능)
+        namedPaper = new ItemStack(Material.PAPER);
+        ItemMeta meta = namedPaper.getItemMeta();
+        meta.setDisplayName("일반 종이");
+        namedPaper.setItemMeta(meta);
+
+        otherItem = new ItemStack(Material.DIAMOND_SWORD);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkSupport.stop();
+    }
+
+    @Benchmark
+    public boolean isKnockbackScrollHit() {
+        return scrollManager.isKnockbackScroll(scroll);
+    }
+
+    @Benchmark
+    public boolean isKnockbackScrollMissWithMeta() {
+        return scrollManager.isKnockbackScroll(namedPaper);
+    }
+
+    @Benchmark
+    public boolean isKnockbackScrollMissWithoutMeta() {
+        return scrollManager.isKnockbackScroll(otherItem);
+    }
+
+    @Benchmark
+    public ScrollType getScrollTypeHit() {
+        return scrollManager.getScrollType(scroll);
+    }
+
+    @Benchmark
+    public ScrollType getScrollTypeMiss() {
+        return scrollManager.getScrollType(namedPaper);
+    }
+}
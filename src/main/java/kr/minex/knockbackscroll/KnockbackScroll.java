@@ -2,16 +2,40 @@ package kr.minex.knockbackscroll;
 
 import org.bukkit.Bukkit;
 import org.bukkit.command.PluginCommand;
+import org.bukkit.entity.Player;
 import org.bukkit.event.HandlerList;
+import org.bukkit.plugin.ServicePriority;
 import org.bukkit.plugin.java.JavaPlugin;
+import kr.minex.knockbackscroll.api.KnockbackScrollApi;
 import kr.minex.knockbackscroll.commands.ScrollCommand;
+import kr.minex.knockbackscroll.commands.ScrollTabCompleter;
+import kr.minex.knockbackscroll.config.ConfigFileWatcher;
 import kr.minex.knockbackscroll.config.ConfigManager;
 import kr.minex.knockbackscroll.config.MessageManager;
+import kr.minex.knockbackscroll.config.ScrollConfig;
+import kr.minex.knockbackscroll.listeners.AsyncTabCompleteListener;
 import kr.minex.knockbackscroll.listeners.KnockbackListener;
+import kr.minex.knockbackscroll.listeners.PlayerGridListener;
 import kr.minex.knockbackscroll.listeners.ScrollUseListener;
+import kr.minex.knockbackscroll.listeners.TabCompleteListener;
+import kr.minex.knockbackscroll.managers.AuditManager;
 import kr.minex.knockbackscroll.managers.CooldownManager;
+import kr.minex.knockbackscroll.managers.CountdownHud;
 import kr.minex.knockbackscroll.managers.EffectManager;
+import kr.minex.knockbackscroll.managers.PersistenceManager;
+import kr.minex.knockbackscroll.managers.PlayerGrid;
+import kr.minex.knockbackscroll.managers.PlayerScrollState;
+import kr.minex.knockbackscroll.managers.ScrollApiService;
+import kr.minex.knockbackscroll.managers.ScrollDistributor;
 import kr.minex.knockbackscroll.managers.ScrollManager;
+import kr.minex.knockbackscroll.metrics.MetricsExporter;
+import kr.minex.knockbackscroll.metrics.ScrollMetrics;
+import kr.minex.knockbackscroll.scheduler.ScrollScheduler;
+import kr.minex.knockbackscroll.utils.ScrollClock;
+import kr.minex.knockbackscroll.utils.TickScrollClock;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * 넉백저항 주문서 플러그인 메인 클래스
@@ -21,14 +45,43 @@ public class KnockbackScroll extends JavaPlugin {
 
     private static KnockbackScroll instance;
 
+    // 작업 예약 (일반 서버 / Folia)
+    private ScrollScheduler scrollScheduler;
+
     // 설정 관리
     private ConfigManager configManager;
     private MessageManager messageManager;
+    private ConfigFileWatcher configWatcher;
+
+    // 쿨타임/효과 시간 기준 시계
+    private volatile ScrollClock scrollClock;
+
+    // 플레이어별 상태 저장소 (쿨타임/효과/모디파이어)
+    private PlayerScrollState playerState;
+
+    // 접속 중인 플레이어 위치 격자 (광역 주문서 타입이 있을 때만 유지)
+    private PlayerGrid playerGrid;
 
     // 핵심 매니저
     private ScrollManager scrollManager;
     private CooldownManager cooldownManager;
     private EffectManager effectManager;
+    private ScrollDistributor scrollDistributor;
+    private PersistenceManager persistenceManager;
+    private CountdownHud countdownHud;
+
+    // 주문서 생성/지정/사용 감사 로그
+    private AuditManager auditManager;
+
+    // 다른 플러그인용 공개 API (ServicesManager 등록)
+    private ScrollApiService apiService;
+
+    // 성능 지표
+    private ScrollMetrics metrics;
+    private MetricsExporter metricsExporter;
+
+    // 명령어 탭 완성 후보 (접속/퇴장 시 갱신)
+    private ScrollTabCompleter tabCompleter;
 
     // 리스너
     private KnockbackListener knockbackListener;
@@ -36,29 +89,63 @@ public class KnockbackScroll extends JavaPlugin {
     @Override
     public void onEnable() {
         instance = this;
+        scrollScheduler = ScrollScheduler.create(this);
 
         // 1. 설정 파일 로드
         configManager = new ConfigManager(this);
         messageManager = new MessageManager(this);
+        metrics = new ScrollMetrics();
+        ScrollConfig config = configManager.getSnapshot();
+        metrics.setTimingEnabled(config.metricsTimingEnabled());
+
+        // 2. 시계 초기화 (서버 틱마다 갱신)
+        scrollClock = ScrollClock.fromType(config.clockType());
+        if (scrollClock == null) {
+            getLogger().warning("알 수 없는 시계 타입: " + config.clockType() + ", 기본값(tick) 사용");
+            scrollClock = new TickScrollClock();
+        }
+        scrollScheduler.runGlobalTimer(() -> scrollClock.tick(), 1L, 1L);
 
-        // 2. 매니저 초기화
+        // 3. 매니저 초기화
+        playerState = new PlayerScrollState();
+        playerGrid = new PlayerGrid();
+        playerGrid.apply(config.scrollTypes().hasPartyTypes(), Bukkit.getOnlinePlayers());
         scrollManager = new ScrollManager(this);
         cooldownManager = new CooldownManager(this);
         effectManager = new EffectManager(this);
-
-        // 3. 효과 만료 체크 스케줄러 시작
+        scrollDistributor = new ScrollDistributor(this);
+        persistenceManager = new PersistenceManager(this);
+        auditManager = new AuditManager(this);
+        metricsExporter = new MetricsExporter(this);
+        metricsExporter.start();
+        countdownHud = new CountdownHud(this);
+        countdownHud.apply(config);
+
+        // 설정 파일 자동 리로드 (켜져 있는 경우에만 감시 스레드 시작)
+        configWatcher = new ConfigFileWatcher(this);
+        configWatcher.apply(config);
+
+        // 4. 효과 만료 체크 스케줄러 시작
         effectManager.startExpirationChecker();
 
-        // 4. 이벤트 리스너 등록
+        // 5. 이벤트 리스너 등록
         registerListeners();
 
-        // 5. 명령어 등록
+        // 6. 명령어 등록
         registerCommands();
 
-        // 6. 리로드 감지 - 이미 접속 중인 플레이어 처리
+        // 공개 API 등록 (다른 플러그인은 ServicesManager에서 KnockbackScrollApi로 조회)
+        apiService = new ScrollApiService(this);
+        getServer().getServicesManager().register(KnockbackScrollApi.class, apiService, this, ServicePriority.Normal);
+
+        // 7. 리로드 감지 - 이미 접속 중인 플레이어 처리
         if (Bukkit.getOnlinePlayers().size() > 0) {
-            getLogger().info("플러그인 리로드 감지됨. 기존 플레이어 데이터는 초기화됩니다.");
+            getLogger().info("플러그인 리로드 감지됨. 남아있는 속성을 정리하고 저장된 쿨타임/효과를 복구합니다.");
             cleanupOnlinePlayers();
+            for (Player player : Bukkit.getOnlinePlayers()) {
+                playerState.getOrCreate(player.getUniqueId());
+                persistenceManager.restore(player);
+            }
         }
 
         // 시작 메시지 출력
@@ -79,11 +166,36 @@ public class KnockbackScroll extends JavaPlugin {
 
     @Override
     public void onDisable() {
+        // 공개 API 등록 해제 (비활성화 이후의 호출 방지)
+        getServer().getServicesManager().unregisterAll(this);
+
+        // 설정 파일 감시 스레드 종료
+        if (configWatcher != null) {
+            configWatcher.stop();
+        }
+
         // 온라인 플레이어에 남아있는 AttributeModifier 제거 (리로드/플러그인 제거 대비)
         cleanupOnlinePlayers();
 
+        // 대기 중인 대량 지급은 비활성화 전에 모두 처리
+        if (scrollDistributor != null) {
+            scrollDistributor.shutdown();
+        }
+
+        // 대기 중인 저널 기록을 모두 쓰고 닫기
+        if (persistenceManager != null) {
+            persistenceManager.shutdown();
+        }
+
+        // 대기 중인 감사 기록을 모두 쓰고 닫기
+        if (auditManager != null) {
+            auditManager.shutdown();
+        }
+
         // 1. 스케줄러 정리
-        Bukkit.getScheduler().cancelTasks(this);
+        if (scrollScheduler != null) {
+            scrollScheduler.cancelAll();
+        }
 
         // 2. 이벤트 리스너 해제
         HandlerList.unregisterAll(this);
@@ -98,6 +210,12 @@ public class KnockbackScroll extends JavaPlugin {
         if (knockbackListener != null) {
             knockbackListener.clear();
         }
+        if (playerState != null) {
+            playerState.clear();
+        }
+        if (playerGrid != null) {
+            playerGrid.clear();
+        }
 
         // 4. static 참조 제거 (메모리 누수 방지)
         instance = null;
@@ -105,26 +223,64 @@ public class KnockbackScroll extends JavaPlugin {
         getLogger().info("넉백저항 주문서 플러그인이 비활성화되었습니다.");
     }
 
+    /**
+     * 설정/메시지 리로드 (리로드 명령어와 자동 리로드가 함께 사용)
+     * 파일 읽기와 검증은 비동기 스레드에서, 게시와 구성요소 갱신은 메인 스레드에서 처리합니다.
+     * 둘 중 하나라도 실패하면 아무것도 게시하지 않고 이전 설정을 유지합니다.
+     *
+     * @return 메인 스레드에서 게시를 마치면 완료되는 future (실패 시 예외로 완료)
+     */
+    public CompletableFuture<Void> reloadConfiguration() {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        CompletableFuture<ScrollConfig> configFuture = configManager.loadAsync();
+        CompletableFuture<MessageManager.Bundle> messagesFuture = messageManager.loadAsync();
+        configFuture.thenCombine(messagesFuture, (config, messages) -> {
+            scrollScheduler.runGlobal(() -> {
+                configManager.publish(config);
+                messageManager.publish(messages);
+                scrollManager.reload();
+                metrics.setTimingEnabled(config.metricsTimingEnabled());
+                metricsExporter.start();
+                countdownHud.apply(config);
+                playerGrid.apply(config.scrollTypes().hasPartyTypes(), Bukkit.getOnlinePlayers());
+                configWatcher.apply(config);
+                result.complete(null);
+            });
+            return null;
+        }).exceptionally(error -> {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null
+                    ? error.getCause() : error;
+            getLogger().warning("설정 리로드 실패, 이전 설정을 유지합니다: " + cause.getMessage());
+            result.completeExceptionally(cause);
+            return null;
+        });
+        return result;
+    }
+
     /**
      * 리로드/비정상 종료 등으로 남아있는 넉백 저항 속성을 정리합니다.
      *
-     * 주의: Attribute 조작은 메인 스레드에서 수행되어야 합니다.
+     * 주의: Attribute 조작은 플레이어를 소유한 스레드(메인 또는 리전 스레드)에서 수행되어야 합니다.
+     * 비활성화 중이라 다른 리전의 플레이어에게 작업을 예약할 수 없으면 건너뛰며,
+     * 남은 속성은 다음 접속 시 정리됩니다. ({@link ScrollUseListener#onPlayerJoin})
      */
     private void cleanupOnlinePlayers() {
-        if (!Bukkit.isPrimaryThread()) {
-            Bukkit.getScheduler().runTask(this, this::cleanupOnlinePlayers);
-            return;
-        }
-
         if (knockbackListener == null) {
             return;
         }
 
         Bukkit.getOnlinePlayers().forEach(player -> {
-            try {
-                knockbackListener.removeKnockbackResistance(player);
-            } catch (Exception e) {
-                getLogger().warning("플레이어 넉백 저항 정리 실패: " + player.getName() + " - " + e.getMessage());
+            Runnable cleanup = () -> {
+                try {
+                    knockbackListener.removeKnockbackResistance(player);
+                } catch (Exception e) {
+                    getLogger().warning("플레이어 넉백 저항 정리 실패: " + player.getName() + " - " + e.getMessage());
+                }
+            };
+            if (scrollScheduler.isOwnedByCurrentThread(player)) {
+                cleanup.run();
+            } else if (isEnabled()) {
+                scrollScheduler.runForEntity(player, cleanup);
             }
         });
     }
@@ -134,8 +290,11 @@ public class KnockbackScroll extends JavaPlugin {
      */
     private void registerListeners() {
         getServer().getPluginManager().registerEvents(new ScrollUseListener(this), this);
+        getServer().getPluginManager().registerEvents(new PlayerGridListener(playerGrid), this);
+        tabCompleter = new ScrollTabCompleter(this);
+        getServer().getPluginManager().registerEvents(new TabCompleteListener(tabCompleter), this);
+        // 폭발 데미지 핸들러는 효과가 활성화된 동안에만 동적으로 등록됨 (KnockbackListener#protect)
         knockbackListener = new KnockbackListener(this);
-        getServer().getPluginManager().registerEvents(knockbackListener, this);
     }
 
     /**
@@ -147,6 +306,11 @@ public class KnockbackScroll extends JavaPlugin {
             ScrollCommand scrollCommand = new ScrollCommand(this);
             command.setExecutor(scrollCommand);
             command.setTabCompleter(scrollCommand);
+
+            // Paper: 탭 완성을 비동기 스레드에서 처리 (일반 탭 완성은 그 외 서버용으로 유지)
+            if (AsyncTabCompleteListener.isSupported()) {
+                getServer().getPluginManager().registerEvents(new AsyncTabCompleteListener(tabCompleter, command), this);
+            }
         } else {
             getLogger().severe("명령어 '넉백저항주문서'를 등록할 수 없습니다. plugin.yml을 확인해주세요.");
         }
@@ -159,6 +323,20 @@ public class KnockbackScroll extends JavaPlugin {
         return instance;
     }
 
+    /**
+     * 설정 파일 감시 반환
+     */
+    public ConfigFileWatcher getConfigWatcher() {
+        return configWatcher;
+    }
+
+    /**
+     * 작업 예약 반환
+     */
+    public ScrollScheduler getScrollScheduler() {
+        return scrollScheduler;
+    }
+
     /**
      * 설정 관리자 반환
      */
@@ -173,6 +351,42 @@ public class KnockbackScroll extends JavaPlugin {
         return messageManager;
     }
 
+    /**
+     * 시계 반환
+     */
+    public ScrollClock getScrollClock() {
+        return scrollClock;
+    }
+
+    /**
+     * 시계 교체 (테스트/벤치마크용)
+     * 기존 쿨타임/효과 시각은 이전 시계 기준이므로, 진행 중인 데이터가 없을 때만 교체해야 합니다.
+     */
+    void setScrollClock(ScrollClock scrollClock) {
+        this.scrollClock = scrollClock;
+    }
+
+    /**
+     * 플레이어 상태 저장소 반환
+     */
+    public PlayerScrollState getPlayerState() {
+        return playerState;
+    }
+
+    /**
+     * 플레이어 위치 격자 반환
+     */
+    public PlayerGrid getPlayerGrid() {
+        return playerGrid;
+    }
+
+    /**
+     * 명령어 탭 완성 후보 반환
+     */
+    public ScrollTabCompleter getTabCompleter() {
+        return tabCompleter;
+    }
+
     /**
      * 주문서 관리자 반환
      */
@@ -194,6 +408,55 @@ public class KnockbackScroll extends JavaPlugin {
         return effectManager;
     }
 
+    /**
+     * 대량 지급 관리자 반환
+     */
+    public ScrollDistributor getScrollDistributor() {
+        return scrollDistributor;
+    }
+
+    /**
+     * 감사 로그 관리자 반환
+     */
+    public AuditManager getAuditManager() {
+        return auditManager;
+    }
+
+    /**
+     * 남은 시간 표시 반환
+     */
+    public CountdownHud getCountdownHud() {
+        return countdownHud;
+    }
+
+    /**
+     * 공개 API 반환
+     */
+    public KnockbackScrollApi getApi() {
+        return apiService;
+    }
+
+    /**
+     * 성능 지표 반환
+     */
+    public ScrollMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * 지표 파일 내보내기 반환
+     */
+    public MetricsExporter getMetricsExporter() {
+        return metricsExporter;
+    }
+
+    /**
+     * 영구 저장 관리자 반환
+     */
+    public PersistenceManager getPersistenceManager() {
+        return persistenceManager;
+    }
+
     /**
      * 넉백 리스너 반환
      */
@@ -0,0 +1,121 @@
+package kr.minex.knockbackscroll.api;
+
+import org.bukkit.inventory.ItemStack;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 넉백저항 주문서 공개 API
+ * 다른 플러그인은 {@link org.bukkit.plugin.ServicesManager}에서 조회하여 사용합니다.
+ * <pre>
+ * RegisteredServiceProvider&lt;KnockbackScrollApi&gt; provider =
+ *         Bukkit.getServicesManager().getRegistration(KnockbackScrollApi.class);
+ * if (provider != null &amp;&amp; provider.getProvider().getApiVersion() &gt;= 1) {
+ *     KnockbackScrollApi api = provider.getProvider();
+ * }
+ * </pre>
+ *
+ * - 조회 메서드는 어느 스레드에서나 호출할 수 있으며, 잠금 없이 호출 시점 근처의 값을 반환합니다.
+ * - 부여/해제 메서드도 어느 스레드에서나 호출할 수 있으며, 실제 처리는 플레이어를 소유한 스레드
+ *   (일반 서버는 메인 스레드, Folia는 플레이어의 리전 스레드)에서 실행됩니다.
+ *   반환된 future는 처리가 끝나면 그 스레드에서 완료되고, 플레이어가 접속 중이 아니면 false로 완료됩니다.
+ * - 부여는 주문서 사용과 같은 이벤트({@link kr.minex.knockbackscroll.api.event.ScrollActivateEvent},
+ *   {@link kr.minex.knockbackscroll.api.event.ScrollCooldownStartEvent})를 원인 API로 호출합니다.
+ */
+public interface KnockbackScrollApi {
+
+    /**
+     * 현재 API 버전 (메서드가 추가될 때 증가, 기존 메서드는 유지)
+     */
+    int VERSION = 1;
+
+    /**
+     * 플러그인이 제공하는 API 버전 반환
+     */
+    int getApiVersion();
+
+    // ===== 조회 =====
+
+    /**
+     * 넉백저항 효과가 활성화되어 있는지 확인
+     * @param playerId 플레이어 UUID
+     */
+    boolean hasActiveEffect(UUID playerId);
+
+    /**
+     * 남은 효과 시간 반환
+     * @param playerId 플레이어 UUID
+     * @return 남은 시간 (밀리초), 효과가 없으면 0
+     */
+    long getRemainingEffectMillis(UUID playerId);
+
+    /**
+     * 쿨타임 중인지 확인
+     * @param playerId 플레이어 UUID
+     */
+    boolean isOnCooldown(UUID playerId);
+
+    /**
+     * 남은 쿨타임 반환
+     * @param playerId 플레이어 UUID
+     * @return 남은 시간 (밀리초), 쿨타임이 아니면 0
+     */
+    long getRemainingCooldownMillis(UUID playerId);
+
+    /**
+     * 설정된 주문서 타입 ID 목록 반환 (설정 순서)
+     */
+    List<String> getScrollTypeIds();
+
+    /**
+     * 아이템의 주문서 타입 ID 반환
+     * 월드에 놓이지 않은 아이템(호출자만 참조하는 아이템)은 어느 스레드에서나 확인할 수 있습니다.
+     * @param item 확인할 아이템 (null 허용)
+     * @return 타입 ID, 주문서가 아니면 null
+     */
+    String getScrollTypeId(ItemStack item);
+
+    // ===== 부여/해제 =====
+
+    /**
+     * 넉백저항 효과 부여 (이미 활성화된 효과는 새 값으로 교체)
+     * @param playerId 플레이어 UUID
+     * @param durationMillis 지속시간 (밀리초, 1 이상)
+     * @param resistance 넉백 저항 수치 (0.0 ~ 1.0)
+     * @return 적용되면 true, 접속 중이 아니거나 이벤트가 취소되면 false
+     */
+    CompletableFuture<Boolean> grantEffect(UUID playerId, long durationMillis, double resistance);
+
+    /**
+     * 주문서 타입의 지속시간/저항 수치로 넉백저항 효과 부여 (쿨타임은 시작하지 않음)
+     * @param playerId 플레이어 UUID
+     * @param scrollTypeId 주문서 타입 ID
+     * @return 적용되면 true, 접속 중이 아니거나 이벤트가 취소되면 false
+     * @throws IllegalArgumentException 알 수 없는 타입 ID
+     */
+    CompletableFuture<Boolean> grantEffect(UUID playerId, String scrollTypeId);
+
+    /**
+     * 넉백저항 효과 해제 (만료 이벤트는 호출하지 않음)
+     * @param playerId 플레이어 UUID
+     * @return 활성화된 효과를 해제했으면 true
+     */
+    CompletableFuture<Boolean> cancelEffect(UUID playerId);
+
+    /**
+     * 쿨타임 설정 (기존 쿨타임은 새 값으로 교체)
+     * @param playerId 플레이어 UUID
+     * @param durationMillis 쿨타임 (밀리초, 1 이상)
+     * @return 적용되면 true, 접속 중이 아니거나 이벤트가 취소되면 false
+     */
+    CompletableFuture<Boolean> setCooldown(UUID playerId, long durationMillis);
+
+    /**
+     * 쿨타임 해제
+     * @param playerId 플레이어 UUID
+     * @return 쿨타임 중이었으면 true
+     */
+    CompletableFuture<Boolean> clearCooldown(UUID playerId);
+}
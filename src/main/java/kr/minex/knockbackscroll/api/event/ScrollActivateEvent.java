@@ -0,0 +1,128 @@
+package kr.minex.knockbackscroll.api.event;
+
+import org.bukkit.entity.Player;
+import org.bukkit.event.Cancellable;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.player.PlayerEvent;
+import kr.minex.knockbackscroll.models.ScrollType;
+
+/**
+ * 넉백저항 효과가 활성화되기 직전에 호출되는 이벤트
+ * 취소하면 효과가 적용되지 않으며, 주문서 사용인 경우 주문서도 소모되지 않고 쿨타임도 시작되지 않습니다.
+ * 지속시간과 저항 수치는 리스너에서 바꿀 수 있습니다.
+ * 이미 활성화된 효과를 연장/갱신하는 경우({@link #isExtension()}) 지속시간은 연장 후 남은 시간이며,
+ * 넉백 저항 수치는 기존 효과를 유지하므로 변경해도 반영되지 않습니다.
+ *
+ * 플레이어를 소유한 스레드(일반 서버는 메인 스레드, Folia는 플레이어의 리전 스레드)에서 호출됩니다.
+ * 등록된 리스너가 없으면 이벤트 객체를 만들지 않습니다. ({@link #hasListeners()})
+ */
+public class ScrollActivateEvent extends PlayerEvent implements Cancellable {
+
+    private static final HandlerList HANDLERS = new HandlerList();
+
+    private final ScrollType scrollType;
+    private final ScrollCause cause;
+    private long durationMillis;
+    private double resistance;
+    private final boolean extension;
+    private boolean cancelled;
+
+    public ScrollActivateEvent(Player player, ScrollType scrollType, ScrollCause cause,
+                               long durationMillis, double resistance) {
+        this(player, scrollType, cause, durationMillis, resistance, false);
+    }
+
+    public ScrollActivateEvent(Player player, ScrollType scrollType, ScrollCause cause,
+                               long durationMillis, double resistance, boolean extension) {
+        super(player);
+        this.scrollType = scrollType;
+        this.cause = cause;
+        this.durationMillis = durationMillis;
+        this.resistance = resistance;
+        this.extension = extension;
+    }
+
+    /**
+     * 사용한 주문서 타입 반환
+     * @return 주문서 타입, API로 부여한 경우 null
+     */
+    public ScrollType getScrollType() {
+        return scrollType;
+    }
+
+    /**
+     * 활성화 원인 반환
+     */
+    public ScrollCause getCause() {
+        return cause;
+    }
+
+    /**
+     * 이미 활성화된 효과의 연장/갱신인지 여부
+     */
+    public boolean isExtension() {
+        return extension;
+    }
+
+    /**
+     * 지속시간 반환 (밀리초)
+     */
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    /**
+     * 지속시간 변경
+     * @param durationMillis 지속시간 (밀리초, 1 이상)
+     */
+    public void setDurationMillis(long durationMillis) {
+        if (durationMillis <= 0L) {
+            throw new IllegalArgumentException("지속시간은 1 이상이어야 합니다: " + durationMillis);
+        }
+        this.durationMillis = durationMillis;
+    }
+
+    /**
+     * 넉백 저항 수치 반환 (0.0 ~ 1.0)
+     */
+    public double getResistance() {
+        return resistance;
+    }
+
+    /**
+     * 넉백 저항 수치 변경
+     * @param resistance 넉백 저항 수치 (0.0 ~ 1.0)
+     */
+    public void setResistance(double resistance) {
+        if (resistance < 0.0 || resistance > 1.0) {
+            throw new IllegalArgumentException("저항 수치는 0.0 ~ 1.0 사이여야 합니다: " + resistance);
+        }
+        this.resistance = resistance;
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    @Override
+    public void setCancelled(boolean cancelled) {
+        this.cancelled = cancelled;
+    }
+
+    @Override
+    public HandlerList getHandlers() {
+        return HANDLERS;
+    }
+
+    public static HandlerList getHandlerList() {
+        return HANDLERS;
+    }
+
+    /**
+     * 등록된 리스너가 있는지 확인 (없으면 이벤트를 만들지 않음)
+     */
+    public static boolean hasListeners() {
+        return HANDLERS.getRegisteredListeners().length > 0;
+    }
+}
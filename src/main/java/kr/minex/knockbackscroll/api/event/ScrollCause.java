@@ -0,0 +1,22 @@
+package kr.minex.knockbackscroll.api.event;
+
+/**
+ * 효과/쿨타임이 시작된 원인
+ */
+public enum ScrollCause {
+
+    /**
+     * 플레이어가 주문서를 직접 사용
+     */
+    SCROLL,
+
+    /**
+     * 주변 아군이 광역(파티) 주문서를 사용
+     */
+    PARTY,
+
+    /**
+     * 다른 플러그인이 {@link kr.minex.knockbackscroll.api.KnockbackScrollApi}로 부여
+     */
+    API
+}
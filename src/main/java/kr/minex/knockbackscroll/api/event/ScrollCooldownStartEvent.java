@@ -0,0 +1,90 @@
+package kr.minex.knockbackscroll.api.event;
+
+import org.bukkit.entity.Player;
+import org.bukkit.event.Cancellable;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.player.PlayerEvent;
+import kr.minex.knockbackscroll.models.ScrollType;
+
+/**
+ * 주문서 쿨타임이 시작되기 직전에 호출되는 이벤트
+ * 취소하면 쿨타임이 시작되지 않습니다. (이미 적용된 효과는 유지)
+ * 쿨타임 길이는 리스너에서 바꿀 수 있습니다.
+ *
+ * 플레이어를 소유한 스레드에서 호출되며, 등록된 리스너가 없으면 이벤트 객체를 만들지 않습니다.
+ */
+public class ScrollCooldownStartEvent extends PlayerEvent implements Cancellable {
+
+    private static final HandlerList HANDLERS = new HandlerList();
+
+    private final ScrollType scrollType;
+    private final ScrollCause cause;
+    private long durationMillis;
+    private boolean cancelled;
+
+    public ScrollCooldownStartEvent(Player player, ScrollType scrollType, ScrollCause cause, long durationMillis) {
+        super(player);
+        this.scrollType = scrollType;
+        this.cause = cause;
+        this.durationMillis = durationMillis;
+    }
+
+    /**
+     * 사용한 주문서 타입 반환
+     * @return 주문서 타입, API로 설정한 경우 null
+     */
+    public ScrollType getScrollType() {
+        return scrollType;
+    }
+
+    /**
+     * 쿨타임 시작 원인 반환
+     */
+    public ScrollCause getCause() {
+        return cause;
+    }
+
+    /**
+     * 쿨타임 반환 (밀리초)
+     */
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    /**
+     * 쿨타임 변경
+     * @param durationMillis 쿨타임 (밀리초, 0 이상)
+     */
+    public void setDurationMillis(long durationMillis) {
+        if (durationMillis < 0L) {
+            throw new IllegalArgumentException("쿨타임은 0 이상이어야 합니다: " + durationMillis);
+        }
+        this.durationMillis = durationMillis;
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    @Override
+    public void setCancelled(boolean cancelled) {
+        this.cancelled = cancelled;
+    }
+
+    @Override
+    public HandlerList getHandlers() {
+        return HANDLERS;
+    }
+
+    public static HandlerList getHandlerList() {
+        return HANDLERS;
+    }
+
+    /**
+     * 등록된 리스너가 있는지 확인 (없으면 이벤트를 만들지 않음)
+     */
+    public static boolean hasListeners() {
+        return HANDLERS.getRegisteredListeners().length > 0;
+    }
+}
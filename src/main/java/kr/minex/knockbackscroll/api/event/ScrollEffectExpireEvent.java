@@ -0,0 +1,72 @@
+package kr.minex.knockbackscroll.api.event;
+
+import org.bukkit.entity.Player;
+import org.bukkit.event.Cancellable;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.player.PlayerEvent;
+
+/**
+ * 넉백저항 효과가 시간이 다 되어 종료되기 직전에 호출되는 이벤트
+ * 취소하면 효과가 {@link #getExtensionMillis()}만큼 연장되고, 그 뒤에 다시 호출됩니다.
+ * (명령어/API로 해제하거나 퇴장으로 정리되는 경우에는 호출되지 않음)
+ *
+ * 플레이어를 소유한 스레드에서 호출되며, 등록된 리스너가 없으면 이벤트 객체를 만들지 않습니다.
+ */
+public class ScrollEffectExpireEvent extends PlayerEvent implements Cancellable {
+
+    private static final HandlerList HANDLERS = new HandlerList();
+
+    // 취소 시 기본 연장 시간 (1초)
+    private static final long DEFAULT_EXTENSION_MILLIS = 1000L;
+
+    private long extensionMillis = DEFAULT_EXTENSION_MILLIS;
+    private boolean cancelled;
+
+    public ScrollEffectExpireEvent(Player player) {
+        super(player);
+    }
+
+    /**
+     * 취소 시 연장할 시간 반환 (밀리초)
+     */
+    public long getExtensionMillis() {
+        return extensionMillis;
+    }
+
+    /**
+     * 취소 시 연장할 시간 변경
+     * @param extensionMillis 연장 시간 (밀리초, 1 이상)
+     */
+    public void setExtensionMillis(long extensionMillis) {
+        if (extensionMillis <= 0L) {
+            throw new IllegalArgumentException("연장 시간은 1 이상이어야 합니다: " + extensionMillis);
+        }
+        this.extensionMillis = extensionMillis;
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    @Override
+    public void setCancelled(boolean cancelled) {
+        this.cancelled = cancelled;
+    }
+
+    @Override
+    public HandlerList getHandlers() {
+        return HANDLERS;
+    }
+
+    public static HandlerList getHandlerList() {
+        return HANDLERS;
+    }
+
+    /**
+     * 등록된 리스너가 있는지 확인 (없으면 이벤트를 만들지 않음)
+     */
+    public static boolean hasListeners() {
+        return HANDLERS.getRegisteredListeners().length > 0;
+    }
+}
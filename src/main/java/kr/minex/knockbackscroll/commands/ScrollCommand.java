@@ -1,5 +1,7 @@
 package kr.minex.knockbackscroll.commands;
 
+import org.bukkit.Bukkit;
+import org.bukkit.World;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
@@ -7,9 +9,13 @@ import org.bukkit.command.TabCompleter;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 import kr.minex.knockbackscroll.KnockbackScroll;
+import kr.minex.knockbackscroll.config.MessageManager;
+import kr.minex.knockbackscroll.metrics.Counter;
+import kr.minex.knockbackscroll.metrics.LatencyHistogram;
+import kr.minex.knockbackscroll.metrics.ScrollMetrics;
 import kr.minex.knockbackscroll.models.ScrollType;
 
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -17,6 +23,15 @@ import java.util.List;
  */
 public class ScrollCommand implements CommandExecutor, TabCompleter {
 
+    // 1인당 최대 지급 수량 (인벤토리 36칸 x 64개)
+    private static final int MAX_AMOUNT = 36 * 64;
+
+    // 전체 선택자
+    static final String ALL_SELECTOR = "@a";
+
+    // 월드 선택자 접두사
+    static final String WORLD_SELECTOR = "world:";
+
     private final KnockbackScroll plugin;
 
     public ScrollCommand(KnockbackScroll plugin) {
@@ -37,6 +52,7 @@ public class ScrollCommand implements CommandExecutor, TabCompleter {
             case "생성", "create", "give" -> handleCreate(sender, args);
             case "지정", "set", "convert" -> handleConvert(sender, args);
             case "리로드", "reload" -> handleReload(sender);
+            case "통계", "stats" -> handleStats(sender, args);
             case "도움말", "help" -> sendHelpMessage(sender);
             default -> {
                 plugin.getMessageManager().send(sender, "command.usage");
@@ -48,23 +64,18 @@ public class ScrollCommand implements CommandExecutor, TabCompleter {
 
     /**
      * 주문서 생성 명령어 처리
+     * /넉백저항주문서 생성 <타입> [수량] [플레이어|@a|world:<월드>]
      */
     private void handleCreate(CommandSender sender, String[] args) {
-        // 플레이어 전용 명령어
-        if (!(sender instanceof Player player)) {
-            plugin.getMessageManager().send(sender, "command.player-only");
-            return;
-        }
-
         // 권한 체크
-        if (!player.hasPermission("knockbackscroll.create")) {
-            plugin.getMessageManager().send(player, "command.no-permission");
+        if (!sender.hasPermission("knockbackscroll.create")) {
+            plugin.getMessageManager().send(sender, "command.no-permission");
             return;
         }
 
         // 타입 인자 확인
         if (args.length < 2) {
-            plugin.getMessageManager().send(player, "command.usage");
+            plugin.getMessageManager().send(sender, "command.usage");
             return;
         }
 
@@ -73,21 +84,84 @@ public class ScrollCommand implements CommandExecutor, TabCompleter {
         ScrollType type = parseScrollType(typeArg);
 
         if (type == null) {
-            plugin.getMessageManager().send(player, "command.invalid-type");
+            sendInvalidType(sender);
             return;
         }
 
-        // 주문서 생성 및 지급
-        ItemStack scroll = plugin.getScrollManager().createScroll(type);
+        // 수량 파싱 (생략 시 1개)
+        int amount = 1;
+        if (args.length >= 3) {
+            amount = parseAmount(args[2]);
+            if (amount <= 0) {
+                plugin.getMessageManager().send(sender, "command.invalid-amount", "max", MAX_AMOUNT);
+                return;
+            }
+        }
 
-        // 인벤토리에 추가 (가득 차면 발밑에 드롭)
-        if (player.getInventory().firstEmpty() == -1) {
-            player.getWorld().dropItemNaturally(player.getLocation(), scroll);
+        // 대상 결정 (생략 시 본인)
+        Collection<? extends Player> targets;
+        if (args.length >= 4) {
+            targets = resolveTargets(args[3]);
+            if (targets == null) {
+                plugin.getMessageManager().send(sender, "command.player-not-found", "player", args[3]);
+                return;
+            }
+            if (targets.isEmpty()) {
+                plugin.getMessageManager().send(sender, "command.no-target");
+                return;
+            }
+        } else if (sender instanceof Player player) {
+            targets = List.of(player);
         } else {
-            player.getInventory().addItem(scroll);
+            // 콘솔은 대상을 지정해야 함
+            plugin.getMessageManager().send(sender, "command.player-only");
+            return;
+        }
+
+        // 틱 예산 안에서 나누어 지급
+        plugin.getScrollDistributor().enqueue(targets, type, amount);
+        plugin.getAuditManager().logCreate(sender, type, amount,
+                args.length >= 4 ? args[3] : sender.getName(), targets.size());
+
+        // 본인 지급이 아니면 요약 메시지 전송
+        if (args.length >= 4) {
+            plugin.getMessageManager().send(sender, "command.scroll-distributed",
+                    "count", targets.size(), "type", type.getDisplayName(), "amount", amount);
+        }
+    }
+
+    /**
+     * 수량 문자열 파싱
+     * @return 1~{@link #MAX_AMOUNT} 사이 수량, 잘못된 입력이면 -1
+     */
+    private int parseAmount(String amountArg) {
+        try {
+            int amount = Integer.parseInt(amountArg);
+            return amount >= 1 && amount <= MAX_AMOUNT ? amount : -1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * 지급 대상 파싱
+     * - @a: 접속 중인 모든 플레이어
+     * - world:<월드>: 해당 월드의 모든 플레이어
+     * - 그 외: 플레이어 이름
+     * @return 대상 목록, 찾을 수 없으면 null
+     */
+    private Collection<? extends Player> resolveTargets(String targetArg) {
+        if (targetArg.equalsIgnoreCase(ALL_SELECTOR)) {
+            return Bukkit.getOnlinePlayers();
+        }
+
+        if (targetArg.regionMatches(true, 0, WORLD_SELECTOR, 0, WORLD_SELECTOR.length())) {
+            World world = Bukkit.getWorld(targetArg.substring(WORLD_SELECTOR.length()));
+            return world == null ? null : world.getPlayers();
         }
 
-        plugin.getMessageManager().send(player, "command.scroll-given", "type", type.getDisplayName());
+        Player target = Bukkit.getPlayerExact(targetArg);
+        return target == null ? null : List.of(target);
     }
 
     /**
@@ -117,7 +191,7 @@ public class ScrollCommand implements CommandExecutor, TabCompleter {
         ScrollType type = parseScrollType(typeArg);
 
         if (type == null) {
-            plugin.getMessageManager().send(player, "command.invalid-type");
+            sendInvalidType(player);
             return;
         }
 
@@ -133,6 +207,8 @@ public class ScrollCommand implements CommandExecutor, TabCompleter {
             plugin.getMessageManager().send(player, "command.convert-failed");
             return;
         }
+        plugin.getScrollManager().invalidateHeldCache(player);
+        plugin.getAuditManager().logConvert(player, type, handItem);
 
         plugin.getMessageManager().send(player, "command.scroll-converted", "type", type.getDisplayName());
     }
@@ -147,11 +223,60 @@ public class ScrollCommand implements CommandExecutor, TabCompleter {
             return;
         }
 
-        // 설정 리로드
-        plugin.getConfigManager().reload();
-        plugin.getMessageManager().reload();
+        // 파일 읽기/검증은 비동기, 게시는 메인 스레드에서 한 번에
+        plugin.reloadConfiguration().whenComplete((ignored, error) -> {
+            if (error == null) {
+                plugin.getMessageManager().send(sender, "command.reload-success");
+                return;
+            }
+            plugin.getScrollScheduler().runGlobal(() ->
+                    plugin.getMessageManager().send(sender, "command.reload-failed", "error", error.getMessage()));
+        });
+    }
 
-        plugin.getMessageManager().send(sender, "command.reload-success");
+    /**
+     * 성능 통계 명령어 처리
+     * /넉백저항주문서 통계 [초기화]
+     */
+    private void handleStats(CommandSender sender, String[] args) {
+        // 권한 체크
+        if (!sender.hasPermission("knockbackscroll.stats")) {
+            plugin.getMessageManager().send(sender, "command.no-permission");
+            return;
+        }
+
+        ScrollMetrics metrics = plugin.getMetrics();
+        if (args.length >= 2 && (args[1].equals("초기화") || args[1].equalsIgnoreCase("reset"))) {
+            metrics.reset();
+            plugin.getMessageManager().send(sender, "command.stats.reset");
+            return;
+        }
+
+        MessageManager messageManager = plugin.getMessageManager();
+        messageManager.sendRaw(sender, "command.stats.header");
+        for (LatencyHistogram histogram : metrics.getHistograms()) {
+            LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+            messageManager.sendRaw(sender, "command.stats.latency",
+                    "name", histogram.getDescription(),
+                    "count", snapshot.getCount(),
+                    "p50", toMicros(snapshot.getValueAtPercentile(50.0)),
+                    "p99", toMicros(snapshot.getValueAtPercentile(99.0)),
+                    "max", toMicros(snapshot.getMax()));
+        }
+        for (Counter counter : metrics.getCounters()) {
+            messageManager.sendRaw(sender, "command.stats.counter",
+                    "name", counter.getDescription(), "value", counter.get());
+        }
+        if (!metrics.isTimingEnabled()) {
+            messageManager.sendRaw(sender, "command.stats.timing-disabled");
+        }
+    }
+
+    /**
+     * 나노초를 마이크로초로 변환 (소수점 첫째 자리까지)
+     */
+    private static double toMicros(long nanos) {
+        return Math.round(nanos / 100.0) / 10.0;
     }
 
     /**
@@ -162,54 +287,29 @@ public class ScrollCommand implements CommandExecutor, TabCompleter {
         plugin.getMessageManager().sendRaw(sender, "command.help.create");
         plugin.getMessageManager().sendRaw(sender, "command.help.convert");
         plugin.getMessageManager().sendRaw(sender, "command.help.reload");
+        plugin.getMessageManager().sendRaw(sender, "command.help.stats");
     }
 
     /**
-     * 타입 문자열 파싱
+     * 타입 문자열 파싱 (ID, 표시명, 별칭)
      */
     private ScrollType parseScrollType(String typeArg) {
-        // 한국어 입력 지원
-        if (typeArg.equals("1회용") || typeArg.equalsIgnoreCase("single")) {
-            return ScrollType.SINGLE_USE;
-        }
-        if (typeArg.equals("다회용") || typeArg.equalsIgnoreCase("unlimited") || typeArg.equalsIgnoreCase("infinite")) {
-            return ScrollType.UNLIMITED;
-        }
+        return plugin.getScrollManager().getScrollTypes().fromName(typeArg);
+    }
 
-        // enum 기본 파싱
-        return ScrollType.fromDisplayName(typeArg);
+    /**
+     * 잘못된 타입 메시지 전송 (사용 가능한 타입 목록 포함)
+     */
+    private void sendInvalidType(CommandSender sender) {
+        String types = String.join(", ", plugin.getScrollManager().getScrollTypes().getDisplayNames());
+        plugin.getMessageManager().send(sender, "command.invalid-type", "types", types);
     }
 
+    /**
+     * 탭 완성 (일반 서버 경로, Paper에서는 비동기 탭 완성 이벤트가 먼저 처리)
+     */
     @Override
     public List<String> onTabComplete(CommandSender sender, Command command, String alias, String[] args) {
-        List<String> completions = new ArrayList<>();
-
-        if (args.length == 1) {
-            // 첫 번째 인자: 하위 명령어
-            List<String> subCommands = List.of("생성", "지정", "리로드", "도움말");
-            String input = args[0].toLowerCase();
-
-            for (String sub : subCommands) {
-                if (sub.startsWith(input)) {
-                    completions.add(sub);
-                }
-            }
-        } else if (args.length == 2) {
-            // 두 번째 인자: 주문서 타입 (생성/지정 명령어인 경우)
-            String subCommand = args[0].toLowerCase();
-            if (subCommand.equals("생성") || subCommand.equals("create") || subCommand.equals("give") ||
-                subCommand.equals("지정") || subCommand.equals("set") || subCommand.equals("convert")) {
-                List<String> types = List.of("1회용", "다회용");
-                String input = args[1].toLowerCase();
-
-                for (String type : types) {
-                    if (type.startsWith(input)) {
-                        completions.add(type);
-                    }
-                }
-            }
-        }
-
-        return completions;
+        return plugin.getTabCompleter().complete(sender, args);
     }
 }
@@ -0,0 +1,177 @@
+package kr.minex.knockbackscroll.commands;
+
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import kr.minex.knockbackscroll.KnockbackScroll;
+import kr.minex.knockbackscroll.models.ScrollType;
+import kr.minex.knockbackscroll.models.ScrollTypeRegistry;
+import kr.minex.knockbackscroll.utils.PrefixTrie;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * /넉백저항주문서 탭 완성 후보
+ * 후보는 모두 {@link PrefixTrie}에 미리 넣어 두고, 입력할 때마다 접두사로 검색만 합니다.
+ *
+ * - 하위 명령어: 한글/영문 이름 (고정)
+ * - 주문서 타입: ID, 표시명, 별칭 (설정 리로드로 타입 목록이 바뀌면 다음 검색 때 다시 만듦)
+ * - 대상: @a, world:&lt;월드&gt;, 접속 중인 플레이어 이름 (접속/퇴장, 월드 로드/언로드 시 하나씩 갱신)
+ *   요청한 쪽이 플레이어면 그 플레이어가 볼 수 없는(숨겨진) 플레이어의 이름은 제외
+ *
+ * 플레이어 숨김 여부 외에는 서버 상태를 읽지 않으므로 비동기 탭 완성 스레드에서도 호출할 수 있습니다.
+ */
+public class ScrollTabCompleter {
+
+    // 하위 명령어 (한글 이름이 먼저, 나머지는 별칭)
+    private static final List<String> CREATE_COMMANDS = List.of("생성", "create", "give");
+    private static final List<String> CONVERT_COMMANDS = List.of("지정", "set", "convert");
+    private static final List<String> RELOAD_COMMANDS = List.of("리로드", "reload");
+    private static final List<String> STATS_COMMANDS = List.of("통계", "stats");
+    private static final List<String> HELP_COMMANDS = List.of("도움말", "help");
+
+    // 수량 예시
+    private static final PrefixTrie AMOUNTS = trieOf(List.of("1", "16", "64"));
+
+    // 통계 하위 인자
+    private static final PrefixTrie STATS_ARGUMENTS = trieOf(List.of("초기화", "reset"));
+
+    private static final PrefixTrie SUBCOMMANDS = trieOf(CREATE_COMMANDS, CONVERT_COMMANDS,
+            RELOAD_COMMANDS, STATS_COMMANDS, HELP_COMMANDS);
+
+    private final KnockbackScroll plugin;
+
+    // 대상 후보 (플레이어 이름, 월드 선택자, @a)
+    private final PrefixTrie targets = new PrefixTrie();
+
+    // 주문서 타입 후보와 만든 기준 타입 목록 (타입 목록은 불변이므로 참조로 비교)
+    private volatile TypeCompletions typeCompletions = new TypeCompletions(ScrollTypeRegistry.EMPTY, new PrefixTrie());
+
+    public ScrollTabCompleter(KnockbackScroll plugin) {
+        this.plugin = plugin;
+        targets.add(ScrollCommand.ALL_SELECTOR);
+        for (World world : Bukkit.getWorlds()) {
+            addWorld(world.getName());
+        }
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            addPlayer(player.getName());
+        }
+    }
+
+    /**
+     * 인자 목록에 대한 완성 후보 반환
+     * @param sender 탭 완성을 요청한 대상 (플레이어면 볼 수 없는 플레이어 이름 제외)
+     * @param args 입력 중인 인자 (마지막 인자가 완성 대상)
+     * @return 후보 목록 (문자 순)
+     */
+    public List<String> complete(CommandSender sender, String[] args) {
+        List<String> completions = new ArrayList<>();
+        if (args.length == 0) {
+            return completions;
+        }
+
+        String input = args[args.length - 1];
+        if (args.length == 1) {
+            // 첫 번째 인자: 하위 명령어
+            SUBCOMMANDS.collect(input, completions);
+            return completions;
+        }
+
+        String subCommand = args[0].toLowerCase(Locale.ROOT);
+        boolean create = CREATE_COMMANDS.contains(subCommand);
+        if (args.length == 2) {
+            // 두 번째 인자: 주문서 타입 (생성/지정) 또는 통계 초기화
+            if (create || CONVERT_COMMANDS.contains(subCommand)) {
+                getTypeCompletions().collect(input, completions);
+            } else if (STATS_COMMANDS.contains(subCommand)) {
+                STATS_ARGUMENTS.collect(input, completions);
+            }
+        } else if (args.length == 3 && create) {
+            // 세 번째 인자: 수량
+            AMOUNTS.collect(input, completions);
+        } else if (args.length == 4 && create) {
+            // 네 번째 인자: 대상
+            targets.collect(input, completions);
+            if (sender instanceof Player viewer) {
+                completions.removeIf(name -> isHidden(viewer, name));
+            }
+        }
+        return completions;
+    }
+
+    /**
+     * 플레이어 이름 후보 추가 (접속 시)
+     */
+    public void addPlayer(String name) {
+        targets.add(name);
+    }
+
+    /**
+     * 플레이어 이름 후보 제거 (퇴장 시)
+     */
+    public void removePlayer(String name) {
+        targets.remove(name);
+    }
+
+    /**
+     * 월드 선택자 후보 추가 (월드 로드 시)
+     */
+    public void addWorld(String name) {
+        targets.add(ScrollCommand.WORLD_SELECTOR + name);
+    }
+
+    /**
+     * 월드 선택자 후보 제거 (월드 언로드 시)
+     */
+    public void removeWorld(String name) {
+        targets.remove(ScrollCommand.WORLD_SELECTOR + name);
+    }
+
+    /**
+     * 후보 이름의 플레이어가 보는 쪽에게 숨겨져 있는지 확인 (선택자 등 플레이어가 아닌 후보는 false)
+     */
+    private static boolean isHidden(Player viewer, String name) {
+        Player target = Bukkit.getPlayerExact(name);
+        return target != null && !viewer.canSee(target);
+    }
+
+    /**
+     * 현재 타입 목록의 후보 트라이 반환 (타입 목록이 바뀌었으면 다시 만듦)
+     */
+    private PrefixTrie getTypeCompletions() {
+        ScrollTypeRegistry registry = plugin.getConfigManager().getSnapshot().scrollTypes();
+        TypeCompletions current = typeCompletions;
+        if (current.registry() == registry) {
+            return current.trie();
+        }
+
+        PrefixTrie trie = new PrefixTrie();
+        for (ScrollType type : registry.getTypes()) {
+            trie.add(type.getId());
+            for (String alias : type.getAliases()) {
+                trie.add(alias);
+            }
+            trie.add(type.getDisplayName());
+        }
+        typeCompletions = new TypeCompletions(registry, trie);
+        return trie;
+    }
+
+    @SafeVarargs
+    private static PrefixTrie trieOf(List<String>... groups) {
+        PrefixTrie trie = new PrefixTrie();
+        for (List<String> group : groups) {
+            group.forEach(trie::add);
+        }
+        return trie;
+    }
+
+    /**
+     * 타입 목록과 그 목록으로 만든 후보 트라이
+     */
+    private record TypeCompletions(ScrollTypeRegistry registry, PrefixTrie trie) {
+    }
+}
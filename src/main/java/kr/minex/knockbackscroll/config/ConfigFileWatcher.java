@@ -0,0 +1,209 @@
+package kr.minex.knockbackscroll.config;
+
+import kr.minex.knockbackscroll.KnockbackScroll;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+/**
+ * 설정 파일 변경 감지 (자동 리로드)
+ * 플러그인 폴더를 {@link WatchService}로 감시하다가 config.yml / messages.yml이 저장되면
+ * 리로드 명령어와 같은 경로({@link KnockbackScroll#reloadConfiguration()})로 리로드합니다.
+ *
+ * - 감시는 데몬 스레드 하나에서 처리 (서버 틱에는 비용 없음)
+ * - 편집기가 연달아 쓰는 경우 마지막 변경 후 일정 시간 조용해질 때까지 기다렸다가 한 번만 리로드
+ * - 파일 내용의 체크섬이 이전과 같으면(내용 없는 저장) 리로드하지 않음
+ */
+public class ConfigFileWatcher {
+
+    // 감시할 파일 (플러그인 폴더 기준)
+    private static final List<String> WATCHED_FILES = List.of("config.yml", "messages.yml");
+
+    // 파일이 없을 때의 체크섬
+    private static final long MISSING = -1L;
+
+    private final KnockbackScroll plugin;
+
+    // 마지막 변경 후 리로드까지 기다릴 시간 (설정 리로드 시 갱신)
+    private volatile long debounceMillis;
+
+    private WatchService watchService;
+    private Thread thread;
+
+    // 파일명 -> 마지막으로 확인한 내용 체크섬 (감시 스레드 전용)
+    private final Map<String, Long> checksums = new HashMap<>();
+
+    public ConfigFileWatcher(KnockbackScroll plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * 설정에 따라 감시 시작/정지 (메인 스레드)
+     * 이미 감시 중이면 대기 시간만 갱신합니다.
+     * @param config 게시된 설정
+     */
+    public void apply(ScrollConfig config) {
+        debounceMillis = config.autoReloadDebounceMillis();
+        if (!config.autoReloadEnabled()) {
+            stop();
+        } else if (thread == null) {
+            start();
+        }
+    }
+
+    /**
+     * 감시 중인지 확인
+     */
+    public boolean isRunning() {
+        return thread != null;
+    }
+
+    private void start() {
+        Path folder = plugin.getDataFolder().toPath();
+        WatchService service;
+        try {
+            service = folder.getFileSystem().newWatchService();
+            folder.register(service, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException | UnsupportedOperationException e) {
+            plugin.getLogger().warning("설정 파일 감시를 시작할 수 없습니다: " + e.getMessage());
+            return;
+        }
+
+        // 시작 시점 내용을 기준으로 삼음 (스레드 시작 전에 기록하므로 감시 스레드에서 그대로 보임)
+        checksums.clear();
+        for (String name : WATCHED_FILES) {
+            checksums.put(name, checksum(folder.resolve(name)));
+        }
+
+        watchService = service;
+        thread = new Thread(() -> watch(service, folder), "KnockbackScroll-ConfigWatcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * 감시 정지 (onDisable 또는 설정에서 꺼진 경우)
+     * 감시 스레드가 종료될 때까지 잠시 기다립니다.
+     */
+    public void stop() {
+        Thread current = thread;
+        if (current == null) {
+            return;
+        }
+        thread = null;
+
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            plugin.getLogger().warning("설정 파일 감시 종료 중 오류 발생: " + e.getMessage());
+        }
+        watchService = null;
+
+        current.interrupt();
+        try {
+            current.join(1000L);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 감시 루프 (감시 스레드)
+     */
+    private void watch(WatchService service, Path folder) {
+        try {
+            while (true) {
+                WatchKey key = service.take();
+                boolean relevant = drain(key);
+                if (!key.reset()) {
+                    plugin.getLogger().warning("플러그인 폴더를 더 이상 감시할 수 없어 자동 리로드를 중단합니다.");
+                    return;
+                }
+                if (!relevant) {
+                    continue;
+                }
+
+                // 디바운스: 대기 시간 동안 추가 변경이 없을 때까지 기다림
+                WatchKey next;
+                while ((next = service.poll(debounceMillis, TimeUnit.MILLISECONDS)) != null) {
+                    drain(next);
+                    next.reset();
+                }
+
+                if (contentChanged(folder)) {
+                    plugin.getLogger().info("설정 파일 변경이 감지되어 리로드합니다.");
+                    plugin.reloadConfiguration().thenRun(() ->
+                            plugin.getLogger().info("설정 파일 자동 리로드 완료"));
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // 정지 요청
+        }
+    }
+
+    /**
+     * 대기 중인 이벤트를 비우고, 감시 대상 파일이 포함되었는지 반환
+     */
+    private boolean drain(WatchKey key) {
+        boolean relevant = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                relevant = true;
+            } else if (event.context() instanceof Path changed
+                    && WATCHED_FILES.contains(changed.getFileName().toString())) {
+                relevant = true;
+            }
+        }
+        return relevant;
+    }
+
+    /**
+     * 감시 대상 파일 중 내용이 바뀐 것이 있는지 확인하고 체크섬 갱신
+     */
+    private boolean contentChanged(Path folder) {
+        boolean changed = false;
+        for (String name : WATCHED_FILES) {
+            long current = checksum(folder.resolve(name));
+            Long previous = checksums.put(name, current);
+            if (previous == null || previous != current) {
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * 파일 내용의 CRC32 체크섬 계산
+     * @return 체크섬, 파일이 없으면 {@link #MISSING}
+     */
+    private long checksum(Path file) {
+        CRC32 crc = new CRC32();
+        byte[] buffer = new byte[8192];
+        try (InputStream in = Files.newInputStream(file)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                crc.update(buffer, 0, read);
+            }
+        } catch (NoSuchFileException e) {
+            return MISSING;
+        } catch (IOException e) {
+            // 편집기가 쓰는 도중이면 읽기에 실패할 수 있음 (쓰기가 끝나면 다음 이벤트에서 다시 확인)
+            plugin.getLogger().warning("설정 파일을 읽을 수 없습니다: " + file.getFileName() + " - " + e.getMessage());
+            return MISSING;
+        }
+        return crc.getValue();
+    }
+}
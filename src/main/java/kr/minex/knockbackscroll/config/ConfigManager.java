@@ -1,135 +1,137 @@
 package kr.minex.knockbackscroll.config;
 
-import org.bukkit.ChatColor;
-import org.bukkit.Sound;
-import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.Material;
+import org.bukkit.configuration.InvalidConfigurationException;
 import kr.minex.knockbackscroll.KnockbackScroll;
-import kr.minex.knockbackscroll.models.ScrollType;
+import kr.minex.knockbackscroll.models.ScrollTypeRegistry;
 
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
 
 /**
  * 설정 파일 관리 클래스
- * config.yml 로드 및 설정값 캐싱
+ * config.yml을 검증된 불변 스냅샷({@link ScrollConfig})으로 읽어 참조 하나로 게시합니다.
+ *
+ * - 리로드 명령어: 파일 읽기/파싱/검증은 비동기 스레드, 게시는 메인 스레드
+ * - 검증에 실패하면 이전 스냅샷을 그대로 유지
+ * - 여러 값을 함께 읽을 때는 {@link #getSnapshot()}을 한 번만 호출하여 같은 시점의 값을 사용
  */
 public class ConfigManager {
 
     private final KnockbackScroll plugin;
-    private FileConfiguration config;
+    private final ScrollConfigLoader loader;
 
-    // 캐시된 설정값
-    private int cooldownSeconds;
-    private int durationSeconds;
+    // 현재 게시된 설정 (리로드 시 통째로 교체)
+    private volatile ScrollConfig snapshot;
 
-    // 소리 설정
-    private Sound activateSound;
-    private float activateSoundVolume;
-    private float activateSoundPitch;
+    // 지정 명령어로 추가했지만 아직 파일에서 읽은 설정에 반영되지 않은 아이템 종류
+    private final Set<Material> addedMaterials = ConcurrentHashMap.newKeySet();
 
     public ConfigManager(KnockbackScroll plugin) {
         this.plugin = plugin;
-        loadConfig();
-    }
+        this.loader = new ScrollConfigLoader(plugin);
 
-    /**
-     * 설정 파일 로드 및 값 캐싱
-     */
-    public void loadConfig() {
         plugin.saveDefaultConfig();
-        plugin.reloadConfig();
-        config = plugin.getConfig();
-
-        cacheValues();
+        try {
+            snapshot = loader.load(ScrollTypeRegistry.EMPTY);
+        } catch (InvalidConfigurationException e) {
+            plugin.getLogger().severe("config.yml이 올바르지 않아 기본 설정으로 시작합니다: " + e.getMessage());
+            try {
+                snapshot = loader.loadDefaults(ScrollTypeRegistry.EMPTY);
+            } catch (InvalidConfigurationException bundled) {
+                throw new IllegalStateException("기본 config.yml을 읽을 수 없습니다.", bundled);
+            }
+        }
     }
 
     /**
-     * 설정 리로드
+     * 현재 설정 스냅샷 반환
      */
-    public void reload() {
-        loadConfig();
+    public ScrollConfig getSnapshot() {
+        return snapshot;
     }
 
     /**
-     * 설정값 캐싱
+     * 설정 즉시 리로드 (현재 스레드에서 읽고 바로 게시)
+     * @return 검증을 통과해 게시되었으면 true, 실패 시 이전 설정 유지
      */
-    private void cacheValues() {
-        // 기본 설정
-        cooldownSeconds = config.getInt("settings.cooldown", 60);
-        durationSeconds = config.getInt("settings.duration", 10);
-
-        // 소리 설정
-        String soundName = config.getString("sounds.activate.type", "BLOCK_ENCHANTMENT_TABLE_USE");
+    public boolean reload() {
         try {
-            activateSound = Sound.valueOf(soundName);
-        } catch (IllegalArgumentException e) {
-            plugin.getLogger().warning("알 수 없는 소리 타입: " + soundName + ", 기본값 사용");
-            activateSound = Sound.BLOCK_ENCHANTMENT_TABLE_USE;
+            publish(loader.load(snapshot.scrollTypes()));
+            return true;
+        } catch (InvalidConfigurationException e) {
+            plugin.getLogger().warning("config.yml 검증 실패, 이전 설정을 유지합니다: " + e.getMessage());
+            return false;
         }
-        activateSoundVolume = (float) config.getDouble("sounds.activate.volume", 1.0);
-        activateSoundPitch = (float) config.getDouble("sounds.activate.pitch", 1.0);
     }
 
     /**
-     * 쿨타임 반환 (초)
+     * 비동기 스레드에서 설정 파일을 읽고 검증 (게시하지 않음)
+     * 결과는 메인 스레드에서 {@link #publish}로 게시해야 합니다.
+     * @return 검증된 스냅샷, 실패 시 {@link InvalidConfigurationException}으로 완료
      */
-    public int getCooldownSeconds() {
-        return cooldownSeconds;
+    public CompletableFuture<ScrollConfig> loadAsync() {
+        CompletableFuture<ScrollConfig> future = new CompletableFuture<>();
+        ScrollConfig current = snapshot;
+        plugin.getScrollScheduler().runAsync(() -> {
+            try {
+                future.complete(loader.load(current.scrollTypes()));
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            }
+        });
+        return future;
     }
 
     /**
-     * 지속시간 반환 (초)
+     * 스냅샷 게시 (메인 스레드)
+     * @param loaded 검증된 스냅샷
      */
-    public int getDurationSeconds() {
-        return durationSeconds;
-    }
-
-    /**
-     * 활성화 소리 반환
-     */
-    public Sound getActivateSound() {
-        return activateSound;
+    public void publish(ScrollConfig loaded) {
+        // 파일에 저장되기 전에 읽은 설정이면 지정 명령어로 추가한 아이템 종류가 빠져 있으므로 다시 추가
+        for (Material material : addedMaterials) {
+            if (loaded.isScrollMaterial(material)) {
+                addedMaterials.remove(material);
+            } else {
+                loaded = loaded.withScrollMaterial(material);
+            }
+        }
+        snapshot = loaded;
     }
 
     /**
-     * 활성화 소리 볼륨 반환
+     * 주문서로 인식할 수 있는 아이템 종류인지 확인
+     * @param material 아이템 종류 (null 허용)
+     * @return 전체 검사 설정이거나 목록에 포함되면 true (공기는 항상 false)
      */
-    public float getActivateSoundVolume() {
-        return activateSoundVolume;
+    public boolean isScrollMaterial(Material material) {
+        return snapshot.isScrollMaterial(material);
     }
 
     /**
-     * 활성화 소리 피치 반환
+     * 주문서 아이템 종류 추가 (지정 명령어로 다른 종류를 변환한 경우)
+     * 이미 인식하는 종류면(전체 검사 설정 포함) 아무것도 하지 않습니다.
+     * 파일 저장은 비동기 스레드에서 처리하며, 저장 전에 읽은 설정이 게시되더라도
+     * 파일에서 읽은 설정에 포함될 때까지 {@link #publish}에서 다시 추가합니다.
+     * @param material 추가할 아이템 종류
      */
-    public float getActivateSoundPitch() {
-        return activateSoundPitch;
-    }
+    public void addScrollMaterial(Material material) {
+        ScrollConfig current = snapshot;
+        if (current.isScrollMaterial(material)) {
+            return;
+        }
 
-    /**
-     * 주문서 표시명 반환
-     * @param type 주문서 타입
-     * @return 색상 코드가 적용된 표시명
-     */
-    public String getScrollDisplayName(ScrollType type) {
-        String path = "item." + type.getId() + ".display-name";
-        String name = config.getString(path, "&e넉백저항 주문서");
-        return ChatColor.translateAlternateColorCodes('&', name);
-    }
+        addedMaterials.add(material);
+        snapshot = current.withScrollMaterial(material);
 
-    /**
-     * 주문서 설명 반환
-     * @param type 주문서 타입
-     * @return 색상 코드가 적용된 설명 리스트
-     */
-    public List<String> getScrollLore(ScrollType type) {
-        String path = "item." + type.getId() + ".lore";
-        List<String> lore = config.getStringList(path);
-
-        return lore.stream()
-                .map(line -> line
-                        .replace("{duration}", String.valueOf(durationSeconds))
-                        .replace("{cooldown}", String.valueOf(cooldownSeconds)))
-                .map(line -> ChatColor.translateAlternateColorCodes('&', line))
-                .collect(Collectors.toList());
+        plugin.getScrollScheduler().runAsync(() -> {
+            try {
+                loader.saveScrollMaterial(material);
+            } catch (RuntimeException e) {
+                plugin.getLogger().log(Level.WARNING, "주문서 아이템 종류 목록 저장 중 오류 발생", e);
+            }
+        });
     }
 }
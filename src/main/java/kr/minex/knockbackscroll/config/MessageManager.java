@@ -1,9 +1,9 @@
 package kr.minex.knockbackscroll.config;
 
 import net.md_5.bungee.api.ChatMessageType;
-import net.md_5.bungee.api.chat.TextComponent;
 import org.bukkit.ChatColor;
 import org.bukkit.command.CommandSender;
+import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.entity.Player;
@@ -13,17 +13,35 @@ import java.io.File;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
-import java.text.NumberFormat;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 메시지 관리 클래스
  * messages.yml 로드 및 메시지 전송
+ *
+ * 모든 메시지는 로드(리로드) 시 {@link MessageTemplate}으로 한 번만 컴파일되며,
+ * 전송 시에는 YAML 조회나 색상 코드 변환을 다시 하지 않습니다.
+ * 접두사와 템플릿은 불변 묶음({@link Bundle}) 하나로 교체되므로 리로드 중에도 섞이지 않습니다.
  */
 public class MessageManager {
 
     private final KnockbackScroll plugin;
-    private FileConfiguration messages;
-    private String prefix;
+
+    // 현재 게시된 메시지 묶음 (리로드 시 통째로 교체)
+    private volatile Bundle bundle = new Bundle("", Map.of());
+
+    /**
+     * 컴파일된 메시지 묶음 (불변)
+     * @param prefix 색상 코드가 적용된 접두사
+     * @param templates 메시지 키 (messages. 이후 경로) -> 컴파일된 템플릿
+     */
+    public record Bundle(String prefix, Map<String, MessageTemplate> templates) {
+        public Bundle {
+            templates = Map.copyOf(templates);
+        }
+    }
 
     public MessageManager(KnockbackScroll plugin) {
         this.plugin = plugin;
@@ -31,9 +49,48 @@ public class MessageManager {
     }
 
     /**
-     * 메시지 파일 로드
+     * 메시지 파일 로드 (현재 스레드에서 읽고 바로 게시)
      */
     public void loadMessages() {
+        publish(parse());
+    }
+
+    /**
+     * 메시지 리로드
+     */
+    public void reload() {
+        loadMessages();
+    }
+
+    /**
+     * 비동기 스레드에서 메시지 파일을 읽고 컴파일 (게시하지 않음)
+     * 결과는 메인 스레드에서 {@link #publish}로 게시해야 합니다.
+     */
+    public CompletableFuture<Bundle> loadAsync() {
+        CompletableFuture<Bundle> future = new CompletableFuture<>();
+        plugin.getScrollScheduler().runAsync(() -> {
+            try {
+                future.complete(parse());
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * 메시지 묶음 게시 (메인 스레드)
+     * @param loaded 컴파일된 묶음
+     */
+    public void publish(Bundle loaded) {
+        bundle = loaded;
+    }
+
+    /**
+     * messages.yml을 읽어 묶음으로 컴파일
+     * 파일 복사와 기본값 병합이 겹치지 않도록 동기화합니다.
+     */
+    private synchronized Bundle parse() {
         File messagesFile = new File(plugin.getDataFolder(), "messages.yml");
 
         // 파일이 없으면 리소스에서 복사
@@ -41,7 +98,7 @@ public class MessageManager {
             plugin.saveResource("messages.yml", false);
         }
 
-        messages = YamlConfiguration.loadConfiguration(messagesFile);
+        FileConfiguration messages = YamlConfiguration.loadConfiguration(messagesFile);
 
         // 기본값과 병합 (새로운 키 추가 대응)
         try (InputStream defaultStream = plugin.getResource("messages.yml")) {
@@ -55,15 +112,26 @@ public class MessageManager {
             plugin.getLogger().warning("기본 messages.yml 로드 중 오류 발생: " + e.getMessage());
         }
 
-        // 접두사 캐싱
-        prefix = colorize(messages.getString("messages.prefix", "&8[&6넉백저항&8] &r"));
+        String prefix = colorize(messages.getString("messages.prefix", "&8[&6넉백저항&8] &r"));
+
+        // 전체 메시지 컴파일
+        return new Bundle(prefix, compileTemplates(messages.getConfigurationSection("messages")));
     }
 
     /**
-     * 메시지 리로드
+     * 메시지 섹션의 모든 문자열을 템플릿으로 컴파일
      */
-    public void reload() {
-        loadMessages();
+    private Map<String, MessageTemplate> compileTemplates(ConfigurationSection section) {
+        Map<String, MessageTemplate> compiled = new HashMap<>();
+        if (section == null) {
+            return compiled;
+        }
+        for (String key : section.getKeys(true)) {
+            if (section.isString(key)) {
+                compiled.put(key, MessageTemplate.compile(colorize(section.getString(key))));
+            }
+        }
+        return compiled;
     }
 
     /**
@@ -73,9 +141,10 @@ public class MessageManager {
      * @param placeholders 플레이스홀더 (키, 값 쌍)
      */
     public void send(CommandSender sender, String key, Object... placeholders) {
-        String message = getMessage(key, placeholders);
-        if (message != null && !message.isEmpty()) {
-            sender.sendMessage(prefix + message);
+        Bundle current = bundle;
+        MessageTemplate template = getTemplate(current, key);
+        if (template != null && !template.isEmpty()) {
+            sender.sendMessage(template.render(current.prefix(), placeholders));
         }
     }
 
@@ -86,9 +155,9 @@ public class MessageManager {
      * @param placeholders 플레이스홀더
      */
     public void sendRaw(CommandSender sender, String key, Object... placeholders) {
-        String message = getMessage(key, placeholders);
-        if (message != null && !message.isEmpty()) {
-            sender.sendMessage(message);
+        MessageTemplate template = getTemplate(key);
+        if (template != null && !template.isEmpty()) {
+            sender.sendMessage(template.render(null, placeholders));
         }
     }
 
@@ -99,9 +168,22 @@ public class MessageManager {
      * @param placeholders 플레이스홀더
      */
     public void sendActionBar(Player player, String key, Object... placeholders) {
-        String message = getMessage(key, placeholders);
-        if (message != null && !message.isEmpty()) {
-            player.spigot().sendMessage(ChatMessageType.ACTION_BAR, TextComponent.fromLegacyText(message));
+        MessageTemplate template = getTemplate(key);
+        if (template != null && !template.isEmpty()) {
+            player.spigot().sendMessage(ChatMessageType.ACTION_BAR, template.toActionBar(placeholders));
+        }
+    }
+
+    /**
+     * 정수 값 하나를 가진 액션바 메시지 전송 (캐싱된 컴포넌트 재사용, 박싱 없음)
+     * @param player 대상 플레이어
+     * @param key 메시지 키
+     * @param value 플레이스홀더 값
+     */
+    public void sendActionBar(Player player, String key, int value) {
+        MessageTemplate template = getTemplate(key);
+        if (template != null && !template.isEmpty()) {
+            player.spigot().sendMessage(ChatMessageType.ACTION_BAR, template.toActionBar(value));
         }
     }
 
@@ -112,38 +194,35 @@ public class MessageManager {
      * @return 포맷팅된 메시지
      */
     public String getMessage(String key, Object... placeholders) {
-        String message = messages.getString("messages." + key);
-
-        if (message == null) {
-            plugin.getLogger().warning("메시지 키를 찾을 수 없음: " + key);
+        MessageTemplate template = getTemplate(key);
+        if (template == null) {
             return null;
         }
-
-        // 플레이스홀더 치환
-        for (int i = 0; i < placeholders.length - 1; i += 2) {
-            String placeholder = "{" + placeholders[i] + "}";
-            String value = formatValue(placeholders[i + 1]);
-            message = message.replace(placeholder, value);
-        }
-
-        return colorize(message);
+        return template.render(null, placeholders);
     }
 
     /**
-     * 접두사 반환
+     * 컴파일된 템플릿 반환
+     * @param key 메시지 키
+     * @return 템플릿, 없으면 null (경고 로그 출력)
      */
-    public String getPrefix() {
-        return prefix;
+    public MessageTemplate getTemplate(String key) {
+        return getTemplate(bundle, key);
+    }
+
+    private MessageTemplate getTemplate(Bundle current, String key) {
+        MessageTemplate template = current.templates().get(key);
+        if (template == null) {
+            plugin.getLogger().warning("메시지 키를 찾을 수 없음: " + key);
+        }
+        return template;
     }
 
     /**
-     * 값 포맷팅 (숫자는 천단위 구분)
+     * 접두사 반환
      */
-    private String formatValue(Object value) {
-        if (value instanceof Number) {
-            return NumberFormat.getInstance().format(value);
-        }
-        return String.valueOf(value);
+    public String getPrefix() {
+        return bundle.prefix();
     }
 
     /**
@@ -0,0 +1,260 @@
+package kr.minex.knockbackscroll.config;
+
+import net.md_5.bungee.api.chat.BaseComponent;
+import net.md_5.bungee.api.chat.TextComponent;
+
+import java.text.DecimalFormatSymbols;
+import java.text.NumberFormat;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 미리 컴파일된 메시지 템플릿
+ * 색상 코드가 적용된 메시지를 "문자열 조각 + 플레이스홀더 자리" 목록으로 분해해 두고,
+ * 전송 시에는 조각을 이어 붙이기만 합니다.
+ *
+ * 플레이스홀더가 하나뿐인 템플릿은 정수 값별 액션바 컴포넌트를 캐싱합니다.
+ * (예: 남은 쿨타임 초마다 하나)
+ */
+public final class MessageTemplate {
+
+    // 액션바 컴포넌트를 캐싱할 최대 정수 값 (1시간 = 3600초)
+    private static final int MAX_CACHED_VALUE = 3600;
+
+    // 천 단위 구분 기호 (NumberFormat.getInstance()와 같은 기본 로케일 기준)
+    private static final char GROUPING_SEPARATOR = DecimalFormatSymbols.getInstance().getGroupingSeparator();
+
+    // 렌더링용 재사용 버퍼
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(128));
+
+    // 정수가 아닌 숫자 포맷용 (NumberFormat은 스레드 안전하지 않음)
+    private static final ThreadLocal<NumberFormat> NUMBER_FORMAT = ThreadLocal.withInitial(NumberFormat::getInstance);
+
+    // 문자열 조각 (placeholders.length + 1개)
+    private final String[] literals;
+
+    // 플레이스홀더 이름 (literals[i] 뒤에 placeholders[i]가 옴)
+    private final String[] placeholders;
+
+    // 전체 문자열 (플레이스홀더가 없을 때 그대로 사용)
+    private final String raw;
+
+    // 정수 값별 액션바 컴포넌트 캐시 (플레이스홀더가 하나일 때만)
+    private final BaseComponent[][] actionBarCache;
+
+    // 플레이스홀더가 없을 때의 액션바 컴포넌트
+    private volatile BaseComponent[] staticActionBar;
+
+    private MessageTemplate(String raw, String[] literals, String[] placeholders) {
+        this.raw = raw;
+        this.literals = literals;
+        this.placeholders = placeholders;
+        this.actionBarCache = placeholders.length == 1 ? new BaseComponent[MAX_CACHED_VALUE + 1][] : null;
+    }
+
+    /**
+     * 템플릿 컴파일
+     * @param text 색상 코드가 이미 적용된 메시지
+     * @return 컴파일된 템플릿
+     */
+    public static MessageTemplate compile(String text) {
+        List<String> literalList = new ArrayList<>();
+        List<String> placeholderList = new ArrayList<>();
+
+        StringBuilder literal = new StringBuilder();
+        int i = 0;
+        while (i < text.length()) {
+            char c = text.charAt(i);
+            if (c == '{') {
+                int end = text.indexOf('}', i + 1);
+                if (end > i + 1 && isPlaceholderName(text, i + 1, end)) {
+                    literalList.add(literal.toString());
+                    literal.setLength(0);
+                    placeholderList.add(text.substring(i + 1, end));
+                    i = end + 1;
+                    continue;
+                }
+            }
+            literal.append(c);
+            i++;
+        }
+        literalList.add(literal.toString());
+
+        return new MessageTemplate(text,
+                literalList.toArray(new String[0]),
+                placeholderList.toArray(new String[0]));
+    }
+
+    /**
+     * 비어 있는 메시지인지 여부
+     */
+    public boolean isEmpty() {
+        return raw.isEmpty();
+    }
+
+    /**
+     * 문자열로 렌더링
+     * @param prefix 앞에 붙일 문자열 (null이면 없음)
+     * @param values 플레이스홀더 (키, 값 쌍)
+     * @return 완성된 메시지
+     */
+    public String render(String prefix, Object... values) {
+        if (placeholders.length == 0) {
+            return prefix == null ? raw : prefix + raw;
+        }
+
+        StringBuilder builder = BUFFER.get();
+        builder.setLength(0);
+        if (prefix != null) {
+            builder.append(prefix);
+        }
+        renderTo(builder, values);
+        return builder.toString();
+    }
+
+    /**
+     * 액션바 컴포넌트 반환
+     * 플레이스홀더가 없거나, 하나뿐이고 값이 0~3600 사이 정수이면 캐싱된 컴포넌트를 재사용합니다.
+     * @param values 플레이스홀더 (키, 값 쌍)
+     * @return 액션바 컴포넌트
+     */
+    public BaseComponent[] toActionBar(Object... values) {
+        if (placeholders.length == 0) {
+            BaseComponent[] components = staticActionBar;
+            if (components == null) {
+                components = TextComponent.fromLegacyText(raw);
+                staticActionBar = components;
+            }
+            return components;
+        }
+
+        if (actionBarCache != null && values.length == 2 && placeholders[0].equals(values[0])) {
+            long value = integralValue(values[1]);
+            if (value >= 0 && value <= MAX_CACHED_VALUE) {
+                return toActionBar((int) value);
+            }
+        }
+
+        return TextComponent.fromLegacyText(render(null, values));
+    }
+
+    /**
+     * 정수 값 하나로 액션바 컴포넌트 반환 (캐싱, 박싱 없음)
+     * 플레이스홀더가 하나인 템플릿에서만 캐싱됩니다.
+     * @param value 플레이스홀더 값
+     * @return 액션바 컴포넌트
+     */
+    public BaseComponent[] toActionBar(int value) {
+        if (actionBarCache == null) {
+            return toActionBar();
+        }
+        if (value < 0 || value > MAX_CACHED_VALUE) {
+            return TextComponent.fromLegacyText(renderSingle(value));
+        }
+
+        BaseComponent[] components = actionBarCache[value];
+        if (components == null) {
+            // 경쟁 시 같은 값을 중복 생성할 수 있으나 결과는 동일하므로 무해함
+            components = TextComponent.fromLegacyText(renderSingle(value));
+            actionBarCache[value] = components;
+        }
+        return components;
+    }
+
+    /**
+     * 플레이스홀더가 하나인 템플릿을 정수 값으로 렌더링
+     */
+    private String renderSingle(long value) {
+        StringBuilder builder = BUFFER.get();
+        builder.setLength(0);
+        builder.append(literals[0]);
+        appendGrouped(builder, value);
+        builder.append(literals[1]);
+        return builder.toString();
+    }
+
+    private void renderTo(StringBuilder builder, Object[] values) {
+        builder.append(literals[0]);
+        for (int i = 0; i < placeholders.length; i++) {
+            String name = placeholders[i];
+            int valueIndex = indexOf(values, name);
+            if (valueIndex < 0) {
+                // 값이 주어지지 않은 플레이스홀더는 원문 유지
+                builder.append('{').append(name).append('}');
+            } else {
+                appendValue(builder, values[valueIndex]);
+            }
+            builder.append(literals[i + 1]);
+        }
+    }
+
+    private static int indexOf(Object[] values, String name) {
+        for (int i = 0; i < values.length - 1; i += 2) {
+            if (name.equals(values[i])) {
+                return i + 1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 값 포맷팅 (숫자는 천단위 구분)
+     */
+    private static void appendValue(StringBuilder builder, Object value) {
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            appendGrouped(builder, ((Number) value).longValue());
+        } else if (value instanceof Number) {
+            builder.append(NUMBER_FORMAT.get().format(value));
+        } else {
+            builder.append(value);
+        }
+    }
+
+    /**
+     * 정수를 천 단위 구분 기호와 함께 추가 (중간 문자열 생성 없음)
+     */
+    private static void appendGrouped(StringBuilder builder, long value) {
+        if (value < 0) {
+            if (value == Long.MIN_VALUE) {
+                builder.append(NUMBER_FORMAT.get().format(value));
+                return;
+            }
+            builder.append('-');
+            value = -value;
+        }
+
+        long divisor = 1;
+        int digits = 1;
+        while (divisor <= value / 10) {
+            divisor *= 10;
+            digits++;
+        }
+
+        while (divisor > 0) {
+            builder.append((char) ('0' + (value / divisor)));
+            value %= divisor;
+            divisor /= 10;
+            digits--;
+            if (digits > 0 && digits % 3 == 0) {
+                builder.append(GROUPING_SEPARATOR);
+            }
+        }
+    }
+
+    private static long integralValue(Object value) {
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).longValue();
+        }
+        return -1;
+    }
+
+    private static boolean isPlaceholderName(String text, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (!Character.isLetterOrDigit(c) && c != '_' && c != '-') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,109 @@
+package kr.minex.knockbackscroll.config;
+
+import org.bukkit.Material;
+import org.bukkit.Sound;
+import kr.minex.knockbackscroll.models.ScrollTypeRegistry;
+import kr.minex.knockbackscroll.models.StackPolicy;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * config.yml 설정값 스냅샷 (불변)
+ * 검증을 통과한 설정만 {@link ConfigManager}가 참조 하나로 교체하여 게시하므로,
+ * 읽는 쪽은 한 번 꺼낸 스냅샷 안에서 항상 같은 시점의 값을 봅니다.
+ *
+ * @param cooldownSeconds 기본 쿨타임 (초)
+ * @param durationSeconds 기본 지속시간 (초)
+ * @param clockType 시계 타입 ("tick" 또는 "nanotime", 재시작 시에만 적용)
+ * @param stackPolicy 효과가 활성화된 상태에서 다시 사용했을 때의 처리 방식
+ * @param stackMaxDurationMillis 연장으로 누적할 수 있는 최대 남은 시간 (밀리초, 0이면 제한 없음)
+ * @param scrollMaterials 주문서로 인식할 아이템 종류 (설정 목록 + 타입별 아이템 종류 + 지정 명령어로 추가한 종류)
+ * @param allScrollMaterials 모든 아이템 종류를 주문서 후보로 검사할지 여부
+ * @param scrollTypes 주문서 타입 목록
+ * @param storageEnabled 쿨타임/효과 저장 여부 (재시작 시에만 적용)
+ * @param storageCompactThreshold 저널 압축을 시작할 레코드 수 (재시작 시에만 적용)
+ * @param auditEnabled 주문서 생성/지정/사용 감사 로그 기록 여부 (감사 로그 설정은 재시작 시에만 적용)
+ * @param auditQueueCapacity 쓰기 대기 중인 감사 기록의 최대 개수
+ * @param auditFlushIntervalMillis 감사 기록을 모아서 쓰는 주기 (밀리초)
+ * @param auditRotateBytes 감사 로그 파일 교체 크기 (바이트, 0이면 사용 안 함)
+ * @param auditRotateIntervalMillis 감사 로그 파일 교체 주기 (밀리초, 0이면 사용 안 함)
+ * @param auditCompress 교체된 감사 로그 파일 gzip 압축 여부
+ * @param metricsTimingEnabled 처리 시간 측정 여부
+ * @param metricsExportEnabled 지표 파일 내보내기 여부
+ * @param metricsExportFormat 지표 파일 형식 (prometheus | json)
+ * @param metricsExportFile 지표 파일 경로 (플러그인 폴더 기준)
+ * @param metricsExportIntervalSeconds 지표 파일 기록 주기 (초)
+ * @param distributionTickBudgetNanos 대량 지급 틱당 시간 예산 (나노초)
+ * @param autoReloadEnabled 설정 파일 변경 시 자동 리로드 여부
+ * @param autoReloadDebounceMillis 마지막 변경 후 리로드까지 기다릴 시간 (밀리초)
+ * @param hudEnabled 효과/쿨타임 남은 시간 액션바 표시 여부
+ * @param activateSound 활성화 소리
+ * @param activateSoundVolume 활성화 소리 볼륨
+ * @param activateSoundPitch 활성화 소리 피치
+ */
+public record ScrollConfig(
+        int cooldownSeconds,
+        int durationSeconds,
+        String clockType,
+        StackPolicy stackPolicy,
+        long stackMaxDurationMillis,
+        Set<Material> scrollMaterials,
+        boolean allScrollMaterials,
+        ScrollTypeRegistry scrollTypes,
+        boolean storageEnabled,
+        int storageCompactThreshold,
+        boolean auditEnabled,
+        int auditQueueCapacity,
+        long auditFlushIntervalMillis,
+        long auditRotateBytes,
+        long auditRotateIntervalMillis,
+        boolean auditCompress,
+        boolean metricsTimingEnabled,
+        boolean metricsExportEnabled,
+        String metricsExportFormat,
+        String metricsExportFile,
+        int metricsExportIntervalSeconds,
+        long distributionTickBudgetNanos,
+        boolean autoReloadEnabled,
+        long autoReloadDebounceMillis,
+        boolean hudEnabled,
+        Sound activateSound,
+        float activateSoundVolume,
+        float activateSoundPitch) {
+
+    public ScrollConfig {
+        // 조회가 잦으므로 EnumSet을 유지한 채 읽기 전용으로 감쌈
+        scrollMaterials = Collections.unmodifiableSet(scrollMaterials.isEmpty()
+                ? EnumSet.noneOf(Material.class) : EnumSet.copyOf(scrollMaterials));
+    }
+
+    /**
+     * 주문서로 인식할 수 있는 아이템 종류인지 확인
+     * @param material 아이템 종류 (null 허용)
+     * @return 전체 검사 설정이거나 목록에 포함되면 true (공기는 항상 false)
+     */
+    public boolean isScrollMaterial(Material material) {
+        if (material == null || material.isAir()) {
+            return false;
+        }
+        return allScrollMaterials || scrollMaterials.contains(material);
+    }
+
+    /**
+     * 아이템 종류가 추가된 스냅샷 반환
+     * @param material 추가할 아이템 종류
+     */
+    public ScrollConfig withScrollMaterial(Material material) {
+        Set<Material> materials = EnumSet.noneOf(Material.class);
+        materials.addAll(scrollMaterials);
+        materials.add(material);
+        return new ScrollConfig(cooldownSeconds, durationSeconds, clockType, stackPolicy, stackMaxDurationMillis,
+                materials, allScrollMaterials, scrollTypes,
+                storageEnabled, storageCompactThreshold, auditEnabled, auditQueueCapacity, auditFlushIntervalMillis,
+                auditRotateBytes, auditRotateIntervalMillis, auditCompress, metricsTimingEnabled, metricsExportEnabled,
+                metricsExportFormat, metricsExportFile, metricsExportIntervalSeconds, distributionTickBudgetNanos,
+                autoReloadEnabled, autoReloadDebounceMillis, hudEnabled, activateSound, activateSoundVolume, activateSoundPitch);
+    }
+}
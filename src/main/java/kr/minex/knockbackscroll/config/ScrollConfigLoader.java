@@ -0,0 +1,367 @@
+package kr.minex.knockbackscroll.config;
+
+import org.bukkit.ChatColor;
+import org.bukkit.Material;
+import org.bukkit.Sound;
+import org.bukkit.configuration.Configuration;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+import kr.minex.knockbackscroll.KnockbackScroll;
+import kr.minex.knockbackscroll.models.ScrollType;
+import kr.minex.knockbackscroll.models.ScrollTypeRegistry;
+import kr.minex.knockbackscroll.models.StackPolicy;
+import kr.minex.knockbackscroll.utils.PackedScrollData;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+
+/**
+ * config.yml을 읽어 {@link ScrollConfig}를 만드는 클래스
+ * 서버 상태를 건드리지 않으므로 비동기 스레드에서 호출할 수 있습니다. (파일 접근은 이 객체 단위로 직렬화)
+ *
+ * 값이 잘못된 경우:
+ * - 되돌릴 기본값이 분명한 항목(알 수 없는 소리/아이템 종류 등)은 경고 후 기본값 사용
+ * - YAML 문법 오류, 음수 시간, 범위를 벗어난 저항 수치, 주문서 타입 없음은 검증 실패로 예외 발생
+ */
+final class ScrollConfigLoader {
+
+    private static final String CONFIG_FILE = "config.yml";
+
+    // 주문서 타입 ID -> 번호 기록 파일 (플러그인 폴더 기준)
+    private static final String TYPE_ID_FILE = "scroll-type-ids.yml";
+
+    // 광역 주문서 최대 반경 (블록, 주변 검색이 확인하는 칸 수의 상한)
+    private static final double MAX_PARTY_RADIUS = 64.0;
+
+    private final KnockbackScroll plugin;
+
+    ScrollConfigLoader(KnockbackScroll plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * config.yml 로드 및 검증
+     * @param previous 현재 게시된 타입 목록 (번호 유지용)
+     * @return 검증된 설정 스냅샷
+     * @throws InvalidConfigurationException 문법 오류나 검증 실패
+     */
+    synchronized ScrollConfig load(ScrollTypeRegistry previous) throws InvalidConfigurationException {
+        File file = new File(plugin.getDataFolder(), CONFIG_FILE);
+        if (!file.exists()) {
+            plugin.saveResource(CONFIG_FILE, false);
+        }
+
+        YamlConfiguration config = new YamlConfiguration();
+        try {
+            config.load(file);
+        } catch (IOException e) {
+            throw new InvalidConfigurationException(CONFIG_FILE + " 파일을 읽을 수 없습니다: " + e.getMessage());
+        }
+        config.setDefaults(loadBundled());
+        return parse(config, previous);
+    }
+
+    /**
+     * 플러그인에 포함된 기본 config.yml로 설정 생성 (서버 시작 시 config.yml이 잘못된 경우)
+     * @param previous 현재 게시된 타입 목록 (번호 유지용)
+     */
+    synchronized ScrollConfig loadDefaults(ScrollTypeRegistry previous) throws InvalidConfigurationException {
+        return parse(loadBundled(), previous);
+    }
+
+    /**
+     * 주문서 판별 아이템 종류 목록에 한 종류 추가 저장 (파일의 목록에 더하며, 다른 항목은 파일 그대로 유지)
+     * @param material 추가할 아이템 종류
+     */
+    synchronized void saveScrollMaterial(Material material) {
+        File file = new File(plugin.getDataFolder(), CONFIG_FILE);
+        YamlConfiguration config = new YamlConfiguration();
+        try {
+            config.load(file);
+            List<String> names = new ArrayList<>(config.getStringList("scroll-detection.materials"));
+            if (names.contains(material.name())) {
+                return;
+            }
+            names.add(material.name());
+            config.set("scroll-detection.materials", names);
+            config.save(file);
+        } catch (IOException | InvalidConfigurationException e) {
+            plugin.getLogger().log(Level.WARNING, "주문서 아이템 종류 목록을 저장하지 못했습니다.", e);
+        }
+    }
+
+    private YamlConfiguration loadBundled() {
+        YamlConfiguration defaults = new YamlConfiguration();
+        try (InputStream stream = plugin.getResource(CONFIG_FILE)) {
+            if (stream != null) {
+                defaults.load(new InputStreamReader(stream, StandardCharsets.UTF_8));
+            }
+        } catch (IOException | InvalidConfigurationException e) {
+            plugin.getLogger().warning("기본 config.yml 로드 중 오류 발생: " + e.getMessage());
+        }
+        return defaults;
+    }
+
+    /**
+     * 설정값 검증 및 스냅샷 생성
+     */
+    private ScrollConfig parse(Configuration config, ScrollTypeRegistry previous) throws InvalidConfigurationException {
+        List<String> errors = new ArrayList<>();
+
+        // 기본 설정
+        int cooldownSeconds = config.getInt("settings.cooldown", 60);
+        int durationSeconds = config.getInt("settings.duration", 10);
+        if (cooldownSeconds < 0) {
+            errors.add("settings.cooldown은 0 이상이어야 합니다: " + cooldownSeconds);
+        }
+        if (durationSeconds < 0) {
+            errors.add("settings.duration은 0 이상이어야 합니다: " + durationSeconds);
+        }
+        String clockType = config.getString("settings.clock", "tick");
+
+        // 효과 중복 사용 처리
+        String stackPolicyName = config.getString("settings.stack-policy", "reject");
+        StackPolicy stackPolicy = StackPolicy.fromId(stackPolicyName);
+        if (stackPolicy == null) {
+            plugin.getLogger().warning("알 수 없는 중복 사용 처리 방식: " + stackPolicyName + ", 기본값(reject) 사용");
+            stackPolicy = StackPolicy.REJECT;
+        }
+        int stackMaxDurationSeconds = config.getInt("settings.stack-max-duration", 60);
+        if (stackMaxDurationSeconds < 0) {
+            errors.add("settings.stack-max-duration은 0 이상이어야 합니다: " + stackMaxDurationSeconds);
+        }
+
+        // 주문서 판별 설정
+        Set<Material> materials = EnumSet.noneOf(Material.class);
+        for (String materialName : config.getStringList("scroll-detection.materials")) {
+            Material material = Material.matchMaterial(materialName);
+            if (material == null || material.isAir()) {
+                plugin.getLogger().warning("알 수 없는 아이템 종류: " + materialName + ", 무시됨");
+                continue;
+            }
+            materials.add(material);
+        }
+
+        boolean allMaterials = config.getBoolean("scroll-detection.all-materials", false);
+
+        // 주문서 타입 (타입별 아이템 종류는 판별 목록에 자동 포함)
+        ScrollTypeRegistry types = loadScrollTypes(config, previous, cooldownSeconds, durationSeconds, errors);
+        if (types.isEmpty()) {
+            errors.add("사용할 수 있는 주문서 타입(scrolls)이 없습니다.");
+        }
+        for (ScrollType type : types.getTypes()) {
+            materials.add(type.getMaterial());
+        }
+
+        if (!errors.isEmpty()) {
+            throw new InvalidConfigurationException(String.join(", ", errors));
+        }
+
+        // 대량 지급 설정
+        double budgetMillis = config.getDouble("distribution.tick-budget-ms", 2.0);
+
+        // 소리 설정
+        String soundName = config.getString("sounds.activate.type", "BLOCK_ENCHANTMENT_TABLE_USE");
+        Sound activateSound;
+        try {
+            activateSound = Sound.valueOf(soundName);
+        } catch (IllegalArgumentException e) {
+            plugin.getLogger().warning("알 수 없는 소리 타입: " + soundName + ", 기본값 사용");
+            activateSound = Sound.BLOCK_ENCHANTMENT_TABLE_USE;
+        }
+
+        return new ScrollConfig(
+                cooldownSeconds,
+                durationSeconds,
+                clockType,
+                stackPolicy,
+                stackMaxDurationSeconds * 1000L,
+                materials,
+                allMaterials,
+                types,
+                config.getBoolean("storage.enabled", true),
+                Math.max(1, config.getInt("storage.compact-threshold", 10000)),
+                config.getBoolean("audit.enabled", true),
+                Math.max(1, config.getInt("audit.queue-capacity", 65536)),
+                Math.max(50L, config.getLong("audit.flush-interval-ms", 1000L)),
+                Math.max(0L, config.getLong("audit.rotate-size-mb", 16L)) * 1024L * 1024L,
+                Math.max(0L, config.getLong("audit.rotate-interval-hours", 24L)) * 3_600_000L,
+                config.getBoolean("audit.compress", true),
+                config.getBoolean("metrics.timing", true),
+                config.getBoolean("metrics.export.enabled", false),
+                config.getString("metrics.export.format", "prometheus"),
+                config.getString("metrics.export.file", "metrics/knockbackscroll.prom"),
+                Math.max(1, config.getInt("metrics.export.interval-seconds", 15)),
+                (long) (Math.max(0.1, budgetMillis) * 1_000_000L),
+                config.getBoolean("auto-reload.enabled", false),
+                Math.max(50L, config.getLong("auto-reload.debounce-ms", 500L)),
+                config.getBoolean("hud.enabled", false),
+                activateSound,
+                (float) config.getDouble("sounds.activate.volume", 1.0),
+                (float) config.getDouble("sounds.activate.pitch", 1.0));
+    }
+
+    /**
+     * scrolls 항목에서 주문서 타입 목록 생성
+     *
+     * - 번호는 아이템 데이터에 저장되므로, 한 번 배정한 번호는 파일({@value #TYPE_ID_FILE})에 기록해 두고 바꾸지 않음
+     *   (설정에서 지운 타입의 번호도 예약해 두어, 이전에 지급된 아이템이 다른 타입으로 인식되지 않도록 함)
+     * - 새 ID는 비어 있는 가장 작은 번호를 사용
+     * - scrolls 항목이 없는 이전 버전 설정은 기본 타입을 사용하고, item.<ID>의 표시명/설명을 이어받음
+     */
+    private ScrollTypeRegistry loadScrollTypes(Configuration config, ScrollTypeRegistry previous,
+                                               int cooldownSeconds, int durationSeconds, List<String> errors) {
+        ConfigurationSection section = null;
+        if (config.isSet("scrolls")) {
+            section = config.getConfigurationSection("scrolls");
+        } else {
+            Configuration defaults = config.getDefaults();
+            if (defaults != null) {
+                section = defaults.getConfigurationSection("scrolls");
+            }
+        }
+        if (section == null) {
+            return ScrollTypeRegistry.EMPTY;
+        }
+
+        // 유효한 키만 추림 (ID는 소문자로 통일)
+        List<String> keys = new ArrayList<>();
+        List<String> ids = new ArrayList<>();
+        for (String key : section.getKeys(false)) {
+            String id = key.toLowerCase(Locale.ROOT);
+            if (!section.isConfigurationSection(key) || ids.contains(id)) {
+                plugin.getLogger().warning("잘못되었거나 중복된 주문서 타입: " + key + ", 무시됨");
+                continue;
+            }
+            keys.add(key);
+            ids.add(id);
+        }
+
+        // 번호 배정: 기록된 번호(또는 파일을 쓰지 못한 경우 이전 목록의 번호) 유지 후 빈 번호 채움
+        File idFile = new File(plugin.getDataFolder(), TYPE_ID_FILE);
+        YamlConfiguration assigned = YamlConfiguration.loadConfiguration(idFile);
+        Set<Integer> used = new HashSet<>();
+        for (String id : assigned.getKeys(false)) {
+            used.add(assigned.getInt(id));
+        }
+        for (ScrollType old : previous.getTypes()) {
+            used.add(old.getNumericId());
+        }
+
+        int[] numericIds = new int[ids.size()];
+        boolean changed = false;
+        int next = 0;
+        for (int i = 0; i < ids.size(); i++) {
+            String id = ids.get(i);
+            ScrollType old = previous.fromId(id);
+            if (assigned.contains(id)) {
+                numericIds[i] = assigned.getInt(id);
+                continue;
+            }
+            if (old != null) {
+                numericIds[i] = old.getNumericId();
+            } else {
+                while (used.contains(next)) {
+                    next++;
+                }
+                numericIds[i] = next;
+                used.add(next);
+            }
+            assigned.set(id, numericIds[i]);
+            changed = true;
+        }
+
+        if (changed) {
+            try {
+                assigned.save(idFile);
+            } catch (IOException e) {
+                plugin.getLogger().log(Level.WARNING, TYPE_ID_FILE + " 파일을 저장하지 못했습니다.", e);
+            }
+        }
+
+        // 직접 고쳤거나 손상된 번호 파일은 같은 번호를 여러 타입에 줄 수 있음 (임의로 다시 배정하면
+        // 이미 지급된 아이템이 다른 타입으로 인식되므로 검증 실패로 처리)
+        Map<Integer, String> owners = new HashMap<>();
+        List<ScrollType> types = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            if (numericIds[i] < 0 || numericIds[i] > PackedScrollData.MAX_TYPE_ID) {
+                plugin.getLogger().warning("주문서 타입 번호 범위 초과: " + keys.get(i) + ", 무시됨");
+                continue;
+            }
+            String owner = owners.putIfAbsent(numericIds[i], ids.get(i));
+            if (owner != null) {
+                errors.add(TYPE_ID_FILE + "에서 주문서 타입 " + owner + ", " + ids.get(i)
+                        + "의 번호가 겹칩니다: " + numericIds[i]);
+                continue;
+            }
+            types.add(loadScrollType(config, section.getConfigurationSection(keys.get(i)), keys.get(i), ids.get(i),
+                    numericIds[i], cooldownSeconds, durationSeconds, errors));
+        }
+        return new ScrollTypeRegistry(types);
+    }
+
+    /**
+     * 주문서 타입 한 개 로드
+     */
+    private ScrollType loadScrollType(Configuration config, ConfigurationSection entry, String key, String id,
+                                      int numericId, int cooldownSeconds, int durationSeconds, List<String> errors) {
+        int duration = entry.getInt("duration", durationSeconds);
+        int cooldown = entry.getInt("cooldown", cooldownSeconds);
+        double resistance = entry.getDouble("resistance", 1.0);
+        double radius = entry.getDouble("radius", 0.0);
+        double partyCooldown = entry.getDouble("party-cooldown", 0.5);
+        if (duration < 0 || cooldown < 0) {
+            errors.add("scrolls." + key + "의 지속시간/쿨타임은 0 이상이어야 합니다.");
+        }
+        if (resistance < 0.0 || resistance > 1.0) {
+            errors.add("scrolls." + key + ".resistance는 0.0 ~ 1.0 사이여야 합니다: " + resistance);
+        }
+        if (radius < 0.0 || radius > MAX_PARTY_RADIUS) {
+            errors.add("scrolls." + key + ".radius는 0 ~ " + (int) MAX_PARTY_RADIUS + " 사이여야 합니다: " + radius);
+        }
+        if (partyCooldown < 0.0 || partyCooldown > 1.0) {
+            errors.add("scrolls." + key + ".party-cooldown은 0.0 ~ 1.0 사이여야 합니다: " + partyCooldown);
+        }
+
+        String materialName = entry.getString("item.material", "PAPER");
+        Material material = Material.matchMaterial(materialName);
+        if (material == null || material.isAir() || !material.isItem()) {
+            plugin.getLogger().warning("주문서 타입 " + key + "의 아이템 종류를 알 수 없습니다: " + materialName + ", PAPER 사용");
+            material = Material.PAPER;
+        }
+
+        // 이전 버전 설정(item.<ID>)은 새 항목이 직접 지정되지 않은 경우에만 사용
+        String legacyPath = "item." + key;
+        String itemName = config.isSet(legacyPath + ".display-name") && !config.isSet("scrolls." + key + ".item.display-name")
+                ? config.getString(legacyPath + ".display-name")
+                : entry.getString("item.display-name", "&e넉백저항 주문서");
+        List<String> lore = config.isSet(legacyPath + ".lore") && !config.isSet("scrolls." + key + ".item.lore")
+                ? config.getStringList(legacyPath + ".lore")
+                : entry.getStringList("item.lore");
+
+        List<String> formattedLore = new ArrayList<>(lore.size());
+        for (String line : lore) {
+            formattedLore.add(ChatColor.translateAlternateColorCodes('&', line
+                    .replace("{duration}", String.valueOf(duration))
+                    .replace("{cooldown}", String.valueOf(cooldown))));
+        }
+
+        return new ScrollType(numericId, id, entry.getString("name", key), entry.getStringList("aliases"),
+                duration, cooldown, resistance, entry.getBoolean("consumable", true),
+                radius, partyCooldown, material, entry.getBoolean("item.glow", true),
+                ChatColor.translateAlternateColorCodes('&', itemName), formattedLore);
+    }
+}
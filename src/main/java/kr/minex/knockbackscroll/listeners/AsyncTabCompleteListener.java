@@ -0,0 +1,83 @@
+package kr.minex.knockbackscroll.listeners;
+
+import com.destroystokyo.paper.event.server.AsyncTabCompleteEvent;
+import org.bukkit.command.PluginCommand;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import kr.minex.knockbackscroll.commands.ScrollTabCompleter;
+
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Paper 비동기 탭 완성 리스너
+ * 명령어 탭 완성을 입력 스레드에서 바로 처리하여, 메인 스레드(Folia는 글로벌 리전)를 거치지 않습니다.
+ * 처리하지 않은 입력(명령어 이름 자체, 권한 없음)은 서버의 일반 탭 완성으로 넘깁니다.
+ *
+ * Paper API 클래스를 직접 참조하므로, {@link #isSupported()}가 true일 때만 로드해야 합니다.
+ */
+public class AsyncTabCompleteListener implements Listener {
+
+    // Paper에만 있는 이벤트 클래스 (감지용)
+    private static final String EVENT_CLASS = "com.destroystokyo.paper.event.server.AsyncTabCompleteEvent";
+
+    private final ScrollTabCompleter completer;
+    private final String permission;
+
+    // 명령어 이름과 별칭 (소문자, 플러그인 이름 접두사 포함)
+    private final Set<String> labels = new HashSet<>();
+
+    public AsyncTabCompleteListener(ScrollTabCompleter completer, PluginCommand command) {
+        this.completer = completer;
+        this.permission = command.getPermission();
+
+        String namespace = command.getPlugin().getName().toLowerCase(Locale.ROOT) + ":";
+        addLabel(command.getName(), namespace);
+        for (String alias : command.getAliases()) {
+            addLabel(alias, namespace);
+        }
+    }
+
+    /**
+     * 비동기 탭 완성 이벤트를 지원하는 서버(Paper)인지 여부
+     */
+    public static boolean isSupported() {
+        try {
+            Class.forName(EVENT_CLASS);
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    @EventHandler(priority = EventPriority.LOW, ignoreCancelled = true)
+    public void onAsyncTabComplete(AsyncTabCompleteEvent event) {
+        if (event.isHandled() || !event.isCommand()) {
+            return;
+        }
+
+        // "/<명령어> <인자...>" (명령어 이름 입력 중이면 처리하지 않음)
+        String buffer = event.getBuffer();
+        int start = buffer.startsWith("/") ? 1 : 0;
+        int space = buffer.indexOf(' ', start);
+        if (space < 0 || !labels.contains(buffer.substring(start, space).toLowerCase(Locale.ROOT))) {
+            return;
+        }
+        if (permission != null && !event.getSender().hasPermission(permission)) {
+            return;
+        }
+
+        // 마지막 빈 인자도 유지 (공백 뒤 완성)
+        String[] args = buffer.substring(space + 1).split(" ", -1);
+        event.setCompletions(completer.complete(event.getSender(), args));
+        event.setHandled(true);
+    }
+
+    private void addLabel(String label, String namespace) {
+        String lower = label.toLowerCase(Locale.ROOT);
+        labels.add(lower);
+        labels.add(namespace + lower);
+    }
+}
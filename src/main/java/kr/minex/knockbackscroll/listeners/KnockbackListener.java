@@ -1,72 +1,127 @@
 package kr.minex.knockbackscroll.listeners;
 
+import org.bukkit.NamespacedKey;
 import org.bukkit.attribute.Attribute;
 import org.bukkit.attribute.AttributeInstance;
 import org.bukkit.attribute.AttributeModifier;
+import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.entity.EntityDamageByEntityEvent;
 import org.bukkit.event.entity.EntityDamageEvent;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
 import kr.minex.knockbackscroll.KnockbackScroll;
+import kr.minex.knockbackscroll.managers.PlayerScrollData;
+import kr.minex.knockbackscroll.managers.PlayerScrollState;
+import kr.minex.knockbackscroll.metrics.ScrollMetrics;
+import kr.minex.knockbackscroll.utils.IntHashSet;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 넉백 무효화 처리 리스너
  * Attribute를 사용하여 넉백 저항을 최대치로 설정
  *
  * 방식: GENERIC_KNOCKBACK_RESISTANCE 속성을 1.0으로 설정하면 넉백 완전 무효화
+ * (주문서 타입별로 더 낮은 수치를 지정하면 그만큼만 감소)
+ *
+ * 폭발 데미지 보험용 핸들러는 서버의 모든 데미지 이벤트를 받으므로,
+ * 효과가 활성화된 플레이어가 있는 동안에만 등록합니다.
+ * 보호 대상 목록과 핸들러 등록 상태는 여러 리전 스레드(Folia)에서 접근하므로 잠금으로 보호합니다.
  */
 public class KnockbackListener implements Listener {
 
+    // 넉백 완전 무효화 수치 (타입을 알 수 없을 때의 기본값)
+    public static final double FULL_RESISTANCE = 1.0;
+
     private final KnockbackScroll plugin;
 
-    // 플레이어별 적용된 AttributeModifier 저장 (정리용)
-    private final Map<UUID, AttributeModifier> appliedModifiers = new ConcurrentHashMap<>();
+    // 플레이어별 모디파이어 적용 여부는 플레이어 상태에 보관 (중복 적용 방지)
+    private final PlayerScrollState state;
 
     // AttributeModifier 이름
     private static final String MODIFIER_NAME = "knockback_scroll_resistance";
 
+    // 플러그인 고유 모디파이어 UUID (항상 같은 값이므로 UUID만으로 O(1) 제거 가능)
+    private static final UUID MODIFIER_UUID =
+        UUID.nameUUIDFromBytes(("KnockbackScroll:" + MODIFIER_NAME).getBytes(StandardCharsets.UTF_8));
+
+    // 넉백 저항 1.0 = 100% 넉백 무효화 (불변이므로 모든 플레이어가 공유)
+    private static final AttributeModifier MODIFIER = new AttributeModifier(
+        MODIFIER_UUID,
+        MODIFIER_NAME,
+        FULL_RESISTANCE,
+        AttributeModifier.Operation.ADD_NUMBER
+    );
+
+    // 효과가 활성화된 플레이어의 엔티티 ID (폭발 데미지 핸들러에서 조회, 자기 자신을 잠금으로 사용)
+    private final IntHashSet protectedEntityIds = new IntHashSet();
+
+    // 폭발 데미지 핸들러 등록 여부 (protectedEntityIds 잠금 보유 시에만 변경)
+    private volatile boolean explosionHandlerRegistered;
+
+    // 이전 버전(무작위 UUID) 모디파이어 정리 완료 표시 (플레이어 PDC)
+    private final NamespacedKey legacyCleanedKey;
+
     public KnockbackListener(KnockbackScroll plugin) {
         this.plugin = plugin;
+        this.state = plugin.getPlayerState();
+        this.legacyCleanedKey = new NamespacedKey(plugin, "legacy_modifiers_cleaned");
+    }
+
+    /**
+     * 넉백 저항 속성 적용 (완전 무효화)
+     */
+    public void applyKnockbackResistance(Player player) {
+        applyKnockbackResistance(player, FULL_RESISTANCE);
     }
 
     /**
      * 넉백 저항 속성 적용
      * 효과 활성화 시 호출
+     *
+     * 같은 수치가 이미 적용되어 있으면 아무것도 하지 않습니다. (속성 갱신 패킷 없음)
+     * @param resistance 넉백 저항 수치 (0.0 ~ 1.0)
      */
-    public void applyKnockbackResistance(Player player) {
+    public void applyKnockbackResistance(Player player, double resistance) {
+        PlayerScrollData data = state.getOrCreate(player.getUniqueId());
+        AttributeModifier current = data.getModifier();
+        if (current != null && current.getAmount() == resistance) {
+            return;
+        }
+
         AttributeInstance attribute = player.getAttribute(Attribute.GENERIC_KNOCKBACK_RESISTANCE);
         if (attribute == null) {
             return;
         }
 
-        UUID uuid = player.getUniqueId();
-
-        // 이미 적용되어 있으면 제거 후 재적용
-        removeKnockbackResistance(player);
+        ScrollMetrics metrics = plugin.getMetrics();
+        long start = metrics.startTimer();
 
-        // 넉백 저항 1.0 = 100% 넉백 무효화
-        AttributeModifier modifier = new AttributeModifier(
-            UUID.randomUUID(),
-            MODIFIER_NAME,
-            1.0,
-            AttributeModifier.Operation.ADD_NUMBER
-        );
+        // 기본 수치는 공유 모디파이어 사용, 그 외 수치만 새로 생성 (UUID는 동일)
+        AttributeModifier modifier = resistance == FULL_RESISTANCE ? MODIFIER
+            : new AttributeModifier(MODIFIER_UUID, MODIFIER_NAME, resistance, AttributeModifier.Operation.ADD_NUMBER);
 
+        // 기존 수치나 추적하지 못한 같은 UUID 모디파이어가 남아있으면 추가가 실패하므로 먼저 제거
+        // (UUID 조회 1회, 없으면 패킷도 발생하지 않음)
+        attribute.removeModifier(current != null ? current : MODIFIER);
         attribute.addModifier(modifier);
-        appliedModifiers.put(uuid, modifier);
+        data.setModifier(modifier);
+
+        metrics.stopTimer(metrics.attributeApply, start);
     }
 
     /**
      * 넉백 저항 속성 제거
      * 효과 만료 시 호출
+     *
+     * 고정 UUID로 제거하므로 다른 모디파이어 수와 무관하게 O(1)이며,
+     * 모디파이어가 없으면 속성 갱신 패킷도 발생하지 않습니다.
      */
     public void removeKnockbackResistance(Player player) {
         AttributeInstance attribute = player.getAttribute(Attribute.GENERIC_KNOCKBACK_RESISTANCE);
@@ -74,31 +129,148 @@ public class KnockbackListener implements Listener {
             return;
         }
 
-        UUID uuid = player.getUniqueId();
-        AttributeModifier existingModifier = appliedModifiers.remove(uuid);
+        ScrollMetrics metrics = plugin.getMetrics();
+        long start = metrics.startTimer();
+
+        AttributeModifier current = null;
+        PlayerScrollData data = state.get(player.getUniqueId());
+        if (data != null) {
+            current = data.getModifier();
+            data.setModifier(null);
+        }
+        attribute.removeModifier(current != null ? current : MODIFIER);
+
+        metrics.stopTimer(metrics.attributeRemove, start);
+    }
+
+    /**
+     * 넉백 저항 속성 재적용 (리스폰으로 속성이 초기화된 경우)
+     * 적용되어 있던 수치를 그대로 다시 적용합니다.
+     */
+    public void reapplyKnockbackResistance(Player player) {
+        PlayerScrollData data = state.get(player.getUniqueId());
+        AttributeModifier current = data == null ? null : data.getModifier();
+        double resistance = current != null ? current.getAmount() : FULL_RESISTANCE;
+
+        removeKnockbackResistance(player);
+        applyKnockbackResistance(player, resistance);
+    }
+
+    /**
+     * 이전 버전에서 무작위 UUID로 추가된 모디파이어 정리 (플레이어당 최초 1회)
+     * 이름으로 전체 모디파이어를 훑는 작업이므로, 완료 여부를 플레이어 PDC에 기록해 두고 다시 하지 않습니다.
+     * 접속 시 호출
+     */
+    public void removeLegacyModifiers(Player player) {
+        PersistentDataContainer container = player.getPersistentDataContainer();
+        if (container.has(legacyCleanedKey, PersistentDataType.BYTE)) {
+            return;
+        }
+
+        AttributeInstance attribute = player.getAttribute(Attribute.GENERIC_KNOCKBACK_RESISTANCE);
+        if (attribute != null) {
+            // ConcurrentModificationException 방지를 위해 복사본 생성 후 순회
+            List<AttributeModifier> toRemove = new ArrayList<>();
+            for (AttributeModifier mod : attribute.getModifiers()) {
+                if (MODIFIER_NAME.equals(mod.getName()) && !MODIFIER_UUID.equals(mod.getUniqueId())) {
+                    toRemove.add(mod);
+                }
+            }
+            for (AttributeModifier mod : toRemove) {
+                attribute.removeModifier(mod);
+            }
+        }
+
+        container.set(legacyCleanedKey, PersistentDataType.BYTE, (byte) 1);
+    }
+
+    // ===== 폭발 보호 =====
+
+    /**
+     * 폭발 보호 대상 등록
+     * 첫 대상이 등록될 때 폭발 데미지 핸들러를 등록합니다.
+     * 효과 활성화 시 호출 (리스폰 후에도 확인차 호출하지만, 엔티티 ID가 유지되므로 이미 등록되어 있으면 바로 반환)
+     */
+    public void protect(Player player) {
+        PlayerScrollData data = state.getOrCreate(player.getUniqueId());
+        int entityId = player.getEntityId();
+        int previous = data.getProtectedEntityId();
+        if (previous == entityId) {
+            return;
+        }
+        synchronized (protectedEntityIds) {
+            if (previous >= 0) {
+                protectedEntityIds.remove(previous);
+            }
+            protectedEntityIds.add(entityId);
+            data.setProtectedEntityId(entityId);
+
+            if (!explosionHandlerRegistered) {
+                plugin.getServer().getPluginManager().registerEvent(EntityDamageEvent.class, this,
+                    EventPriority.HIGHEST, (listener, event) -> {
+                        if (event instanceof EntityDamageEvent damageEvent) {
+                            onExplosionDamage(damageEvent);
+                        }
+                    }, plugin, true);
+                explosionHandlerRegistered = true;
+            }
+        }
+    }
 
-        if (existingModifier != null) {
-            attribute.removeModifier(existingModifier);
+    /**
+     * 폭발 보호 대상 해제
+     * 마지막 대상이 해제되면 폭발 데미지 핸들러도 해제합니다.
+     * 효과 만료/퇴장 시 호출
+     */
+    public void unprotect(UUID uuid) {
+        PlayerScrollData data = state.get(uuid);
+        if (data == null) {
+            return;
+        }
+        int entityId = data.getProtectedEntityId();
+        if (entityId < 0) {
+            return;
         }
+        synchronized (protectedEntityIds) {
+            protectedEntityIds.remove(entityId);
+            data.setProtectedEntityId(-1);
 
-        // 혹시 이름으로 남아있는 모디파이어도 정리
-        // ConcurrentModificationException 방지를 위해 복사본 생성 후 순회
-        List<AttributeModifier> toRemove = new ArrayList<>();
-        for (AttributeModifier mod : attribute.getModifiers()) {
-            if (MODIFIER_NAME.equals(mod.getName())) {
-                toRemove.add(mod);
+            if (protectedEntityIds.isEmpty()) {
+                unregisterExplosionHandler();
             }
         }
-        for (AttributeModifier mod : toRemove) {
-            attribute.removeModifier(mod);
+    }
+
+    /**
+     * 모든 폭발 보호 대상 해제
+     */
+    public void unprotectAll() {
+        synchronized (protectedEntityIds) {
+            protectedEntityIds.clear();
+            state.clearProtectedEntityIds();
+            unregisterExplosionHandler();
+        }
+    }
+
+    /**
+     * 폭발 데미지 핸들러 등록 여부 (테스트/진단용)
+     */
+    public boolean isExplosionHandlerRegistered() {
+        return explosionHandlerRegistered;
+    }
+
+    private void unregisterExplosionHandler() {
+        if (explosionHandlerRegistered) {
+            EntityDamageEvent.getHandlerList().unregister(this);
+            explosionHandlerRegistered = false;
         }
     }
 
     /**
      * 폭발 데미지 넉백도 무효화 (Attribute로 이미 처리되지만 보험용)
+     * 효과가 활성화된 플레이어가 있는 동안에만 등록됩니다. ({@link #protect})
      */
-    @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
-    public void onExplosionDamage(EntityDamageEvent event) {
+    private void onExplosionDamage(EntityDamageEvent event) {
         if (event instanceof EntityDamageByEntityEvent) {
             return;
         }
@@ -109,17 +281,21 @@ public class KnockbackListener implements Listener {
             return;
         }
 
-        if (!(event.getEntity() instanceof Player player)) {
+        // 보호 대상 엔티티 ID만 확인 (박싱/UUID 조회 없음)
+        Entity entity = event.getEntity();
+        if (!(entity instanceof Player player)) {
             return;
         }
-
-        if (!plugin.getEffectManager().hasActiveEffect(player)) {
-            return;
+        synchronized (protectedEntityIds) {
+            if (!protectedEntityIds.contains(entity.getEntityId())) {
+                return;
+            }
         }
 
-        // Attribute가 이미 적용되어 있으므로 추가 처리 불필요
+        // Attribute가 이미 적용되어 있으면 아무것도 하지 않음 (타입별 수치 유지)
         // 혹시 모를 경우를 대비해 속성 재확인
-        if (!appliedModifiers.containsKey(player.getUniqueId())) {
+        PlayerScrollData data = state.get(player.getUniqueId());
+        if (data == null || data.getModifier() == null) {
             applyKnockbackResistance(player);
         }
     }
@@ -128,13 +304,17 @@ public class KnockbackListener implements Listener {
      * 데이터 정리 (플레이어 퇴장 시)
      */
     public void cleanup(UUID uuid) {
-        appliedModifiers.remove(uuid);
+        PlayerScrollData data = state.get(uuid);
+        if (data != null) {
+            data.setModifier(null);
+        }
     }
 
     /**
      * 모든 데이터 정리 (플러그인 비활성화 시)
      */
     public void clear() {
-        appliedModifiers.clear();
+        state.clearModifiers();
+        unprotectAll();
     }
 }
@@ -0,0 +1,82 @@
+package kr.minex.knockbackscroll.listeners;
+
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerRespawnEvent;
+import org.bukkit.event.player.PlayerTeleportEvent;
+import kr.minex.knockbackscroll.managers.PlayerGrid;
+
+/**
+ * 플레이어 위치 격자 갱신 리스너
+ * 이동 이벤트는 매우 자주 발생하므로, 격자가 꺼져 있거나 블록 좌표가 그대로면 잠금 없이 바로 반환합니다.
+ */
+public class PlayerGridListener implements Listener {
+
+    private final PlayerGrid grid;
+
+    public PlayerGridListener(PlayerGrid grid) {
+        this.grid = grid;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onJoin(PlayerJoinEvent event) {
+        Player player = event.getPlayer();
+        if (grid.isEnabled()) {
+            grid.update(player, player.getLocation());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        if (grid.isEnabled()) {
+            grid.remove(event.getPlayer().getUniqueId());
+        }
+    }
+
+    /**
+     * 이동 - 블록 좌표가 바뀐 경우에만 갱신 (시선만 돌리거나 블록 안에서 움직이면 무시)
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onMove(PlayerMoveEvent event) {
+        if (!grid.isEnabled()) {
+            return;
+        }
+        Location from = event.getFrom();
+        Location to = event.getTo();
+        if (to == null || (from.getBlockX() == to.getBlockX()
+                && from.getBlockY() == to.getBlockY()
+                && from.getBlockZ() == to.getBlockZ())) {
+            return;
+        }
+        grid.update(event.getPlayer(), to);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onTeleport(PlayerTeleportEvent event) {
+        if (grid.isEnabled() && event.getTo() != null) {
+            grid.update(event.getPlayer(), event.getTo());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChangedWorld(PlayerChangedWorldEvent event) {
+        Player player = event.getPlayer();
+        if (grid.isEnabled()) {
+            grid.update(player, player.getLocation());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onRespawn(PlayerRespawnEvent event) {
+        if (grid.isEnabled()) {
+            grid.update(event.getPlayer(), event.getRespawnLocation());
+        }
+    }
+}
@@ -1,21 +1,35 @@
 package kr.minex.knockbackscroll.listeners;
 
-import org.bukkit.Sound;
+import org.bukkit.Material;
+import org.bukkit.entity.HumanEntity;
 import org.bukkit.entity.Player;
+import org.bukkit.event.Event;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.block.Action;
+import org.bukkit.event.entity.EntityPickupItemEvent;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryDragEvent;
+import org.bukkit.event.player.PlayerDropItemEvent;
 import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.event.player.PlayerItemHeldEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerRespawnEvent;
+import org.bukkit.event.player.PlayerSwapHandItemsEvent;
 import org.bukkit.inventory.EquipmentSlot;
 import org.bukkit.inventory.ItemStack;
 import kr.minex.knockbackscroll.KnockbackScroll;
-import kr.minex.knockbackscroll.config.ConfigManager;
+import kr.minex.knockbackscroll.api.event.ScrollCause;
+import kr.minex.knockbackscroll.config.ScrollConfig;
 import kr.minex.knockbackscroll.managers.CooldownManager;
 import kr.minex.knockbackscroll.managers.EffectManager;
+import kr.minex.knockbackscroll.managers.FeedbackThrottle;
+import kr.minex.knockbackscroll.managers.PlayerScrollData;
 import kr.minex.knockbackscroll.managers.ScrollManager;
+import kr.minex.knockbackscroll.metrics.ScrollMetrics;
+import kr.minex.knockbackscroll.models.ScrollType;
 
 import java.util.UUID;
 
@@ -26,17 +40,27 @@ public class ScrollUseListener implements Listener {
 
     private final KnockbackScroll plugin;
 
+    // 쿨타임/이미 활성화됨 안내 전송 제한
+    private final FeedbackThrottle feedbackThrottle;
+
     public ScrollUseListener(KnockbackScroll plugin) {
         this.plugin = plugin;
+        this.feedbackThrottle = new FeedbackThrottle(plugin);
     }
 
     /**
      * 우클릭 상호작용 이벤트 처리
      * - 주문서 여부 확인
-     * - 쿨타임 체크
-     * - 효과 발동
+     * - 쿨타임 체크, 이미 활성화된 효과 처리 방식 확인 (거부/연장/갱신)
+     * - 아이템 소모 (소모형 타입, 소모하지 못하면 발동하지 않음)
+     * - 효과 발동 (이벤트로 취소되면 소모한 주문서를 돌려줌)
      * - 소리 재생
-     * - 아이템 소모 (1회용)
+     *
+     * 서버의 모든 우클릭마다 호출되므로, 주문서가 아닌 클릭은
+     * 아이템 데이터(ItemMeta)를 읽지 않고 최대한 일찍 반환합니다.
+     *
+     * 허공 우클릭은 클릭한 블록이 없어 처음부터 취소 상태(isCancelled)로 들어오므로
+     * ignoreCancelled 대신 아이템 사용 결과(useItemInHand)가 DENY인지로 다른 플러그인의 차단을 확인합니다.
      */
     @EventHandler(priority = EventPriority.HIGH)
     public void onPlayerInteract(PlayerInteractEvent event) {
@@ -46,19 +70,50 @@ public class ScrollUseListener implements Listener {
             return;
         }
 
+        // 다른 플러그인이 아이템 사용을 막은 클릭은 무시
+        if (event.useItemInHand() == Event.Result.DENY) {
+            return;
+        }
+
         // 메인핸드만 처리 (중복 이벤트 방지)
         if (event.getHand() != EquipmentSlot.HAND) {
             return;
         }
 
+        // 아이템 종류 화이트리스트 (ItemStack 복사 없음)
+        Material material = event.getMaterial();
+        ScrollMetrics metrics = plugin.getMetrics();
+        if (!plugin.getConfigManager().isScrollMaterial(material)) {
+            metrics.scrollCheckFiltered.increment();
+            return;
+        }
+
+        // 화이트리스트를 통과한 클릭만 처리 시간 측정
+        long start = metrics.startTimer();
+        try {
+            handleScrollInteract(event, material, metrics);
+        } finally {
+            metrics.stopTimer(metrics.interact, start);
+        }
+    }
+
+    /**
+     * 화이트리스트를 통과한 우클릭 처리
+     */
+    private void handleScrollInteract(PlayerInteractEvent event, Material material, ScrollMetrics metrics) {
         Player player = event.getPlayer();
-        ItemStack item = player.getInventory().getItemInMainHand();
 
-        // 주문서 확인
+        // 플레이어 상태 조회 (판별 캐시/쿨타임/효과 확인에 공용)
+        PlayerScrollData data = plugin.getPlayerState().get(player.getUniqueId());
+
+        // 주문서 확인 (캐시 미스일 때만 ItemMeta 확인)
         ScrollManager scrollManager = plugin.getScrollManager();
-        if (!scrollManager.isKnockbackScroll(item)) {
+        ScrollType type = scrollManager.getHeldScrollType(player, data, material);
+        if (type == null) {
+            metrics.scrollCheckMisses.increment();
             return;
         }
+        metrics.scrollCheckHits.increment();
 
         // 사용 권한 확인
         if (!player.hasPermission("knockbackscroll.use")) {
@@ -72,40 +127,128 @@ public class ScrollUseListener implements Listener {
         CooldownManager cooldownManager = plugin.getCooldownManager();
         EffectManager effectManager = plugin.getEffectManager();
 
-        // 쿨타임 체크
-        if (cooldownManager.isOnCooldown(player)) {
-            long remaining = cooldownManager.getRemainingCooldown(player);
-            plugin.getMessageManager().sendActionBar(player, "cooldown.action-bar", "remaining", remaining);
+        // 쿨타임 체크 (남은 시간 계산 한 번으로 판정, 같은 초의 안내는 다시 보내지 않음)
+        long remainingCooldown = cooldownManager.getRemainingCooldown(data);
+        if (remainingCooldown > 0) {
+            metrics.cooldownRejections.increment();
+            if (feedbackThrottle.tryAcquire(data, FeedbackThrottle.KIND_COOLDOWN, remainingCooldown)) {
+                plugin.getMessageManager().sendActionBar(player, "cooldown.action-bar", (int) remainingCooldown);
+            }
             return;
         }
 
-        // 이미 효과가 활성화되어 있는지 확인
-        if (effectManager.hasActiveEffect(player)) {
-            plugin.getMessageManager().send(player, "effect.already-active");
-            return;
+        // 이미 효과가 활성화되어 있으면 중복 사용 처리 방식에 따라 연장/갱신, 늘어나지 않으면 거부
+        long remainingEffect = effectManager.getRemainingEffectTime(data);
+        boolean extended = remainingEffect > 0;
+        long stackedEnd = 0L;
+        if (extended) {
+            stackedEnd = effectManager.getStackedEndTime(data, type);
+            if (stackedEnd == 0L) {
+                // 안내 문구에 남은 시간이 없으므로 값을 고정하여 효과가 바뀔 때까지 한 번만 안내
+                if (feedbackThrottle.tryAcquire(data, FeedbackThrottle.KIND_ALREADY_ACTIVE, 0)) {
+                    plugin.getMessageManager().send(player, "effect.already-active");
+                }
+                return;
+            }
         }
 
-        // 주문서 소모 (1회용인 경우)
-        if (!scrollManager.consumeScroll(player, item)) {
+        // 주문서 소모 (소모형 타입인 경우, 발동 전에 처리하여 실제로 쓴 주문서만 이벤트/기록에 남김)
+        // 판별 이후 손의 아이템이 바뀌어 소모하지 못하면 발동하지 않고 종료
+        ItemStack item = player.getInventory().getItemInMainHand();
+        ItemStack consumed = type.isConsumable() ? item.clone() : null;
+        if (!scrollManager.consumeScroll(player, item, type)) {
+            scrollManager.invalidateHeldCache(player);
             return;
         }
 
-        // 효과 활성화
-        effectManager.activateEffect(player);
+        // 효과 연장(만료 예약만 옮기고 속성은 그대로) 또는 활성화 (타입별 지속시간/저항 수치)
+        // 이벤트로 취소되면 소모한 주문서를 돌려주고 쿨타임 없이 종료
+        boolean applied = extended
+                ? effectManager.extendEffect(player, data, type, stackedEnd, ScrollCause.SCROLL)
+                : effectManager.activateEffect(player, type);
+        if (!applied) {
+            if (consumed != null) {
+                scrollManager.returnScroll(player, consumed);
+            }
+            return;
+        }
+        plugin.getAuditManager().logUse(player, type);
 
-        // 쿨타임 설정
-        cooldownManager.setCooldown(player);
+        // 쿨타임 설정 (타입별)
+        cooldownManager.startCooldown(player, type, type.getCooldownSeconds() * 1000L, ScrollCause.SCROLL);
 
         // 소리 재생 (주변 플레이어도 들을 수 있음)
-        ConfigManager configManager = plugin.getConfigManager();
-        Sound sound = configManager.getActivateSound();
-        float volume = configManager.getActivateSoundVolume();
-        float pitch = configManager.getActivateSoundPitch();
-        player.getWorld().playSound(player.getLocation(), sound, volume, pitch);
-
-        // 효과 활성화 메시지
-        int duration = configManager.getDurationSeconds();
-        plugin.getMessageManager().send(player, "effect.activated", "duration", duration);
+        ScrollConfig config = plugin.getConfigManager().getSnapshot();
+        player.getWorld().playSound(player.getLocation(), config.activateSound(),
+                config.activateSoundVolume(), config.activateSoundPitch());
+
+        // 효과 활성화 메시지 (이벤트로 바뀐 지속시간도 반영되도록 남은 시간 기준)
+        plugin.getMessageManager().send(player, extended ? "effect.extended" : "effect.activated", "duration",
+                effectManager.getRemainingEffectTime(player));
+
+        // 광역 주문서: 주변 아군에게도 효과 부여
+        if (type.isParty()) {
+            int count = effectManager.activatePartyEffect(player, type);
+            if (count > 0) {
+                plugin.getMessageManager().send(player, "effect.party-activated", "count", count);
+            }
+        }
+    }
+
+    /**
+     * 손에 든 주문서 판별 캐시 무효화 - 핫바 슬롯 변경
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onItemHeld(PlayerItemHeldEvent event) {
+        plugin.getScrollManager().invalidateHeldCache(event.getPlayer());
+    }
+
+    /**
+     * 손에 든 주문서 판별 캐시 무효화 - 양손 교체
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onSwapHandItems(PlayerSwapHandItemsEvent event) {
+        plugin.getScrollManager().invalidateHeldCache(event.getPlayer());
+    }
+
+    /**
+     * 손에 든 주문서 판별 캐시 무효화 - 아이템 버리기
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onDropItem(PlayerDropItemEvent event) {
+        plugin.getScrollManager().invalidateHeldCache(event.getPlayer());
+    }
+
+    /**
+     * 손에 든 주문서 판별 캐시 무효화 - 아이템 줍기
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPickupItem(EntityPickupItemEvent event) {
+        if (event.getEntity() instanceof Player player) {
+            plugin.getScrollManager().invalidateHeldCache(player);
+        }
+    }
+
+    /**
+     * 손에 든 주문서 판별 캐시 무효화 - 인벤토리 클릭
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onInventoryClick(InventoryClickEvent event) {
+        invalidateHeldCache(event.getWhoClicked());
+    }
+
+    /**
+     * 손에 든 주문서 판별 캐시 무효화 - 인벤토리 드래그
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onInventoryDrag(InventoryDragEvent event) {
+        invalidateHeldCache(event.getWhoClicked());
+    }
+
+    private void invalidateHeldCache(HumanEntity entity) {
+        if (entity instanceof Player player) {
+            plugin.getScrollManager().invalidateHeldCache(player);
+        }
     }
 
     /**
@@ -118,10 +261,34 @@ public class ScrollUseListener implements Listener {
     public void onPlayerJoin(PlayerJoinEvent event) {
         Player player = event.getPlayer();
 
-        // 효과 데이터가 없는데 속성이 남아있다면 정리
-        if (!plugin.getEffectManager().hasActiveEffect(player)) {
-            plugin.getKnockbackListener().removeKnockbackResistance(player);
-        }
+        // 플레이어 상태 생성
+        plugin.getPlayerState().getOrCreate(player.getUniqueId());
+
+        // 플레이어 데이터에 남아있는 속성 정리 (비정상 종료 대비, 이전 버전 모디파이어는 최초 1회만 검사)
+        KnockbackListener knockbackListener = plugin.getKnockbackListener();
+        knockbackListener.removeLegacyModifiers(player);
+        knockbackListener.removeKnockbackResistance(player);
+
+        // 저장된 쿨타임/효과 복구 (효과가 남아있으면 속성 재적용)
+        plugin.getPersistenceManager().restore(player);
+    }
+
+    /**
+     * 리스폰 시 효과 유지
+     * 리스폰해도 같은 플레이어 객체와 엔티티 ID가 유지되지만 속성(attribute)은 초기화되므로, 다음 틱에 다시 적용
+     * (폭발 보호 등록은 엔티티 ID가 같으면 그대로 유지되며, 확인만 하고 반환)
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerRespawn(PlayerRespawnEvent event) {
+        Player player = event.getPlayer();
+        plugin.getScrollScheduler().runForEntity(player, () -> {
+            if (!player.isOnline() || !plugin.getEffectManager().hasActiveEffect(player)) {
+                return;
+            }
+            KnockbackListener knockbackListener = plugin.getKnockbackListener();
+            knockbackListener.reapplyKnockbackResistance(player);
+            knockbackListener.protect(player);
+        });
     }
 
     /**
@@ -139,12 +306,18 @@ public class ScrollUseListener implements Listener {
         UUID uuid = player.getUniqueId();
 
         // 항상 Bukkit Attribute 제거 시도 (Player 객체가 유효한 이 시점에서)
-        // removeKnockbackResistance 내부에서 appliedModifiers도 정리됨
+        // removeKnockbackResistance 내부에서 플레이어 상태의 모디파이어 참조도 정리됨
         plugin.getKnockbackListener().removeKnockbackResistance(player);
 
+        // 재접속/재시작 시 복구할 상태 보관 (정리 전에 호출)
+        plugin.getPersistenceManager().saveOnQuit(uuid);
+
         // 메모리 데이터 정리 (쿨타임, 효과 데이터)
         // 참고: KnockbackListener.cleanup()은 removeKnockbackResistance()에서 이미 처리됨
         plugin.getCooldownManager().cleanup(uuid);
         plugin.getEffectManager().cleanup(uuid);
+
+        // 플레이어 상태 제거
+        plugin.getPlayerState().remove(uuid);
     }
 }
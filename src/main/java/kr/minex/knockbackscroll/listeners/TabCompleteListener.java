@@ -0,0 +1,43 @@
+package kr.minex.knockbackscroll.listeners;
+
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.world.WorldLoadEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
+import kr.minex.knockbackscroll.commands.ScrollTabCompleter;
+
+/**
+ * 탭 완성 대상 후보 갱신 리스너
+ * 접속/퇴장과 월드 로드/언로드 때 후보를 하나씩 추가/제거하여, 탭 완성 시 전체 목록을 다시 만들지 않습니다.
+ */
+public class TabCompleteListener implements Listener {
+
+    private final ScrollTabCompleter completer;
+
+    public TabCompleteListener(ScrollTabCompleter completer) {
+        this.completer = completer;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onJoin(PlayerJoinEvent event) {
+        completer.addPlayer(event.getPlayer().getName());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        completer.removePlayer(event.getPlayer().getName());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onWorldLoad(WorldLoadEvent event) {
+        completer.addWorld(event.getWorld().getName());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onWorldUnload(WorldUnloadEvent event) {
+        completer.removeWorld(event.getWorld().getName());
+    }
+}
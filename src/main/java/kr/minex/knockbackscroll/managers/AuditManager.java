@@ -0,0 +1,113 @@
+package kr.minex.knockbackscroll.managers;
+
+import org.bukkit.Location;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import kr.minex.knockbackscroll.KnockbackScroll;
+import kr.minex.knockbackscroll.config.ScrollConfig;
+import kr.minex.knockbackscroll.models.ScrollType;
+import kr.minex.knockbackscroll.storage.AuditLog;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.logging.Level;
+
+/**
+ * 주문서 생성/지정/사용 감사 로그 관리 클래스
+ * 호출 스레드에서는 기록할 값만 담아 큐에 넣고, 파일 쓰기는 감사 로그의 쓰기 스레드가 처리합니다.
+ * 큐가 가득 차면 기록을 버리고 {@link kr.minex.knockbackscroll.metrics.ScrollMetrics#auditDropped}에 집계합니다.
+ *
+ * 감사 로그가 비활성화되었거나 파일을 열지 못하면 아무것도 기록하지 않습니다.
+ */
+public class AuditManager {
+
+    // 저장 폴더 이름 (플러그인 데이터 폴더 하위)
+    private static final String AUDIT_DIRECTORY = "audit";
+
+    private final KnockbackScroll plugin;
+
+    // 감사 로그 (비활성화 시 null)
+    private AuditLog auditLog;
+
+    public AuditManager(KnockbackScroll plugin) {
+        this.plugin = plugin;
+
+        ScrollConfig config = plugin.getConfigManager().getSnapshot();
+        if (!config.auditEnabled()) {
+            return;
+        }
+
+        try {
+            auditLog = AuditLog.open(plugin.getDataFolder().toPath().resolve(AUDIT_DIRECTORY),
+                    new AuditLog.Options(config.auditQueueCapacity(), config.auditFlushIntervalMillis(),
+                            config.auditRotateBytes(), config.auditRotateIntervalMillis(), config.auditCompress()),
+                    System::currentTimeMillis, plugin.getLogger());
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.SEVERE, "감사 로그를 열지 못해 주문서 생성/사용이 기록되지 않습니다.", e);
+            auditLog = null;
+        }
+    }
+
+    /**
+     * 주문서 생성(지급) 기록
+     * @param sender 명령어 실행자
+     * @param type 주문서 타입
+     * @param amount 1인당 수량
+     * @param target 대상 인자 (플레이어 이름, @a, world:&lt;월드&gt;)
+     * @param recipients 받은 인원
+     */
+    public void logCreate(CommandSender sender, ScrollType type, int amount, String target, int recipients) {
+        if (auditLog == null) {
+            return;
+        }
+        UUID actorId = sender instanceof Player player ? player.getUniqueId() : null;
+        append(AuditLog.Entry.create(System.currentTimeMillis(), sender.getName(), actorId,
+                type.getId(), amount, target, recipients));
+    }
+
+    /**
+     * 손에 든 아이템을 주문서로 지정한 기록
+     * @param player 실행한 플레이어
+     * @param type 주문서 타입
+     * @param item 변환한 아이템
+     */
+    public void logConvert(Player player, ScrollType type, ItemStack item) {
+        if (auditLog == null) {
+            return;
+        }
+        append(AuditLog.Entry.convert(System.currentTimeMillis(), player.getName(), player.getUniqueId(),
+                type.getId(), item.getType().name(), item.getAmount()));
+    }
+
+    /**
+     * 주문서 사용 기록 (플레이어를 소유한 스레드에서 호출)
+     * @param player 사용한 플레이어
+     * @param type 주문서 타입
+     */
+    public void logUse(Player player, ScrollType type) {
+        if (auditLog == null) {
+            return;
+        }
+        Location location = player.getLocation();
+        append(AuditLog.Entry.use(System.currentTimeMillis(), player.getName(), player.getUniqueId(),
+                type.getId(), location.getWorld() == null ? null : location.getWorld().getName(),
+                location.getBlockX(), location.getBlockY(), location.getBlockZ()));
+    }
+
+    /**
+     * 대기 중인 기록을 모두 쓰고 감사 로그 닫기
+     */
+    public void shutdown() {
+        if (auditLog != null) {
+            auditLog.close();
+            auditLog = null;
+        }
+    }
+
+    private void append(AuditLog.Entry entry) {
+        if (!auditLog.append(entry)) {
+            plugin.getMetrics().auditDropped.increment();
+        }
+    }
+}
@@ -1,26 +1,30 @@
 package kr.minex.knockbackscroll.managers;
 
+import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import kr.minex.knockbackscroll.KnockbackScroll;
+import kr.minex.knockbackscroll.api.event.ScrollCause;
+import kr.minex.knockbackscroll.api.event.ScrollCooldownStartEvent;
+import kr.minex.knockbackscroll.models.ScrollType;
 import kr.minex.knockbackscroll.utils.TimeUtils;
 
-import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 플레이어별 쿨타임 관리 클래스
- * 메모리 기반으로 관리 (서버 재시작 시 초기화)
+ * 메모리에서 관리하고, 변경 시 {@link PersistenceManager}를 통해 저널에 기록 (재시작 후 복구)
+ * 시각은 {@link kr.minex.knockbackscroll.utils.ScrollClock} 기준
  */
 public class CooldownManager {
 
     private final KnockbackScroll plugin;
 
-    // UUID -> 쿨타임 종료 시각 (밀리초)
-    private final Map<UUID, Long> cooldowns = new ConcurrentHashMap<>();
+    // 쿨타임 종료 시각 (ScrollClock 기준 밀리초)은 플레이어 상태에 보관
+    private final PlayerScrollState state;
 
     public CooldownManager(KnockbackScroll plugin) {
         this.plugin = plugin;
+        this.state = plugin.getPlayerState();
     }
 
     /**
@@ -28,9 +32,62 @@ public class CooldownManager {
      * @param player 대상 플레이어
      */
     public void setCooldown(Player player) {
-        int cooldownSeconds = plugin.getConfigManager().getCooldownSeconds();
-        long endTime = System.currentTimeMillis() + (cooldownSeconds * 1000L);
-        cooldowns.put(player.getUniqueId(), endTime);
+        int cooldownSeconds = plugin.getConfigManager().getSnapshot().cooldownSeconds();
+        setCooldown(player, cooldownSeconds * 1000L);
+    }
+
+    /**
+     * {@link ScrollCooldownStartEvent}를 호출한 뒤 쿨타임 설정
+     * 리스너가 없으면 이벤트 객체를 만들지 않고 바로 설정합니다.
+     * @param player 대상 플레이어
+     * @param type 주문서 타입 (API 설정은 null)
+     * @param durationMillis 쿨타임 (밀리초)
+     * @param cause 쿨타임 시작 원인
+     * @return 설정되면 true, 이벤트가 취소되면 false
+     */
+    public boolean startCooldown(Player player, ScrollType type, long durationMillis, ScrollCause cause) {
+        if (ScrollCooldownStartEvent.hasListeners()) {
+            ScrollCooldownStartEvent event = new ScrollCooldownStartEvent(player, type, cause, durationMillis);
+            Bukkit.getPluginManager().callEvent(event);
+            if (event.isCancelled()) {
+                return false;
+            }
+            durationMillis = event.getDurationMillis();
+        }
+        setCooldown(player, durationMillis);
+        return true;
+    }
+
+    /**
+     * 지정한 시간만큼 쿨타임 설정 (이벤트 없음, 저장된 쿨타임 복구 등 내부 처리용)
+     * @param player 대상 플레이어
+     * @param durationMillis 쿨타임 (밀리초)
+     */
+    public void setCooldown(Player player, long durationMillis) {
+        UUID uuid = player.getUniqueId();
+        long endTime = plugin.getScrollClock().now() + durationMillis;
+        PlayerScrollData data = state.getOrCreate(uuid);
+        data.setCooldownEnd(endTime);
+        // 새 쿨타임의 첫 안내는 이전 기록과 같은 초여도 보냄
+        data.setFeedbackShown(0);
+        plugin.getPersistenceManager().recordCooldown(uuid, endTime);
+    }
+
+    /**
+     * 남은 쿨타임이 지정한 시간보다 짧을 때만 늘림 (광역 주문서로 효과를 받은 경우)
+     * @param player 대상 플레이어
+     * @param type 사용된 광역 주문서 타입
+     * @param durationMillis 최소 쿨타임 (밀리초, 0 이하면 무시)
+     */
+    public void extendCooldown(Player player, ScrollType type, long durationMillis) {
+        if (durationMillis <= 0L) {
+            return;
+        }
+        PlayerScrollData data = state.get(player.getUniqueId());
+        long endTime = plugin.getScrollClock().now() + durationMillis;
+        if (data == null || data.getCooldownEnd() < endTime) {
+            startCooldown(player, type, durationMillis, ScrollCause.PARTY);
+        }
     }
 
     /**
@@ -39,15 +96,21 @@ public class CooldownManager {
      * @return 쿨타임 중이면 true
      */
     public boolean isOnCooldown(Player player) {
-        Long endTime = cooldowns.get(player.getUniqueId());
-        if (endTime == null) {
-            return false;
-        }
-        if (System.currentTimeMillis() >= endTime) {
-            cooldowns.remove(player.getUniqueId());
+        return isOnCooldown(state.get(player.getUniqueId()));
+    }
+
+    /**
+     * 쿨타임 중인지 확인 (상태 기준)
+     * @param data 플레이어 상태 (null 허용)
+     * @return 쿨타임 중이면 true
+     */
+    public boolean isOnCooldown(PlayerScrollData data) {
+        if (data == null) {
             return false;
         }
-        return true;
+        // 조회만 하고 저장된 값은 건드리지 않음 (지난 종료 시각은 다음 쿨타임 설정 때 덮어씀)
+        long endTime = data.getCooldownEnd();
+        return endTime != 0L && plugin.getScrollClock().now() < endTime;
     }
 
     /**
@@ -56,11 +119,23 @@ public class CooldownManager {
      * @return 남은 시간 (초), 쿨타임이 아니면 0
      */
     public long getRemainingCooldown(Player player) {
-        Long endTime = cooldowns.get(player.getUniqueId());
-        if (endTime == null) {
+        return getRemainingCooldown(state.get(player.getUniqueId()));
+    }
+
+    /**
+     * 남은 쿨타임 반환 (상태 기준, 초 단위, 올림)
+     * @param data 플레이어 상태 (null 허용)
+     * @return 남은 시간 (초), 쿨타임이 아니면 0
+     */
+    public long getRemainingCooldown(PlayerScrollData data) {
+        if (data == null) {
+            return 0;
+        }
+        long endTime = data.getCooldownEnd();
+        if (endTime == 0L) {
             return 0;
         }
-        return TimeUtils.getRemainingSeconds(endTime);
+        return TimeUtils.getRemainingSeconds(endTime, plugin.getScrollClock().now());
     }
 
     /**
@@ -68,7 +143,8 @@ public class CooldownManager {
      * @param player 대상 플레이어
      */
     public void removeCooldown(Player player) {
-        cooldowns.remove(player.getUniqueId());
+        cleanup(player.getUniqueId());
+        plugin.getPersistenceManager().recordCooldown(player.getUniqueId(), 0L);
     }
 
     /**
@@ -76,13 +152,16 @@ public class CooldownManager {
      * @param uuid 플레이어 UUID
      */
     public void cleanup(UUID uuid) {
-        cooldowns.remove(uuid);
+        PlayerScrollData data = state.get(uuid);
+        if (data != null) {
+            data.setCooldownEnd(0L);
+        }
     }
 
     /**
      * 모든 쿨타임 데이터 정리
      */
     public void clear() {
-        cooldowns.clear();
+        state.clearCooldowns();
     }
 }
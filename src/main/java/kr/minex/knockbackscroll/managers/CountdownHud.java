@@ -0,0 +1,160 @@
+package kr.minex.knockbackscroll.managers;
+
+import net.md_5.bungee.api.ChatMessageType;
+import net.md_5.bungee.api.chat.BaseComponent;
+import net.md_5.bungee.api.chat.TextComponent;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import kr.minex.knockbackscroll.KnockbackScroll;
+import kr.minex.knockbackscroll.config.MessageTemplate;
+import kr.minex.knockbackscroll.config.ScrollConfig;
+import kr.minex.knockbackscroll.metrics.ScrollMetrics;
+import kr.minex.knockbackscroll.scheduler.ScrollTask;
+import kr.minex.knockbackscroll.utils.TimeUtils;
+
+/**
+ * 효과/쿨타임 남은 시간 액션바 표시
+ * 공용 태스크 하나가 매 틱 플레이어 상태를 훑어, 표시할 초가 바뀐 플레이어에게만 패킷을 보냅니다.
+ *
+ * - 효과가 활성화되어 있으면 효과 남은 시간, 아니면 쿨타임 남은 시간 표시
+ * - 마지막으로 보낸 값은 {@link PlayerScrollState}에 보관하여 비교 (같은 초면 전송 안 함)
+ * - 렌더링은 {@link MessageTemplate}의 초별 캐싱 컴포넌트를 재사용 (문자열 생성 없음)
+ * - 플레이어 조회는 전송이 필요할 때만 수행
+ *
+ * Folia에서는 전역 리전 스레드에서 실행되므로 다른 리전 플레이어의 시각 값을 한 틱 늦게 볼 수 있으나,
+ * 표시만 하고 상태를 바꾸지 않으므로 무해합니다. (액션바 전송은 스레드 안전)
+ */
+public class CountdownHud {
+
+    // 표시 종류 (인코딩 하위 1비트)
+    private static final int KIND_EFFECT = 0;
+    private static final int KIND_COOLDOWN = 1;
+
+    // 인코딩할 수 있는 최대 초
+    private static final int MAX_SECONDS = Integer.MAX_VALUE >>> 2;
+
+    // 카운트다운이 끝났을 때 액션바를 지우는 빈 컴포넌트
+    private static final BaseComponent[] CLEAR = { new TextComponent("") };
+
+    private final KnockbackScroll plugin;
+    private final PlayerScrollState state;
+
+    private ScrollTask task;
+
+    public CountdownHud(KnockbackScroll plugin) {
+        this.plugin = plugin;
+        this.state = plugin.getPlayerState();
+    }
+
+    /**
+     * 설정에 따라 표시 시작/정지 (메인 스레드)
+     * @param config 게시된 설정
+     */
+    public void apply(ScrollConfig config) {
+        if (!config.hudEnabled()) {
+            stop();
+        } else if (task == null) {
+            task = plugin.getScrollScheduler().runGlobalTimer(this::tick, 1L, 1L);
+        }
+    }
+
+    /**
+     * 표시 정지 (남아 있는 표시 기록도 초기화)
+     */
+    public void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        state.clearHudShown();
+    }
+
+    /**
+     * 표시 중인지 확인
+     */
+    public boolean isRunning() {
+        return task != null;
+    }
+
+    /**
+     * 모든 플레이어의 표시 값을 갱신하고, 바뀐 플레이어에게만 전송
+     */
+    public void tick() {
+        ScrollMetrics metrics = plugin.getMetrics();
+        long start = metrics.startTimer();
+
+        long now = plugin.getScrollClock().now();
+        MessageTemplate effectTemplate = null;
+        MessageTemplate cooldownTemplate = null;
+
+        for (PlayerScrollData data : state.values()) {
+            int shown = displayValue(data, now);
+            if (shown == data.getHudShown()) {
+                continue;
+            }
+            data.setHudShown(shown);
+
+            Player player = Bukkit.getPlayer(data.getOwner());
+            if (player == null) {
+                continue;
+            }
+
+            BaseComponent[] components;
+            if (shown == 0) {
+                components = CLEAR;
+            } else {
+                MessageTemplate template;
+                if (kindOf(shown) == KIND_EFFECT) {
+                    if (effectTemplate == null) {
+                        effectTemplate = plugin.getMessageManager().getTemplate("hud.effect");
+                    }
+                    template = effectTemplate;
+                } else {
+                    if (cooldownTemplate == null) {
+                        cooldownTemplate = plugin.getMessageManager().getTemplate("hud.cooldown");
+                    }
+                    template = cooldownTemplate;
+                }
+                // 빈 메시지로 설정한 종류는 표시하지 않음
+                if (template == null || template.isEmpty()) {
+                    continue;
+                }
+                components = template.toActionBar(secondsOf(shown));
+            }
+
+            player.spigot().sendMessage(ChatMessageType.ACTION_BAR, components);
+            metrics.hudUpdates.increment();
+        }
+
+        metrics.stopTimer(metrics.hudTick, start);
+    }
+
+    /**
+     * 플레이어의 현재 표시 값 계산
+     * @return (초 << 1 | 종류) + 1, 표시할 것이 없으면 0
+     */
+    private int displayValue(PlayerScrollData data, long now) {
+        long effectEnd = data.getEffectEnd();
+        if (effectEnd != 0L && now < effectEnd) {
+            return encode(KIND_EFFECT, TimeUtils.getRemainingSeconds(effectEnd, now));
+        }
+        long cooldownEnd = data.getCooldownEnd();
+        if (cooldownEnd != 0L && now < cooldownEnd) {
+            return encode(KIND_COOLDOWN, TimeUtils.getRemainingSeconds(cooldownEnd, now));
+        }
+        return 0;
+    }
+
+    private static int encode(int kind, long seconds) {
+        int capped = (int) Math.min(seconds, MAX_SECONDS);
+        return ((capped << 1) | kind) + 1;
+    }
+
+    private static int kindOf(int shown) {
+        return (shown - 1) & 1;
+    }
+
+    private static int secondsOf(int shown) {
+        return (shown - 1) >>> 1;
+    }
+}
@@ -1,44 +1,265 @@
 package kr.minex.knockbackscroll.managers;
 
 import org.bukkit.Bukkit;
+import org.bukkit.GameMode;
+import org.bukkit.attribute.AttributeModifier;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitTask;
+import org.bukkit.scoreboard.Team;
 import kr.minex.knockbackscroll.KnockbackScroll;
+import kr.minex.knockbackscroll.api.event.ScrollActivateEvent;
+import kr.minex.knockbackscroll.api.event.ScrollCause;
+import kr.minex.knockbackscroll.api.event.ScrollEffectExpireEvent;
+import kr.minex.knockbackscroll.config.ScrollConfig;
+import kr.minex.knockbackscroll.listeners.KnockbackListener;
+import kr.minex.knockbackscroll.metrics.ScrollMetrics;
+import kr.minex.knockbackscroll.models.ScrollType;
+import kr.minex.knockbackscroll.scheduler.ScrollScheduler;
+import kr.minex.knockbackscroll.scheduler.ScrollTask;
+import kr.minex.knockbackscroll.utils.ScrollClock;
 import kr.minex.knockbackscroll.utils.TimeUtils;
+import kr.minex.knockbackscroll.utils.TimingWheel;
 
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 넉백저항 효과 관리 클래스
  * 효과가 활성화된 플레이어 추적 및 만료 처리
+ *
+ * - 일반 서버: 메인 스레드의 타이밍 휠 하나로 모든 만료를 처리
+ * - Folia: 플레이어마다 엔티티 스케줄러에 만료 작업을 예약하여, 속성 제거가 플레이어의 리전 스레드에서 실행됨
+ *   (재활성화/해제된 효과의 예약은 종료 시각이 달라져 실행 시 무시됨)
  */
 public class EffectManager {
 
+    // 휠 버킷 수 (512틱 = 25.6초, 이보다 긴 지속시간은 바퀴 수로 구분)
+    private static final int WHEEL_SIZE = 512;
+
     private final KnockbackScroll plugin;
 
-    // UUID -> 효과 종료 시각 (밀리초)
-    private final Map<UUID, Long> activeEffects = new ConcurrentHashMap<>();
+    // 효과 종료 시각 (ScrollClock 기준 밀리초)과 만료 예약 핸들은 플레이어 상태에 보관
+    private final PlayerScrollState state;
+
+    // 효과 만료 예약 휠 (틱 단위, 메인 스레드 전용)
+    private final TimingWheel<UUID> expirationWheel = new TimingWheel<>(WHEEL_SIZE);
 
-    // 효과 만료 체크용 스케줄러 태스크
-    private BukkitTask expirationTask;
+    private final ScrollScheduler scheduler;
+
+    // 효과 만료 체크용 스케줄러 태스크 (일반 서버만)
+    private ScrollTask expirationTask;
 
     public EffectManager(KnockbackScroll plugin) {
         this.plugin = plugin;
+        this.state = plugin.getPlayerState();
+        this.scheduler = plugin.getScrollScheduler();
     }
 
     /**
-     * 넉백저항 효과 활성화
+     * 넉백저항 효과 활성화 (기본 지속시간, 완전 무효화)
      * @param player 대상 플레이어
      */
     public void activateEffect(Player player) {
-        int durationSeconds = plugin.getConfigManager().getDurationSeconds();
-        long endTime = System.currentTimeMillis() + (durationSeconds * 1000L);
-        activeEffects.put(player.getUniqueId(), endTime);
+        int durationSeconds = plugin.getConfigManager().getSnapshot().durationSeconds();
+        activateEffect(player, durationSeconds * 1000L);
+    }
 
-        // 넉백 저항 속성 적용
-        plugin.getKnockbackListener().applyKnockbackResistance(player);
+    /**
+     * 주문서 타입의 지속시간/저항 수치로 넉백저항 효과 활성화 (주문서 사용)
+     * @param player 대상 플레이어
+     * @param type 사용한 주문서 타입
+     * @return 활성화되면 true, {@link ScrollActivateEvent}가 취소되면 false
+     */
+    public boolean activateEffect(Player player, ScrollType type) {
+        return activateEffect(player, type, type.getDurationSeconds() * 1000L, type.getResistance(), ScrollCause.SCROLL);
+    }
+
+    /**
+     * {@link ScrollActivateEvent}를 호출한 뒤 넉백저항 효과 활성화
+     * 리스너가 없으면 이벤트 객체를 만들지 않고 바로 활성화합니다.
+     * @param player 대상 플레이어
+     * @param type 주문서 타입 (API 부여는 null)
+     * @param durationMillis 지속시간 (밀리초)
+     * @param resistance 넉백 저항 수치 (0.0 ~ 1.0)
+     * @param cause 활성화 원인
+     * @return 활성화되면 true, 이벤트가 취소되면 false
+     */
+    public boolean activateEffect(Player player, ScrollType type, long durationMillis, double resistance, ScrollCause cause) {
+        if (ScrollActivateEvent.hasListeners()) {
+            ScrollActivateEvent event = new ScrollActivateEvent(player, type, cause, durationMillis, resistance);
+            Bukkit.getPluginManager().callEvent(event);
+            if (event.isCancelled()) {
+                return false;
+            }
+            durationMillis = event.getDurationMillis();
+            resistance = event.getResistance();
+        }
+        applyEffect(player, type, durationMillis, resistance);
+        return true;
+    }
+
+    /**
+     * 지정한 시간만큼 넉백저항 효과 활성화 (타입 없음, 완전 무효화)
+     * @param player 대상 플레이어
+     * @param durationMillis 지속시간 (밀리초)
+     */
+    public void activateEffect(Player player, long durationMillis) {
+        activateEffect(player, durationMillis, KnockbackListener.FULL_RESISTANCE);
+    }
+
+    /**
+     * 지정한 시간과 저항 수치로 넉백저항 효과 활성화 (이벤트 없음, 타입 없음, 내부 처리용)
+     * @param player 대상 플레이어
+     * @param durationMillis 지속시간 (밀리초)
+     * @param resistance 넉백 저항 수치 (0.0 ~ 1.0)
+     */
+    public void activateEffect(Player player, long durationMillis, double resistance) {
+        applyEffect(player, null, durationMillis, resistance);
+    }
+
+    /**
+     * 저장된 효과 복구 (이벤트 없음)
+     * 효과를 부여한 타입의 저항 수치로 복구하며, 타입을 알 수 없으면(이전 저널, 제거된 타입) 완전 무효화로 복구합니다.
+     * @param player 대상 플레이어
+     * @param type 효과를 부여한 주문서 타입 (알 수 없으면 null)
+     * @param durationMillis 남은 지속시간 (밀리초)
+     */
+    public void restoreEffect(Player player, ScrollType type, long durationMillis) {
+        double resistance = type != null ? type.getResistance() : KnockbackListener.FULL_RESISTANCE;
+        applyEffect(player, type, durationMillis, resistance);
+    }
+
+    /**
+     * 넉백저항 효과 적용 (만료 예약, 저널 기록, 속성 적용)
+     * @param type 효과를 부여한 주문서 타입 (타입 없이 부여하면 null)
+     */
+    private void applyEffect(Player player, ScrollType type, long durationMillis, double resistance) {
+        long endTime = plugin.getScrollClock().now() + durationMillis;
+        UUID uuid = player.getUniqueId();
+        PlayerScrollData data = state.getOrCreate(uuid);
+        int typeId = type != null ? type.getNumericId() : -1;
+
+        // 휠이 아직 현재 틱까지 진행하지 않았어도 만료 틱은 휠의 다음 틱 이후로 맞춰짐 (만료는 틱 작업에서만 처리)
+        scheduleExpiration(player, data, endTime);
+        data.setEffectTypeId(typeId);
+        data.setFeedbackShown(0);
+        plugin.getPersistenceManager().recordEffect(uuid, endTime, typeId);
+        plugin.getMetrics().activations.increment();
+
+        // 넉백 저항 속성 적용 및 폭발 보호 등록
+        plugin.getKnockbackListener().applyKnockbackResistance(player, resistance);
+        plugin.getKnockbackListener().protect(player);
+    }
+
+    /**
+     * 활성화된 효과에 주문서를 다시 사용했을 때의 새 종료 시각 계산 (config.yml settings.stack-policy)
+     * - extend: 기존 종료 시각 + 지속시간 (현재 시각 + stack-max-duration까지)
+     * - refresh: 현재 시각 + 지속시간
+     * @param data 플레이어 상태 (효과가 활성화되어 있어야 함)
+     * @param type 사용한 주문서 타입
+     * @return 새 종료 시각, 거부 방식이거나 기존 종료 시각보다 늘어나지 않으면 0
+     */
+    public long getStackedEndTime(PlayerScrollData data, ScrollType type) {
+        ScrollConfig config = plugin.getConfigManager().getSnapshot();
+        long endTime = data.getEffectEnd();
+        long now = plugin.getScrollClock().now();
+        long durationMillis = type.getDurationSeconds() * 1000L;
+
+        long stackedEnd = switch (config.stackPolicy()) {
+            case REJECT -> 0L;
+            case EXTEND -> config.stackMaxDurationMillis() > 0L
+                    ? Math.min(endTime + durationMillis, now + config.stackMaxDurationMillis())
+                    : endTime + durationMillis;
+            case REFRESH -> now + durationMillis;
+        };
+        return stackedEnd > endTime ? stackedEnd : 0L;
+    }
+
+    /**
+     * 활성화된 효과의 종료 시각 변경 (연장/갱신)
+     * 만료 예약만 옮기며, 넉백 저항 속성과 폭발 보호는 다시 적용하지 않습니다.
+     * {@link ScrollActivateEvent}는 연장 후 남은 시간을 지속시간으로 하여 호출합니다. ({@link ScrollActivateEvent#isExtension()})
+     *
+     * @param player 대상 플레이어
+     * @param data 플레이어 상태 (효과가 활성화되어 있어야 함)
+     * @param type 사용한 주문서 타입
+     * @param endTime 새 종료 시각 ({@link #getStackedEndTime})
+     * @param cause 연장 원인
+     * @return 변경되면 true, 이벤트가 취소되면 false
+     */
+    public boolean extendEffect(Player player, PlayerScrollData data, ScrollType type, long endTime, ScrollCause cause) {
+        if (ScrollActivateEvent.hasListeners()) {
+            long now = plugin.getScrollClock().now();
+            AttributeModifier current = data.getModifier();
+            ScrollActivateEvent event = new ScrollActivateEvent(player, type, cause, endTime - now,
+                    current != null ? current.getAmount() : type.getResistance(), true);
+            Bukkit.getPluginManager().callEvent(event);
+            if (event.isCancelled()) {
+                return false;
+            }
+            endTime = now + event.getDurationMillis();
+        }
+
+        scheduleExpiration(player, data, endTime);
+        data.setFeedbackShown(0);
+        plugin.getPersistenceManager().recordEffect(player.getUniqueId(), endTime, data.getEffectTypeId());
+        plugin.getMetrics().extensions.increment();
+        return true;
+    }
+
+    /**
+     * 광역(파티) 주문서 효과를 사용자 주변 아군에게 부여 (사용자 본인의 효과/쿨타임은 호출 전에 처리)
+     *
+     * - 주변 검색은 {@link PlayerGrid}의 범위 안 칸만 확인
+     * - 아군: 사용자가 스코어보드 팀에 속해 있으면 같은 팀원, 아니면 범위 안의 모든 플레이어
+     * - 받는 쪽은 {@link #activateEffect(Player, long, double)}와 같은 처리를 하되, 남은 효과가 더 길면 줄이지 않음
+     * - 받는 쪽 쿨타임은 타입 쿨타임에 party-cooldown 비율을 곱한 만큼이며, 남은 쿨타임이 더 길면 그대로 둠
+     * - Folia에서는 받는 플레이어마다 그 플레이어의 리전 스레드에서 적용
+     *
+     * @param user 주문서 사용자
+     * @param type 사용한 주문서 타입 ({@link ScrollType#isParty()})
+     * @return 효과를 받을 아군 수
+     */
+    public int activatePartyEffect(Player user, ScrollType type) {
+        ScrollMetrics metrics = plugin.getMetrics();
+        long start = metrics.startTimer();
+        List<Player> nearby = new ArrayList<>();
+        plugin.getPlayerGrid().findNearby(user.getLocation(), type.getRadius(), user.getUniqueId(), nearby);
+        metrics.stopTimer(metrics.partyQuery, start);
+
+        Team team = user.getScoreboard().getEntryTeam(user.getName());
+        long durationMillis = type.getDurationSeconds() * 1000L;
+        long cooldownMillis = Math.round(type.getCooldownSeconds() * 1000L * type.getPartyCooldownRatio());
+        String userName = user.getName();
+
+        int count = 0;
+        for (Player ally : nearby) {
+            if (team != null && !team.hasEntry(ally.getName())) {
+                continue;
+            }
+            count++;
+            scheduler.executeForEntity(ally, () -> grantPartyEffect(ally, type, durationMillis, cooldownMillis, userName));
+        }
+        metrics.partyRecipients.add(count);
+        return count;
+    }
+
+    /**
+     * 광역 주문서 효과 한 명에게 적용 (받는 플레이어를 소유한 스레드)
+     */
+    private void grantPartyEffect(Player ally, ScrollType type, long durationMillis, long cooldownMillis, String userName) {
+        if (!ally.isOnline() || ally.isDead() || ally.getGameMode() == GameMode.SPECTATOR) {
+            return;
+        }
+        PlayerScrollData data = state.get(ally.getUniqueId());
+        long endTime = plugin.getScrollClock().now() + durationMillis;
+        if ((data == null || data.getEffectEnd() < endTime)
+                && !activateEffect(ally, type, durationMillis, type.getResistance(), ScrollCause.PARTY)) {
+            return;
+        }
+        plugin.getCooldownManager().extendCooldown(ally, type, cooldownMillis);
+        plugin.getMessageManager().send(ally, "effect.party-received",
+                "player", userName, "duration", type.getDurationSeconds());
     }
 
     /**
@@ -47,11 +268,20 @@ public class EffectManager {
      * @return 효과 활성화 중이면 true
      */
     public boolean hasActiveEffect(Player player) {
-        Long endTime = activeEffects.get(player.getUniqueId());
-        if (endTime == null) {
+        return hasActiveEffect(state.get(player.getUniqueId()));
+    }
+
+    /**
+     * 효과가 활성화되어 있는지 확인 (상태 기준)
+     * @param data 플레이어 상태 (null 허용)
+     * @return 효과 활성화 중이면 true
+     */
+    public boolean hasActiveEffect(PlayerScrollData data) {
+        if (data == null) {
             return false;
         }
-        return System.currentTimeMillis() < endTime;
+        long endTime = data.getEffectEnd();
+        return endTime != 0L && plugin.getScrollClock().now() < endTime;
     }
 
     /**
@@ -59,7 +289,8 @@ public class EffectManager {
      * @param player 대상 플레이어
      */
     public void deactivateEffect(Player player) {
-        activeEffects.remove(player.getUniqueId());
+        cleanup(player.getUniqueId());
+        plugin.getPersistenceManager().recordEffect(player.getUniqueId(), 0L, -1);
         plugin.getKnockbackListener().removeKnockbackResistance(player);
     }
 
@@ -69,42 +300,146 @@ public class EffectManager {
      * @return 남은 시간 (초), 효과가 없으면 0
      */
     public long getRemainingEffectTime(Player player) {
-        Long endTime = activeEffects.get(player.getUniqueId());
-        if (endTime == null) {
+        return getRemainingEffectTime(state.get(player.getUniqueId()));
+    }
+
+    /**
+     * 남은 효과 시간 반환 (상태 기준, 초 단위, 올림)
+     * @param data 플레이어 상태 (null 허용)
+     * @return 남은 시간 (초), 효과가 없으면 0
+     */
+    public long getRemainingEffectTime(PlayerScrollData data) {
+        if (data == null || data.getEffectEnd() == 0L) {
             return 0;
         }
-        return TimeUtils.getRemainingSeconds(endTime);
+        return TimeUtils.getRemainingSeconds(data.getEffectEnd(), plugin.getScrollClock().now());
     }
 
     /**
      * 효과 만료 체크 스케줄러 시작
-     * 1초마다 실행하여 만료된 효과 정리 및 알림
+     * 매 틱 타이밍 휠을 시계의 현재 틱까지 진행하여 그 사이 만료된 효과만 처리
+     * (Folia에서는 플레이어별로 예약하므로 시작하지 않음)
      */
     public void startExpirationChecker() {
         if (expirationTask != null) {
             expirationTask.cancel();
             expirationTask = null;
         }
+        if (scheduler.isRegionized()) {
+            return;
+        }
+
+        expirationTask = scheduler.runGlobalTimer(this::processExpirations, 1L, 1L);
+    }
+
+    /**
+     * 효과 종료 시각 기록 및 만료 예약
+     * - 일반 서버: 타이밍 휠 (대기 중인 예약이 있으면 그 핸들을 새 틱으로 옮기고, 없으면 새로 예약)
+     * - Folia: 플레이어의 리전 스레드 (이전 예약은 종료 시각이 달라 무시됨)
+     */
+    private void scheduleExpiration(Player player, PlayerScrollData data, long endTime) {
+        data.setEffectEnd(endTime);
+        if (scheduler.isRegionized()) {
+            scheduleEntityExpiration(player, endTime);
+            return;
+        }
+
+        long deadlineTick = toDeadlineTick(endTime);
+        if (!expirationWheel.reschedule(data.getExpiration(), deadlineTick)) {
+            data.setExpiration(expirationWheel.scheduleAt(player.getUniqueId(), deadlineTick));
+        }
+    }
+
+    /**
+     * 플레이어의 리전 스레드에 만료 작업 예약 (Folia)
+     * @param player 대상 플레이어
+     * @param endTime 효과 종료 시각
+     */
+    private void scheduleEntityExpiration(Player player, long endTime) {
+        long delayTicks = Math.max(1L, toDeadlineTick(endTime) - plugin.getScrollClock().nowTicks());
+        scheduler.runForEntityLater(player, () -> expireIfCurrent(player.getUniqueId(), player, endTime), delayTicks);
+    }
+
+    /**
+     * 예약된 효과가 아직 유효하면 만료 처리 (Folia, 플레이어의 리전 스레드)
+     * 재활성화/해제로 종료 시각이 바뀌었으면 무시하고, 시계가 아직 종료 시각 전이면 다시 예약합니다.
+     */
+    private void expireIfCurrent(UUID uuid, Player player, long endTime) {
+        PlayerScrollData data = state.get(uuid);
+        if (data == null || data.getEffectEnd() != endTime) {
+            return;
+        }
+        if (plugin.getScrollClock().now() < endTime) {
+            scheduleEntityExpiration(player, endTime);
+            return;
+        }
+        expire(uuid);
+    }
 
-        expirationTask = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
-            long now = System.currentTimeMillis();
+    /**
+     * 시계의 현재 틱까지 만료된 효과 처리
+     */
+    public void processExpirations() {
+        ScrollMetrics metrics = plugin.getMetrics();
+        long start = metrics.startTimer();
+        expirationWheel.advanceTo(plugin.getScrollClock().nowTicks(), this::expireIfDue);
+        metrics.stopTimer(metrics.expirySweep, start);
+    }
+
+    /**
+     * 휠에서 만료된 효과가 아직 종료 시각을 지났으면 만료 처리 (일반 서버, 메인 스레드)
+     * 같은 틱에 만료되는 예약은 콜백 전에 모두 휠에서 분리되므로, 앞선 콜백(만료 이벤트 리스너 등)이
+     * 다시 부여한 효과는 새 예약을 받습니다. 이때 분리된 이전 예약은 종료 시각이 미래이므로 무시합니다.
+     */
+    private void expireIfDue(UUID uuid) {
+        PlayerScrollData data = state.get(uuid);
+        if (data != null && plugin.getScrollClock().now() < data.getEffectEnd()) {
+            return;
+        }
+        expire(uuid);
+    }
 
-            for (Map.Entry<UUID, Long> entry : activeEffects.entrySet()) {
-                if (now < entry.getValue()) {
-                    continue;
-                }
+    /**
+     * 종료 시각(밀리초)을 만료 틱으로 변환 (올림)
+     */
+    private static long toDeadlineTick(long endTime) {
+        return Math.floorDiv(endTime + ScrollClock.MILLIS_PER_TICK - 1, ScrollClock.MILLIS_PER_TICK);
+    }
 
-                UUID uuid = entry.getKey();
-                activeEffects.remove(uuid, entry.getValue());
+    /**
+     * 만료된 효과 처리
+     * @param uuid 만료된 플레이어 UUID
+     */
+    private void expire(UUID uuid) {
+        Player player = Bukkit.getPlayer(uuid);
+        PlayerScrollData data = state.get(uuid);
 
-                // 효과 종료 알림 및 넉백 저항 제거
-                Player player = Bukkit.getPlayer(uuid);
-                if (player != null && player.isOnline()) {
-                    plugin.getKnockbackListener().removeKnockbackResistance(player);
-                    plugin.getMessageManager().send(player, "effect.expired");
-                }
+        // 만료 이벤트가 취소되면 지정한 시간만큼 연장 (리스너가 없으면 이벤트 객체를 만들지 않음)
+        if (player != null && player.isOnline() && data != null
+                && ScrollEffectExpireEvent.hasListeners()) {
+            ScrollEffectExpireEvent event = new ScrollEffectExpireEvent(player);
+            Bukkit.getPluginManager().callEvent(event);
+            if (event.isCancelled()) {
+                long endTime = plugin.getScrollClock().now() + event.getExtensionMillis();
+                scheduleExpiration(player, data, endTime);
+                plugin.getPersistenceManager().recordEffect(uuid, endTime, data.getEffectTypeId());
+                return;
             }
-        }, 20L, 20L); // 1초마다 실행
+        }
+
+        plugin.getMetrics().expirations.increment();
+        plugin.getKnockbackListener().unprotect(uuid);
+        if (data != null) {
+            data.setEffectEnd(0L);
+            data.setEffectTypeId(-1);
+            data.setExpiration(null);
+        }
+
+        // 효과 종료 알림 및 넉백 저항 제거
+        if (player != null && player.isOnline()) {
+            plugin.getKnockbackListener().removeKnockbackResistance(player);
+            plugin.getMessageManager().send(player, "effect.expired");
+        }
     }
 
     /**
@@ -115,7 +450,7 @@ public class EffectManager {
             expirationTask.cancel();
             expirationTask = null;
         }
-        activeEffects.clear();
+        clear();
     }
 
     /**
@@ -123,13 +458,25 @@ public class EffectManager {
      * @param uuid 플레이어 UUID
      */
     public void cleanup(UUID uuid) {
-        activeEffects.remove(uuid);
+        PlayerScrollData data = state.get(uuid);
+        if (data == null) {
+            return;
+        }
+        expirationWheel.cancel(data.getExpiration());
+        data.setExpiration(null);
+        data.setEffectEnd(0L);
+        data.setEffectTypeId(-1);
+        plugin.getKnockbackListener().unprotect(uuid);
     }
 
     /**
      * 모든 효과 데이터 정리
      */
     public void clear() {
-        activeEffects.clear();
+        state.clearEffects();
+        expirationWheel.clear();
+        if (plugin.getKnockbackListener() != null) {
+            plugin.getKnockbackListener().unprotectAll();
+        }
     }
 }
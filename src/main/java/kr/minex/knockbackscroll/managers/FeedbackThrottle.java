@@ -0,0 +1,68 @@
+package kr.minex.knockbackscroll.managers;
+
+import kr.minex.knockbackscroll.KnockbackScroll;
+
+/**
+ * 거부 안내(쿨타임, 이미 활성화됨) 전송 제한
+ * 우클릭을 누르고 있으면 상호작용 이벤트가 초당 여러 번 발생하므로,
+ * 플레이어별로 다음 두 조건을 모두 만족할 때만 안내를 보냅니다.
+ *
+ * - 표시할 값(종류 + 남은 초)이 마지막으로 보낸 값과 다름
+ *   (남은 초를 표시하지 않는 안내는 0을 넘겨, 효과/쿨타임이 새로 시작되어 기록이 초기화될 때까지 한 번만 보냄)
+ * - 토큰 버킷에 토큰이 남아 있음 (1초에 1개 충전, 최대 {@value #BURST}개)
+ *
+ * 버킷은 "가득 차는 시각" 하나로 표현하므로 (GCRA) 플레이어 상태의 long 하나로 동작하며 객체를 만들지 않습니다.
+ * 메인 스레드 전용입니다.
+ */
+public class FeedbackThrottle {
+
+    // 안내 종류 (인코딩 하위 1비트)
+    public static final int KIND_COOLDOWN = 0;
+    public static final int KIND_ALREADY_ACTIVE = 1;
+
+    // 토큰 하나가 충전되는 시간 (밀리초)
+    private static final long REFILL_MILLIS = 1000L;
+
+    // 버킷 크기 (종류가 바뀐 직후의 안내가 막히지 않도록 2개)
+    private static final int BURST = 2;
+
+    // 인코딩할 수 있는 최대 초
+    private static final int MAX_SECONDS = Integer.MAX_VALUE >>> 2;
+
+    private final KnockbackScroll plugin;
+
+    public FeedbackThrottle(KnockbackScroll plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * 안내를 보내도 되는지 확인하고, 보낼 수 있으면 기록
+     * @param data 플레이어 상태 (null이면 항상 허용)
+     * @param kind 안내 종류
+     * @param seconds 표시할 남은 초 (안내에 남은 시간이 없으면 0)
+     * @return 보내야 하면 true, 같은 내용이거나 제한에 걸리면 false
+     */
+    public boolean tryAcquire(PlayerScrollData data, int kind, long seconds) {
+        if (data == null) {
+            return true;
+        }
+
+        int shown = ((int) Math.min(Math.max(seconds, 0L), MAX_SECONDS) << 1 | kind) + 1;
+        if (shown == data.getFeedbackShown()) {
+            plugin.getMetrics().feedbackSuppressed.increment();
+            return false;
+        }
+
+        // 토큰 하나를 쓰면 가득 차는 시각이 충전 시간만큼 뒤로 밀림
+        long now = plugin.getScrollClock().now();
+        long fullAt = Math.max(data.getFeedbackFullAt(), now) + REFILL_MILLIS;
+        if (fullAt - now > BURST * REFILL_MILLIS) {
+            plugin.getMetrics().feedbackSuppressed.increment();
+            return false;
+        }
+
+        data.setFeedbackFullAt(fullAt);
+        data.setFeedbackShown(shown);
+        return true;
+    }
+}
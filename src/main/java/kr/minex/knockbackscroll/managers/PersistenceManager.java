@@ -0,0 +1,152 @@
+package kr.minex.knockbackscroll.managers;
+
+import org.bukkit.entity.Player;
+import kr.minex.knockbackscroll.KnockbackScroll;
+import kr.minex.knockbackscroll.config.ScrollConfig;
+import kr.minex.knockbackscroll.models.ScrollType;
+import kr.minex.knockbackscroll.storage.ScrollJournal;
+import kr.minex.knockbackscroll.storage.StoredScrollState;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+
+/**
+ * 쿨타임/효과 영구 저장 관리 클래스
+ * 종료 시각이 바뀔 때마다 저널에 기록하고, 접속 시 남은 시간을 복구합니다.
+ *
+ * - 저널에는 실제 시각(epoch 밀리초)으로 기록 (서버 재시작 후 ScrollClock 값은 이어지지 않으므로)
+ * - 퇴장 시 효과는 해제로 기록하고, 쿨타임은 재접속 시 복구되도록 보관
+ * - 저장이 비활성화되었거나 저널을 열지 못하면 기존처럼 메모리에서만 관리
+ *
+ * 플레이어별 호출은 그 플레이어를 소유한 스레드에서 이루어져야 합니다. (실제 파일 쓰기는 저널의 쓰기 스레드가 처리)
+ */
+public class PersistenceManager {
+
+    // 저장 폴더 이름 (플러그인 데이터 폴더 하위)
+    private static final String STORAGE_DIRECTORY = "data";
+
+    private final KnockbackScroll plugin;
+
+    // 저널 (비활성화 시 null)
+    private ScrollJournal journal;
+
+    // 아직 접속하지 않은 플레이어의 저장된 상태 (epoch 밀리초)
+    // (Folia에서는 여러 리전 스레드에서 접속/퇴장이 동시에 처리됨)
+    private final Map<UUID, StoredScrollState> pending = new ConcurrentHashMap<>();
+
+    public PersistenceManager(KnockbackScroll plugin) {
+        this.plugin = plugin;
+
+        ScrollConfig config = plugin.getConfigManager().getSnapshot();
+        if (!config.storageEnabled()) {
+            return;
+        }
+
+        try {
+            journal = ScrollJournal.open(plugin.getDataFolder().toPath().resolve(STORAGE_DIRECTORY),
+                    config.storageCompactThreshold(),
+                    System::currentTimeMillis, plugin.getLogger());
+            pending.putAll(journal.getRecovered());
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.SEVERE, "저널을 열지 못해 쿨타임/효과가 저장되지 않습니다.", e);
+            journal = null;
+        }
+    }
+
+    /**
+     * 쿨타임 종료 시각 기록
+     * @param uuid 플레이어 UUID
+     * @param endTime 종료 시각 (ScrollClock 기준 밀리초, 0이면 해제)
+     */
+    public void recordCooldown(UUID uuid, long endTime) {
+        if (journal != null) {
+            journal.append(uuid, ScrollJournal.KIND_COOLDOWN, toEpoch(endTime));
+        }
+    }
+
+    /**
+     * 효과 종료 시각 기록 (효과가 있으면 부여한 타입 번호를 먼저 기록)
+     * @param uuid 플레이어 UUID
+     * @param endTime 종료 시각 (ScrollClock 기준 밀리초, 0이면 해제)
+     * @param typeId 효과를 부여한 주문서 타입 번호 (타입 없이 부여했으면 -1)
+     */
+    public void recordEffect(UUID uuid, long endTime, int typeId) {
+        if (journal == null) {
+            return;
+        }
+        if (endTime != 0L) {
+            journal.append(uuid, ScrollJournal.KIND_EFFECT_TYPE, typeId);
+        }
+        journal.append(uuid, ScrollJournal.KIND_EFFECT, toEpoch(endTime));
+    }
+
+    /**
+     * 접속 시 저장된 쿨타임/효과 복구 (효과는 부여한 타입의 저항 수치로 복구)
+     * @param player 접속한 플레이어
+     */
+    public void restore(Player player) {
+        if (journal == null) {
+            return;
+        }
+        StoredScrollState stored = pending.remove(player.getUniqueId());
+        if (stored == null) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        long cooldownRemaining = stored.getCooldownEnd() - now;
+        if (cooldownRemaining > 0) {
+            plugin.getCooldownManager().setCooldown(player, cooldownRemaining);
+        }
+        long effectRemaining = stored.getEffectEnd() - now;
+        if (effectRemaining > 0) {
+            ScrollType type = plugin.getScrollManager().getScrollTypes().fromNumericId(stored.getEffectTypeId());
+            plugin.getEffectManager().restoreEffect(player, type, effectRemaining);
+        }
+    }
+
+    /**
+     * 퇴장 시 상태 보관 (쿨타임/효과 데이터를 정리하기 전에 호출)
+     * 효과는 퇴장과 함께 해제되므로 해제로 기록하고, 쿨타임은 재접속 시 복구합니다.
+     * @param uuid 퇴장한 플레이어 UUID
+     */
+    public void saveOnQuit(UUID uuid) {
+        if (journal == null) {
+            return;
+        }
+
+        PlayerScrollData data = plugin.getPlayerState().get(uuid);
+        long cooldownEnd = data == null ? 0L : toEpoch(data.getCooldownEnd());
+        if (cooldownEnd > System.currentTimeMillis()) {
+            pending.put(uuid, new StoredScrollState(cooldownEnd, 0L));
+        }
+
+        if (data != null && data.getEffectEnd() != 0L) {
+            journal.append(uuid, ScrollJournal.KIND_EFFECT, 0L);
+        }
+    }
+
+    /**
+     * 대기 중인 기록을 모두 쓰고 저널 닫기
+     */
+    public void shutdown() {
+        if (journal != null) {
+            journal.close();
+            journal = null;
+        }
+        pending.clear();
+    }
+
+    /**
+     * ScrollClock 기준 시각을 실제 시각으로 변환
+     */
+    private long toEpoch(long endTime) {
+        if (endTime == 0L) {
+            return 0L;
+        }
+        return System.currentTimeMillis() + (endTime - plugin.getScrollClock().now());
+    }
+}
@@ -0,0 +1,225 @@
+package kr.minex.knockbackscroll.managers;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 접속 중인 플레이어 위치 격자 (광역 주문서 주변 검색용)
+ * 월드마다 청크 크기(16블록) 칸으로 나누어 플레이어를 보관하므로,
+ * 반경 검색은 범위에 걸친 몇 개의 칸만 확인합니다. (getNearbyEntities처럼 엔티티 전체를 훑지 않음)
+ *
+ * - 위치는 이동/텔레포트/월드 변경 이벤트에서 블록 좌표가 바뀔 때만 갱신 (블록 단위 정밀도)
+ * - 칸이 바뀐 경우에만 칸 사이를 옮김 (칸 안의 제거는 마지막 항목과 자리 교환, O(1))
+ * - 광역 주문서 타입이 없으면 비활성화되어 아무것도 보관하지 않음
+ *
+ * 스레드 안전: Folia에서는 여러 리전 스레드가 이벤트를 처리하므로 모든 변경/검색은 이 객체로 동기화합니다.
+ * 검색 결과의 거리 판정도 저장된 좌표로 하므로 다른 리전 플레이어의 엔티티 상태를 읽지 않습니다.
+ */
+public class PlayerGrid {
+
+    // 칸 크기 (1 << 4 = 16블록, 청크와 같음)
+    private static final int CELL_SHIFT = 4;
+
+    // 월드 UID -> (칸 키 -> 칸)
+    private final Map<UUID, Map<Long, Cell>> worlds = new HashMap<>();
+
+    // 플레이어 UUID -> 격자 항목
+    private final Map<UUID, Entry> entries = new HashMap<>();
+
+    private volatile boolean enabled;
+
+    /**
+     * 설정에 따라 격자 유지 시작/정지
+     * 새로 켜지면 접속 중인 플레이어로 다시 채웁니다.
+     * @param enabled 광역 주문서 타입 존재 여부
+     * @param online 접속 중인 플레이어
+     */
+    public synchronized void apply(boolean enabled, Iterable<? extends Player> online) {
+        if (enabled == this.enabled) {
+            return;
+        }
+        clear();
+        this.enabled = enabled;
+        if (enabled) {
+            for (Player player : online) {
+                update(player, player.getLocation());
+            }
+        }
+    }
+
+    /**
+     * 격자를 유지하는 중인지 확인 (이벤트 처리 전 빠른 확인용)
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 플레이어 위치 갱신 (접속, 이동, 텔레포트, 월드 변경, 리스폰)
+     * 블록 좌표가 같으면 아무것도 하지 않습니다.
+     * @param player 대상 플레이어
+     * @param location 새 위치
+     */
+    public synchronized void update(Player player, Location location) {
+        World world = location.getWorld();
+        if (!enabled || world == null) {
+            return;
+        }
+        UUID worldId = world.getUID();
+        int x = location.getBlockX();
+        int y = location.getBlockY();
+        int z = location.getBlockZ();
+
+        Entry entry = entries.get(player.getUniqueId());
+        if (entry == null) {
+            entry = new Entry(player);
+            entries.put(player.getUniqueId(), entry);
+        } else if (entry.worldId.equals(worldId) && entry.x == x && entry.y == y && entry.z == z) {
+            return;
+        }
+
+        long key = cellKey(x >> CELL_SHIFT, z >> CELL_SHIFT);
+        if (entry.cell == null || !entry.worldId.equals(worldId) || entry.cellKey != key) {
+            if (entry.cell != null) {
+                detach(entry);
+            }
+            entry.worldId = worldId;
+            entry.cellKey = key;
+            entry.cell = worlds.computeIfAbsent(worldId, id -> new HashMap<>())
+                    .computeIfAbsent(key, k -> new Cell());
+            entry.index = entry.cell.members.size();
+            entry.cell.members.add(entry);
+        }
+        entry.x = x;
+        entry.y = y;
+        entry.z = z;
+    }
+
+    /**
+     * 플레이어 제거 (퇴장)
+     * @param uuid 플레이어 UUID
+     */
+    public synchronized void remove(UUID uuid) {
+        Entry entry = entries.remove(uuid);
+        if (entry != null && entry.cell != null) {
+            detach(entry);
+        }
+    }
+
+    /**
+     * 반경 안의 플레이어 검색
+     * 거리는 저장된 블록 좌표(블록 중심)로 판정하므로 최대 1블록 정도 오차가 있습니다.
+     * @param center 검색 중심
+     * @param radius 반경 (블록)
+     * @param exclude 결과에서 뺄 플레이어 UUID (보통 사용자, null 허용)
+     * @param result 결과를 담을 목록 (비우지 않고 추가)
+     */
+    public synchronized void findNearby(Location center, double radius, UUID exclude, List<Player> result) {
+        World world = center.getWorld();
+        if (!enabled || world == null) {
+            return;
+        }
+        Map<Long, Cell> cells = worlds.get(world.getUID());
+        if (cells == null) {
+            return;
+        }
+
+        double cx = center.getX();
+        double cy = center.getY();
+        double cz = center.getZ();
+        double radiusSquared = radius * radius;
+        int minCellX = (int) Math.floor(cx - radius) >> CELL_SHIFT;
+        int maxCellX = (int) Math.floor(cx + radius) >> CELL_SHIFT;
+        int minCellZ = (int) Math.floor(cz - radius) >> CELL_SHIFT;
+        int maxCellZ = (int) Math.floor(cz + radius) >> CELL_SHIFT;
+
+        for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+            for (int cellZ = minCellZ; cellZ <= maxCellZ; cellZ++) {
+                Cell cell = cells.get(cellKey(cellX, cellZ));
+                if (cell == null) {
+                    continue;
+                }
+                for (Entry entry : cell.members) {
+                    double dx = entry.x + 0.5 - cx;
+                    double dy = entry.y - cy;
+                    double dz = entry.z + 0.5 - cz;
+                    if (dx * dx + dy * dy + dz * dz <= radiusSquared
+                            && !entry.player.getUniqueId().equals(exclude)) {
+                        result.add(entry.player);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 보관 중인 플레이어 수
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * 모든 항목 제거
+     */
+    public synchronized void clear() {
+        worlds.clear();
+        entries.clear();
+    }
+
+    /**
+     * 항목을 현재 칸에서 제거 (마지막 항목을 빈자리로 옮김, 빈 칸은 삭제)
+     */
+    private void detach(Entry entry) {
+        List<Entry> members = entry.cell.members;
+        Entry last = members.remove(members.size() - 1);
+        if (last != entry) {
+            members.set(entry.index, last);
+            last.index = entry.index;
+        }
+        if (members.isEmpty()) {
+            Map<Long, Cell> cells = worlds.get(entry.worldId);
+            cells.remove(entry.cellKey);
+            if (cells.isEmpty()) {
+                worlds.remove(entry.worldId);
+            }
+        }
+        entry.cell = null;
+    }
+
+    private static long cellKey(int cellX, int cellZ) {
+        return ((long) cellX << 32) | (cellZ & 0xFFFFFFFFL);
+    }
+
+    /**
+     * 칸 하나 (같은 칸의 플레이어 목록)
+     */
+    private static final class Cell {
+        final List<Entry> members = new ArrayList<>(4);
+    }
+
+    /**
+     * 플레이어 한 명의 격자 위치
+     */
+    private static final class Entry {
+        final Player player;
+        UUID worldId;
+        long cellKey;
+        Cell cell;
+        int index;
+        int x;
+        int y;
+        int z;
+
+        Entry(Player player) {
+            this.player = player;
+        }
+    }
+}
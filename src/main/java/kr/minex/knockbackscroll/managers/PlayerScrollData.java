@@ -0,0 +1,198 @@
+package kr.minex.knockbackscroll.managers;
+
+import org.bukkit.Material;
+import org.bukkit.attribute.AttributeModifier;
+import kr.minex.knockbackscroll.utils.TimingWheel;
+
+import java.util.UUID;
+
+/**
+ * 플레이어 한 명의 주문서 상태 ({@link PlayerScrollState}에 보관)
+ * 값은 플레이어를 소유한 스레드에서만 씁니다.
+ * 쿨타임/효과 종료 시각은 API 조회처럼 다른 스레드에서도 읽으므로 volatile로 둡니다.
+ */
+public class PlayerScrollData {
+
+    private final UUID owner;
+
+    // 쿨타임/효과 종료 시각 (ScrollClock 기준 밀리초, 0이면 없음)
+    private volatile long cooldownEnd;
+    private volatile long effectEnd;
+
+    // 효과를 부여한 주문서 타입 번호 (-1이면 타입 없음, 연장해도 처음 부여한 타입 유지)
+    private int effectTypeId = -1;
+
+    private AttributeModifier modifier;
+    private TimingWheel.Timeout<UUID> expiration;
+
+    // 폭발 보호 대상으로 등록된 엔티티 ID (-1이면 등록 안 됨)
+    private int protectedEntityId = -1;
+
+    // 손에 든 아이템 판별 캐시 (핫바 슬롯 -1이면 캐시 없음, 타입 번호 -1이면 주문서 아님)
+    private int heldCacheSlot = -1;
+    private Material heldCacheMaterial;
+    private int heldCacheType = -1;
+
+    // 카운트다운 HUD에 마지막으로 표시한 값 (0이면 표시 안 함)
+    private int hudShown;
+
+    // 마지막으로 보낸 거부 안내 값 (0이면 없음)
+    private int feedbackShown;
+    // 거부 안내 토큰 버킷이 가득 차는 시각 (ScrollClock 기준 밀리초)
+    private long feedbackFullAt;
+
+    PlayerScrollData(UUID owner) {
+        this.owner = owner;
+    }
+
+    /**
+     * 상태 소유자 UUID 반환
+     */
+    public UUID getOwner() {
+        return owner;
+    }
+
+    // ===== 쿨타임 =====
+
+    public long getCooldownEnd() {
+        return cooldownEnd;
+    }
+
+    public void setCooldownEnd(long endTime) {
+        this.cooldownEnd = endTime;
+    }
+
+    // ===== 효과 =====
+
+    public long getEffectEnd() {
+        return effectEnd;
+    }
+
+    public void setEffectEnd(long endTime) {
+        this.effectEnd = endTime;
+    }
+
+    /**
+     * 효과를 부여한 주문서 타입 번호 반환
+     * @return 타입 번호, 타입 없이 부여되었으면 -1
+     */
+    public int getEffectTypeId() {
+        return effectTypeId;
+    }
+
+    public void setEffectTypeId(int typeId) {
+        this.effectTypeId = typeId;
+    }
+
+    public TimingWheel.Timeout<UUID> getExpiration() {
+        return expiration;
+    }
+
+    public void setExpiration(TimingWheel.Timeout<UUID> timeout) {
+        this.expiration = timeout;
+    }
+
+    // ===== AttributeModifier =====
+
+    public AttributeModifier getModifier() {
+        return modifier;
+    }
+
+    public void setModifier(AttributeModifier modifier) {
+        this.modifier = modifier;
+    }
+
+    // ===== 폭발 보호 엔티티 ID =====
+
+    /**
+     * 폭발 보호 대상으로 등록된 엔티티 ID 반환
+     * @return 엔티티 ID, 등록되지 않았으면 -1
+     */
+    public int getProtectedEntityId() {
+        return protectedEntityId;
+    }
+
+    /**
+     * 폭발 보호 대상 엔티티 ID 설정
+     * @param entityId 엔티티 ID (0 이상), -1이면 해제
+     */
+    public void setProtectedEntityId(int entityId) {
+        this.protectedEntityId = entityId;
+    }
+
+    // ===== 손에 든 아이템 판별 캐시 =====
+
+    /**
+     * 캐시된 판별 결과 조회
+     * @param heldSlot 현재 핫바 슬롯
+     * @param material 현재 손에 든 아이템 종류
+     * @return 캐시가 유효하면 true
+     */
+    public boolean isHeldCacheValid(int heldSlot, Material material) {
+        return heldCacheSlot == heldSlot && heldCacheMaterial == material;
+    }
+
+    /**
+     * 캐시된 주문서 타입 번호 반환
+     * @return 타입 번호, 주문서가 아니면 -1
+     */
+    public int getHeldCacheType() {
+        return heldCacheType;
+    }
+
+    /**
+     * 판별 결과 캐싱
+     * @param heldSlot 핫바 슬롯
+     * @param material 아이템 종류
+     * @param typeId 주문서 타입 번호, 주문서가 아니면 -1
+     */
+    public void setHeldCache(int heldSlot, Material material, int typeId) {
+        this.heldCacheSlot = heldSlot;
+        this.heldCacheMaterial = material;
+        this.heldCacheType = typeId;
+    }
+
+    /**
+     * 판별 캐시 무효화
+     */
+    public void invalidateHeldCache() {
+        this.heldCacheSlot = -1;
+        this.heldCacheMaterial = null;
+    }
+
+    // ===== 카운트다운 HUD =====
+
+    /**
+     * 마지막으로 표시한 HUD 값 반환
+     * @return 인코딩된 값, 표시하지 않았으면 0
+     */
+    public int getHudShown() {
+        return hudShown;
+    }
+
+    public void setHudShown(int shown) {
+        this.hudShown = shown;
+    }
+
+    // ===== 거부 안내 =====
+
+    /**
+     * 마지막으로 보낸 거부 안내 값 반환
+     * @return 인코딩된 값, 보낸 적 없으면 0
+     */
+    public int getFeedbackShown() {
+        return feedbackShown;
+    }
+
+    public void setFeedbackShown(int shown) {
+        this.feedbackShown = shown;
+    }
+
+    public long getFeedbackFullAt() {
+        return feedbackFullAt;
+    }
+
+    public void setFeedbackFullAt(long time) {
+        this.feedbackFullAt = time;
+    }
+}
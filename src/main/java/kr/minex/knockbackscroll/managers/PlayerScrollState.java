@@ -0,0 +1,119 @@
+package kr.minex.knockbackscroll.managers;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 플레이어별 주문서 상태 저장소
+ * 쿨타임/효과/AttributeModifier 등 플레이어 상태를 UUID -> {@link PlayerScrollData} 맵 하나에 보관하여,
+ * 매니저마다 따로 두던 맵을 한 번의 조회로 대신합니다.
+ *
+ * - 상태는 접속 시 만들고 퇴장 시 제거
+ * - 시각 값 0은 "없음"을 의미
+ *
+ * 스레드 안전성 (Folia처럼 리전별로 병렬 틱을 처리하는 서버 대응):
+ * - 생성/제거/조회는 ConcurrentHashMap이 보호
+ * - 한 플레이어의 값은 그 플레이어를 소유한 스레드(일반 서버는 메인 스레드, Folia는 플레이어의 리전 스레드)에서만 써야 함
+ */
+public class PlayerScrollState {
+
+    private final Map<UUID, PlayerScrollData> players = new ConcurrentHashMap<>();
+
+    /**
+     * 플레이어 상태 조회
+     * @param uuid 플레이어 UUID
+     * @return 상태, 없으면 null
+     */
+    public PlayerScrollData get(UUID uuid) {
+        return players.get(uuid);
+    }
+
+    /**
+     * 플레이어 상태 조회 (없으면 생성)
+     * @param uuid 플레이어 UUID
+     * @return 상태
+     */
+    public PlayerScrollData getOrCreate(UUID uuid) {
+        PlayerScrollData data = players.get(uuid);
+        return data != null ? data : players.computeIfAbsent(uuid, PlayerScrollData::new);
+    }
+
+    /**
+     * 플레이어 상태 제거 (퇴장 시)
+     * @param uuid 플레이어 UUID
+     */
+    public void remove(UUID uuid) {
+        players.remove(uuid);
+    }
+
+    /**
+     * 상태가 있는 플레이어 수 반환
+     */
+    public int size() {
+        return players.size();
+    }
+
+    /**
+     * 모든 플레이어 상태 (읽기 전용 뷰)
+     */
+    public Collection<PlayerScrollData> values() {
+        return Collections.unmodifiableCollection(players.values());
+    }
+
+    /**
+     * 모든 데이터 정리
+     */
+    public void clear() {
+        players.clear();
+    }
+
+    /**
+     * 모든 플레이어의 쿨타임 초기화
+     */
+    public void clearCooldowns() {
+        for (PlayerScrollData data : players.values()) {
+            data.setCooldownEnd(0L);
+        }
+    }
+
+    /**
+     * 모든 플레이어의 효과 종료 시각/타입과 만료 예약 핸들 초기화
+     */
+    public void clearEffects() {
+        for (PlayerScrollData data : players.values()) {
+            data.setEffectEnd(0L);
+            data.setEffectTypeId(-1);
+            data.setExpiration(null);
+        }
+    }
+
+    /**
+     * 모든 플레이어의 AttributeModifier 참조 초기화
+     */
+    public void clearModifiers() {
+        for (PlayerScrollData data : players.values()) {
+            data.setModifier(null);
+        }
+    }
+
+    /**
+     * 모든 플레이어의 폭발 보호 엔티티 ID 해제
+     */
+    public void clearProtectedEntityIds() {
+        for (PlayerScrollData data : players.values()) {
+            data.setProtectedEntityId(-1);
+        }
+    }
+
+    /**
+     * 모든 플레이어의 HUD 표시 기록 초기화
+     */
+    public void clearHudShown() {
+        for (PlayerScrollData data : players.values()) {
+            data.setHudShown(0);
+        }
+    }
+}
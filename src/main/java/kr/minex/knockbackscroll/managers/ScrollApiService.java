@@ -0,0 +1,162 @@
+package kr.minex.knockbackscroll.managers;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import kr.minex.knockbackscroll.KnockbackScroll;
+import kr.minex.knockbackscroll.api.KnockbackScrollApi;
+import kr.minex.knockbackscroll.api.event.ScrollCause;
+import kr.minex.knockbackscroll.models.ScrollType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * {@link KnockbackScrollApi} 구현 (ServicesManager에 등록)
+ *
+ * - 조회: 플레이어 상태의 종료 시각을 잠금 없이 읽음 (어느 스레드에서나 호출 가능)
+ * - 부여/해제: 플레이어를 소유한 스레드로 넘겨 매니저의 기존 경로를 그대로 사용
+ */
+public class ScrollApiService implements KnockbackScrollApi {
+
+    private final KnockbackScroll plugin;
+    private final PlayerScrollState state;
+
+    public ScrollApiService(KnockbackScroll plugin) {
+        this.plugin = plugin;
+        this.state = plugin.getPlayerState();
+    }
+
+    @Override
+    public int getApiVersion() {
+        return VERSION;
+    }
+
+    @Override
+    public boolean hasActiveEffect(UUID playerId) {
+        return getRemainingEffectMillis(playerId) > 0L;
+    }
+
+    @Override
+    public long getRemainingEffectMillis(UUID playerId) {
+        PlayerScrollData data = state.get(playerId);
+        return data == null ? 0L : remaining(data.getEffectEnd());
+    }
+
+    @Override
+    public boolean isOnCooldown(UUID playerId) {
+        return getRemainingCooldownMillis(playerId) > 0L;
+    }
+
+    @Override
+    public long getRemainingCooldownMillis(UUID playerId) {
+        PlayerScrollData data = state.get(playerId);
+        return data == null ? 0L : remaining(data.getCooldownEnd());
+    }
+
+    @Override
+    public List<String> getScrollTypeIds() {
+        List<ScrollType> types = plugin.getConfigManager().getSnapshot().scrollTypes().getTypes();
+        List<String> ids = new ArrayList<>(types.size());
+        for (ScrollType type : types) {
+            ids.add(type.getId());
+        }
+        return Collections.unmodifiableList(ids);
+    }
+
+    @Override
+    public String getScrollTypeId(ItemStack item) {
+        ScrollType type = plugin.getScrollManager().getScrollType(item);
+        return type == null ? null : type.getId();
+    }
+
+    @Override
+    public CompletableFuture<Boolean> grantEffect(UUID playerId, long durationMillis, double resistance) {
+        if (durationMillis <= 0L) {
+            throw new IllegalArgumentException("지속시간은 1 이상이어야 합니다: " + durationMillis);
+        }
+        if (resistance < 0.0 || resistance > 1.0) {
+            throw new IllegalArgumentException("저항 수치는 0.0 ~ 1.0 사이여야 합니다: " + resistance);
+        }
+        return onOwnerThread(playerId, player -> plugin.getEffectManager()
+                .activateEffect(player, null, durationMillis, resistance, ScrollCause.API));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> grantEffect(UUID playerId, String scrollTypeId) {
+        ScrollType type = plugin.getConfigManager().getSnapshot().scrollTypes().fromId(scrollTypeId);
+        if (type == null) {
+            throw new IllegalArgumentException("알 수 없는 주문서 타입: " + scrollTypeId);
+        }
+        return onOwnerThread(playerId, player -> plugin.getEffectManager().activateEffect(player, type,
+                type.getDurationSeconds() * 1000L, type.getResistance(), ScrollCause.API));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> cancelEffect(UUID playerId) {
+        return onOwnerThread(playerId, player -> {
+            EffectManager effectManager = plugin.getEffectManager();
+            if (!effectManager.hasActiveEffect(player)) {
+                return false;
+            }
+            effectManager.deactivateEffect(player);
+            return true;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Boolean> setCooldown(UUID playerId, long durationMillis) {
+        if (durationMillis <= 0L) {
+            throw new IllegalArgumentException("쿨타임은 1 이상이어야 합니다: " + durationMillis);
+        }
+        return onOwnerThread(playerId, player -> plugin.getCooldownManager()
+                .startCooldown(player, null, durationMillis, ScrollCause.API));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> clearCooldown(UUID playerId) {
+        return onOwnerThread(playerId, player -> {
+            CooldownManager cooldownManager = plugin.getCooldownManager();
+            if (!cooldownManager.isOnCooldown(player)) {
+                return false;
+            }
+            cooldownManager.removeCooldown(player);
+            return true;
+        });
+    }
+
+    /**
+     * 읽은 종료 시각으로 남은 시간 계산
+     */
+    private long remaining(long endTime) {
+        if (endTime == 0L) {
+            return 0L;
+        }
+        return Math.max(0L, endTime - plugin.getScrollClock().now());
+    }
+
+    /**
+     * 플레이어를 소유한 스레드에서 작업 실행 후 결과로 future 완료
+     * 접속 중이 아니거나 실행 전에 퇴장하면 false로 완료합니다.
+     */
+    private CompletableFuture<Boolean> onOwnerThread(UUID playerId, Function<Player, Boolean> action) {
+        CompletableFuture<Boolean> result = new CompletableFuture<>();
+        Player player = Bukkit.getPlayer(playerId);
+        if (player == null || !plugin.isEnabled()) {
+            result.complete(false);
+            return result;
+        }
+        plugin.getScrollScheduler().executeForEntity(player, () -> {
+            try {
+                result.complete(player.isOnline() && action.apply(player));
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        }, () -> result.complete(false));
+        return result;
+    }
+}
@@ -0,0 +1,169 @@
+package kr.minex.knockbackscroll.managers;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import kr.minex.knockbackscroll.KnockbackScroll;
+import kr.minex.knockbackscroll.models.ScrollType;
+import kr.minex.knockbackscroll.scheduler.ScrollScheduler;
+import kr.minex.knockbackscroll.scheduler.ScrollTask;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 주문서 대량 지급 관리 클래스
+ * 지급 요청을 큐에 쌓아두고, 틱마다 설정된 시간 예산 안에서만 처리하여
+ * 수백 명에게 지급해도 한 틱이 멈추지 않도록 합니다.
+ *
+ * Folia에서는 대상 플레이어마다 그 플레이어의 리전 스레드에 지급 작업을 예약하므로
+ * 큐와 시간 예산을 사용하지 않습니다. (인벤토리는 소유 리전에서만 변경 가능하고, 리전끼리 병렬로 처리됨)
+ *
+ * 주의: 일반 서버에서는 메인 스레드에서만 사용해야 합니다.
+ */
+public class ScrollDistributor {
+
+    private final KnockbackScroll plugin;
+
+    // 대기 중인 지급 요청
+    private final ArrayDeque<Delivery> queue = new ArrayDeque<>();
+
+    // 지급 처리 태스크 (큐가 비면 정지)
+    private ScrollTask task;
+
+    public ScrollDistributor(KnockbackScroll plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * 지급 요청 추가
+     * @param players 대상 플레이어
+     * @param type 주문서 타입
+     * @param amount 1인당 수량
+     */
+    public void enqueue(Collection<? extends Player> players, ScrollType type, int amount) {
+        ScrollScheduler scheduler = plugin.getScrollScheduler();
+        if (scheduler.isRegionized()) {
+            for (Player player : players) {
+                Delivery delivery = new Delivery(player.getUniqueId(), type, amount);
+                scheduler.runForEntity(player, () -> deliver(delivery));
+            }
+            return;
+        }
+
+        for (Player player : players) {
+            queue.add(new Delivery(player.getUniqueId(), type, amount));
+        }
+
+        if (task == null && !queue.isEmpty()) {
+            task = scheduler.runGlobalTimer(this::processTick, 1L, 1L);
+        }
+    }
+
+    /**
+     * 대기 중인 요청 수 반환
+     */
+    public int getPendingCount() {
+        return queue.size();
+    }
+
+    /**
+     * 남은 요청을 모두 즉시 처리하고 정지 (플러그인 비활성화 시)
+     */
+    public void shutdown() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        Delivery delivery;
+        while ((delivery = queue.poll()) != null) {
+            deliver(delivery);
+        }
+    }
+
+    /**
+     * 틱마다 시간 예산 안에서 요청 처리 (최소 1건은 처리)
+     */
+    private void processTick() {
+        long budget = plugin.getConfigManager().getSnapshot().distributionTickBudgetNanos();
+        long start = System.nanoTime();
+
+        Delivery delivery;
+        while ((delivery = queue.poll()) != null) {
+            deliver(delivery);
+            if (System.nanoTime() - start >= budget) {
+                break;
+            }
+        }
+
+        if (queue.isEmpty() && task != null) {
+            task.cancel();
+            task = null;
+        }
+    }
+
+    /**
+     * 한 플레이어에게 지급
+     * 수량을 최대 스택 단위로 묶어 한 번에 추가하고, 넘치는 수량은 합쳐서 발밑에 드롭
+     */
+    private void deliver(Delivery delivery) {
+        Player player = Bukkit.getPlayer(delivery.playerId);
+        if (player == null || !player.isOnline()) {
+            return;
+        }
+
+        // 지급 전에 리로드로 타입이 제거되었으면 건너뜀
+        ItemStack prototype = plugin.getScrollManager().createScroll(delivery.type);
+        if (prototype == null) {
+            return;
+        }
+        int maxStackSize = Math.max(1, prototype.getMaxStackSize());
+
+        // 스택 단위로 분할
+        int stackCount = (delivery.amount + maxStackSize - 1) / maxStackSize;
+        ItemStack[] stacks = new ItemStack[stackCount];
+        int remaining = delivery.amount;
+        for (int i = 0; i < stackCount; i++) {
+            ItemStack stack = prototype.clone();
+            stack.setAmount(Math.min(maxStackSize, remaining));
+            remaining -= stack.getAmount();
+            stacks[i] = stack;
+        }
+
+        // 인벤토리에 추가 후 넘친 수량 합산
+        Map<Integer, ItemStack> overflow = player.getInventory().addItem(stacks);
+        int overflowAmount = 0;
+        for (ItemStack leftover : overflow.values()) {
+            overflowAmount += leftover.getAmount();
+        }
+
+        // 넘친 수량은 최대 스택 단위로 묶어 드롭
+        while (overflowAmount > 0) {
+            ItemStack drop = prototype.clone();
+            drop.setAmount(Math.min(maxStackSize, overflowAmount));
+            overflowAmount -= drop.getAmount();
+            player.getWorld().dropItemNaturally(player.getLocation(), drop);
+        }
+
+        plugin.getMessageManager().send(player, "command.scroll-given",
+                "type", delivery.type.getDisplayName(), "amount", delivery.amount);
+    }
+
+    /**
+     * 지급 요청
+     */
+    private static final class Delivery {
+
+        private final UUID playerId;
+        private final ScrollType type;
+        private final int amount;
+
+        private Delivery(UUID playerId, ScrollType type, int amount) {
+            this.playerId = playerId;
+            this.type = type;
+            this.amount = amount;
+        }
+    }
+}
@@ -6,65 +6,170 @@ import org.bukkit.enchantments.Enchantment;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemFlag;
 import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
 import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.persistence.PersistentDataContainer;
 import org.bukkit.persistence.PersistentDataType;
 import kr.minex.knockbackscroll.KnockbackScroll;
 import kr.minex.knockbackscroll.models.ScrollType;
-
-import java.util.List;
+import kr.minex.knockbackscroll.models.ScrollTypeRegistry;
+import kr.minex.knockbackscroll.utils.PackedScrollData;
 
 /**
  * 주문서 아이템 생성 및 검증 관리 클래스
  * PersistentDataContainer를 사용하여 아이템 식별
+ *
+ * 식별 데이터는 INTEGER 키 하나({@link PackedScrollData}: 형식 버전 + 타입 번호 + 플래그)로 저장하여
+ * 판별 시 조회 1회로 끝납니다. 이전 형식(BYTE 표시 + STRING 타입 ID, 키 2개) 아이템도 인식하며,
+ * 처음 사용될 때 새 형식으로 바꿔 씁니다.
+ *
+ * 타입별 주문서 원형(prototype)을 로드/리로드 시 한 번만 만들어 두고,
+ * 생성은 원형 복제, 변환은 원형 값 적용으로 처리합니다.
+ *
+ * 타입 목록과 원형은 한 객체({@link Catalog})로 묶어 참조 하나로 교체하므로,
+ * 리로드 중에도 목록과 원형이 서로 어긋난 상태는 보이지 않습니다.
  */
 public class ScrollManager {
 
     private final KnockbackScroll plugin;
 
-    // NamespacedKey - 주문서 식별용
-    private final NamespacedKey scrollKey;
-    private final NamespacedKey typeKey;
+    // NamespacedKey - 주문서 식별용 (형식 버전 + 타입 번호 + 플래그)
+    private final NamespacedKey dataKey;
+
+    // 이전 형식 NamespacedKey (인식 및 변환용)
+    private final NamespacedKey legacyScrollKey;
+    private final NamespacedKey legacyTypeKey;
+
+    // 타입 목록과 타입 번호별 주문서 원형 (리로드 시 통째로 교체)
+    private volatile Catalog catalog = new Catalog(ScrollTypeRegistry.EMPTY, new Prototype[0]);
 
     public ScrollManager(KnockbackScroll plugin) {
         this.plugin = plugin;
-        this.scrollKey = new NamespacedKey(plugin, "knockback_scroll");
-        this.typeKey = new NamespacedKey(plugin, "scroll_type");
+        this.dataKey = new NamespacedKey(plugin, "scroll");
+        this.legacyScrollKey = new NamespacedKey(plugin, "knockback_scroll");
+        this.legacyTypeKey = new NamespacedKey(plugin, "scroll_type");
+        buildPrototypes();
     }
 
     /**
-     * 주문서 아이템 생성
-     * @param type 주문서 타입 (1회용/다회용)
-     * @return 생성된 주문서 ItemStack
+     * 설정 리로드 후 원형 재생성
      */
-    public ItemStack createScroll(ScrollType type) {
-        ItemStack scroll = new ItemStack(Material.PAPER);
-        ItemMeta meta = scroll.getItemMeta();
+    public void reload() {
+        buildPrototypes();
+    }
 
-        if (meta == null) {
-            plugin.getLogger().severe("ItemMeta를 생성할 수 없습니다.");
-            return scroll;
+    /**
+     * 타입별 주문서 원형 생성
+     */
+    private void buildPrototypes() {
+        ScrollTypeRegistry registry = plugin.getConfigManager().getSnapshot().scrollTypes();
+        Prototype[] built = new Prototype[registry.getNumericIdBound()];
+        for (ScrollType type : registry.getTypes()) {
+            ItemStack scroll = new ItemStack(type.getMaterial());
+            ItemMeta meta = scroll.getItemMeta();
+
+            if (meta == null) {
+                plugin.getLogger().severe("ItemMeta를 생성할 수 없습니다: " + type.getId());
+                built[type.getNumericId()] = new Prototype(type, scroll, null);
+                continue;
+            }
+
+            applyScrollData(meta, type, 0);
+            scroll.setItemMeta(meta);
+
+            built[type.getNumericId()] = new Prototype(type, scroll, scroll.getItemMeta());
         }
+        catalog = new Catalog(registry, built);
+    }
+
+    /**
+     * 현재 주문서 타입 목록 반환
+     */
+    public ScrollTypeRegistry getScrollTypes() {
+        return catalog.registry;
+    }
 
+    /**
+     * 주문서 표시명, 설명, 인챈트 효과, 식별 데이터 적용
+     */
+    private void applyScrollData(ItemMeta meta, ScrollType type, int flags) {
         // 표시명 설정
-        String displayName = plugin.getConfigManager().getScrollDisplayName(type);
-        meta.setDisplayName(displayName);
+        meta.setDisplayName(type.getItemName());
 
         // 설명(Lore) 설정
-        List<String> lore = plugin.getConfigManager().getScrollLore(type);
-        meta.setLore(lore);
+        meta.setLore(type.getLore());
 
         // 인챈트 효과 추가 (시각적 효과만)
-        meta.addEnchant(Enchantment.DURABILITY, 1, true);
-        meta.addItemFlags(ItemFlag.HIDE_ENCHANTS);
+        if (type.isGlowing()) {
+            meta.addEnchant(Enchantment.DURABILITY, 1, true);
+            meta.addItemFlags(ItemFlag.HIDE_ENCHANTS);
+        }
 
         // PersistentDataContainer에 데이터 저장
-        PersistentDataContainer pdc = meta.getPersistentDataContainer();
-        pdc.set(scrollKey, PersistentDataType.BYTE, (byte) 1);
-        pdc.set(typeKey, PersistentDataType.STRING, type.getId());
+        writeScrollData(meta.getPersistentDataContainer(), type, flags);
+    }
+
+    /**
+     * 식별 데이터 기록 (이전 형식 키는 제거)
+     */
+    private void writeScrollData(PersistentDataContainer pdc, ScrollType type, int flags) {
+        pdc.set(dataKey, PersistentDataType.INTEGER, PackedScrollData.pack(type.getNumericId(), flags));
+        pdc.remove(legacyScrollKey);
+        pdc.remove(legacyTypeKey);
+    }
 
-        scroll.setItemMeta(meta);
-        return scroll;
+    /**
+     * 식별 데이터로 주문서 타입 조회
+     * @return 주문서 타입, 주문서가 아니거나 알 수 없는 타입이면 null
+     */
+    private ScrollType readScrollType(PersistentDataContainer pdc) {
+        Integer packed = pdc.get(dataKey, PersistentDataType.INTEGER);
+        if (packed != null) {
+            if (PackedScrollData.version(packed) != PackedScrollData.VERSION) {
+                return null;
+            }
+            return catalog.registry.fromNumericId(PackedScrollData.typeId(packed));
+        }
+        return readLegacyScrollType(pdc);
+    }
+
+    /**
+     * 이전 형식(키 2개) 식별 데이터로 주문서 타입 조회
+     * @return 주문서 타입, 이전 형식 주문서가 아니면 null
+     */
+    private ScrollType readLegacyScrollType(PersistentDataContainer pdc) {
+        if (!pdc.has(legacyScrollKey, PersistentDataType.BYTE)) {
+            return null;
+        }
+        return catalog.registry.fromId(pdc.get(legacyTypeKey, PersistentDataType.STRING));
+    }
+
+    /**
+     * 주문서 아이템 생성 (원형 복제)
+     * @param type 주문서 타입
+     * @return 생성된 주문서 ItemStack, 리로드로 타입이 제거되었으면 null
+     */
+    public ItemStack createScroll(ScrollType type) {
+        Prototype prototype = prototypeOf(type);
+        return prototype == null ? null : prototype.item.clone();
+    }
+
+    /**
+     * 타입의 현재 원형 조회
+     * 리로드 전에 얻은 타입이면 같은 ID의 새 원형을 사용합니다.
+     */
+    private Prototype prototypeOf(ScrollType type) {
+        Catalog current = catalog;
+        int numericId = type.getNumericId();
+        if (numericId < current.prototypes.length) {
+            Prototype prototype = current.prototypes[numericId];
+            if (prototype != null && prototype.type == type) {
+                return prototype;
+            }
+        }
+
+        ScrollType reloaded = current.registry.fromId(type.getId());
+        return reloaded == null ? null : current.prototypes[reloaded.getNumericId()];
     }
 
     /**
@@ -83,7 +188,7 @@ public class ScrollManager {
         }
 
         PersistentDataContainer pdc = meta.getPersistentDataContainer();
-        return pdc.has(scrollKey, PersistentDataType.BYTE);
+        return pdc.has(dataKey, PersistentDataType.INTEGER) || pdc.has(legacyScrollKey, PersistentDataType.BYTE);
     }
 
     /**
@@ -92,19 +197,89 @@ public class ScrollManager {
      * @return 주문서 타입 (주문서가 아니면 null)
      */
     public ScrollType getScrollType(ItemStack item) {
-        if (!isKnockbackScroll(item)) {
+        if (item == null || item.getType().isAir()) {
             return null;
         }
 
+        // getItemMeta()는 매번 복사본을 만들므로 한 번만 호출
+        ItemMeta meta = item.getItemMeta();
+        if (meta == null) {
+            return null;
+        }
+
+        return readScrollType(meta.getPersistentDataContainer());
+    }
+
+    /**
+     * 손에 든 주문서 타입 반환 (우클릭 처리용 빠른 경로)
+     *
+     * 1. 아이템 종류 화이트리스트 확인 (할당 없음)
+     * 2. 플레이어별 "핫바 슬롯 X는 주문서인가" 캐시 확인 (할당 없음)
+     * 3. 캐시 미스일 때만 PersistentDataContainer 확인 후 캐싱
+     *
+     * @param player 플레이어
+     * @param data 플레이어 상태 (null이면 캐시 미사용)
+     * @param material 손에 든 아이템 종류
+     * @return 주문서 타입 (주문서가 아니면 null)
+     */
+    public ScrollType getHeldScrollType(Player player, PlayerScrollData data, Material material) {
+        if (!plugin.getConfigManager().isScrollMaterial(material)) {
+            return null;
+        }
+
+        int heldSlot = player.getInventory().getHeldItemSlot();
+        if (data != null && data.isHeldCacheValid(heldSlot, material)) {
+            // 리로드 후에도 같은 ID는 같은 번호이므로 캐시를 그대로 사용
+            return catalog.registry.fromNumericId(data.getHeldCacheType());
+        }
+
+        ScrollType type = readHeldScrollType(player);
+        if (data != null) {
+            data.setHeldCache(heldSlot, material, type == null ? -1 : type.getNumericId());
+        }
+        return type;
+    }
+
+    /**
+     * 손에 든 아이템의 주문서 타입 조회
+     * 이전 형식 주문서면 그 자리에서 새 형식으로 바꿔 씀 (아이템당 최초 1회)
+     */
+    private ScrollType readHeldScrollType(Player player) {
+        ItemStack item = player.getInventory().getItemInMainHand();
+        if (item.getType().isAir()) {
+            return null;
+        }
+
+        // getItemMeta()는 매번 복사본을 만들므로 한 번만 호출
         ItemMeta meta = item.getItemMeta();
         if (meta == null) {
             return null;
         }
 
         PersistentDataContainer pdc = meta.getPersistentDataContainer();
-        String typeId = pdc.get(typeKey, PersistentDataType.STRING);
+        if (pdc.has(dataKey, PersistentDataType.INTEGER)) {
+            return readScrollType(pdc);
+        }
 
-        return ScrollType.fromId(typeId);
+        ScrollType legacyType = readLegacyScrollType(pdc);
+        if (legacyType != null) {
+            writeScrollData(pdc, legacyType, 0);
+            item.setItemMeta(meta);
+            player.getInventory().setItemInMainHand(item);
+        }
+        return legacyType;
+    }
+
+    /**
+     * 손에 든 주문서 판별 캐시 무효화
+     * 인벤토리 변경, 핫바 슬롯 변경 시 호출
+     * @param player 대상 플레이어
+     */
+    public void invalidateHeldCache(Player player) {
+        PlayerScrollData data = plugin.getPlayerState().get(player.getUniqueId());
+        if (data != null) {
+            data.invalidateHeldCache();
+        }
     }
 
     /**
@@ -118,46 +293,91 @@ public class ScrollManager {
             return false;
         }
 
-        ItemMeta meta = item.getItemMeta();
-        if (meta == null) {
+        Prototype prototype = prototypeOf(type);
+        if (prototype == null || prototype.meta == null) {
             return false;
         }
 
-        // 표시명 설정
-        String displayName = plugin.getConfigManager().getScrollDisplayName(type);
-        meta.setDisplayName(displayName);
-
-        // 설명(Lore) 설정
-        List<String> lore = plugin.getConfigManager().getScrollLore(type);
-        meta.setLore(lore);
-
-        // 인챈트 효과 추가 (시각적 효과만)
-        meta.addEnchant(Enchantment.DURABILITY, 1, true);
-        meta.addItemFlags(ItemFlag.HIDE_ENCHANTS);
-
-        // PersistentDataContainer에 데이터 저장
-        PersistentDataContainer pdc = meta.getPersistentDataContainer();
-        pdc.set(scrollKey, PersistentDataType.BYTE, (byte) 1);
-        pdc.set(typeKey, PersistentDataType.STRING, type.getId());
+        if (!item.hasItemMeta()) {
+            // 기존 데이터가 없는 아이템은 원형 메타에 변환 표시만 더해 적용
+            ItemMeta meta = prototype.meta.clone();
+            writeScrollData(meta.getPersistentDataContainer(), prototype.type, PackedScrollData.FLAG_CONVERTED);
+            if (!item.setItemMeta(meta)) {
+                return false;
+            }
+        } else {
+            // 기존 데이터(내구도, 인챈트 등)는 유지하고 원형 값만 덮어씀
+            ItemMeta meta = item.getItemMeta();
+            if (meta == null) {
+                return false;
+            }
+            applyScrollData(meta, prototype.type, PackedScrollData.FLAG_CONVERTED);
+            item.setItemMeta(meta);
+        }
 
-        item.setItemMeta(meta);
+        // 다른 종류의 아이템이면 판별 화이트리스트에 추가
+        plugin.getConfigManager().addScrollMaterial(item.getType());
         return true;
     }
 
     /**
-     * 주문서 사용 처리 (1회용인 경우 소모)
+     * 주문서 사용 처리 (소모형 타입인 경우 소모)
      * @param player 사용 플레이어
      * @param item 사용할 주문서
      * @return 사용 성공 여부
      */
     public boolean consumeScroll(Player player, ItemStack item) {
-        ScrollType type = getScrollType(item);
+        return consume(player, item, getScrollType(item));
+    }
+
+    /**
+     * 주문서 사용 처리 (판별 캐시 등으로 타입을 미리 알고 있는 경우)
+     * 판별 이후 손의 아이템이 바뀌었을 수 있으므로(캐시 무효화 이벤트 없이 바뀐 경우, 활성화 이벤트 리스너 등)
+     * 소모 전에 아이템 데이터로 같은 타입의 주문서인지 다시 확인합니다. (사용 가능한 클릭에서만 1회)
+     * @param player 사용 플레이어
+     * @param item 사용할 주문서
+     * @param type 판별된 주문서 타입
+     * @return 사용 성공 여부, 아이템이 그 타입의 주문서가 아니면 false (소모하지 않음)
+     */
+    public boolean consumeScroll(Player player, ItemStack item, ScrollType type) {
+        ScrollType actual = getScrollType(item);
+        if (type == null || actual == null || !actual.getId().equals(type.getId())) {
+            return false;
+        }
+        return consume(player, item, actual);
+    }
+
+    /**
+     * 소모한 주문서 돌려주기 (소모 후 효과 발동이 이벤트로 취소된 경우)
+     * 손이 비었으면 손에, 손에 같은 주문서가 있으면 그 묶음에, 아니면 인벤토리에 넣고 남으면 발밑에 떨어뜨립니다.
+     * @param player 사용 플레이어
+     * @param consumed 소모 전에 복제한 주문서 (수량 무관, 1개만 돌려줌)
+     */
+    public void returnScroll(Player player, ItemStack consumed) {
+        ItemStack single = consumed.clone();
+        single.setAmount(1);
+
+        PlayerInventory inventory = player.getInventory();
+        ItemStack hand = inventory.getItemInMainHand();
+        if (hand.getType().isAir()) {
+            inventory.setItemInMainHand(single);
+        } else if (hand.isSimilar(single) && hand.getAmount() < hand.getMaxStackSize()) {
+            hand.setAmount(hand.getAmount() + 1);
+        } else {
+            for (ItemStack leftover : inventory.addItem(single).values()) {
+                player.getWorld().dropItemNaturally(player.getLocation(), leftover);
+            }
+        }
+        invalidateHeldCache(player);
+    }
+
+    private boolean consume(Player player, ItemStack item, ScrollType type) {
         if (type == null) {
             return false;
         }
 
-        if (type == ScrollType.SINGLE_USE) {
-            // 1회용: 아이템 수량 감소
+        if (type.isConsumable()) {
+            // 소모형: 아이템 수량 감소
             if (item.getAmount() > 1) {
                 item.setAmount(item.getAmount() - 1);
             } else {
@@ -165,8 +385,39 @@ public class ScrollManager {
                 player.getInventory().setItemInMainHand(new ItemStack(Material.AIR));
             }
         }
-        // 다회용(UNLIMITED)은 소모하지 않음
+        // 소모하지 않는 타입(다회용 등)은 그대로 유지
 
         return true;
     }
+
+    /**
+     * 타입별 주문서 원형
+     * 공유되는 객체이므로 외부로 내보낼 때는 반드시 복제해야 합니다.
+     */
+    private static final class Prototype {
+
+        private final ScrollType type;
+        private final ItemStack item;
+        private final ItemMeta meta;
+
+        private Prototype(ScrollType type, ItemStack item, ItemMeta meta) {
+            this.type = type;
+            this.item = item;
+            this.meta = meta;
+        }
+    }
+
+    /**
+     * 타입 목록과 타입 번호별 원형 묶음 (불변)
+     */
+    private static final class Catalog {
+
+        private final ScrollTypeRegistry registry;
+        private final Prototype[] prototypes;
+
+        private Catalog(ScrollTypeRegistry registry, Prototype[] prototypes) {
+            this.registry = registry;
+            this.prototypes = prototypes;
+        }
+    }
 }
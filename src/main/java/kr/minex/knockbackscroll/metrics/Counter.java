@@ -0,0 +1,48 @@
+package kr.minex.knockbackscroll.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 누적 카운터 (여러 스레드에서 증가해도 경합이 적음)
+ */
+public final class Counter {
+
+    private final String name;
+    private final String description;
+    private final LongAdder value = new LongAdder();
+
+    public Counter(String name, String description) {
+        this.name = name;
+        this.description = description;
+    }
+
+    /**
+     * 지표 이름 반환 (내보내기용, 영문 snake_case)
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 지표 설명 반환
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    public void increment() {
+        value.increment();
+    }
+
+    public void add(long amount) {
+        value.add(amount);
+    }
+
+    public long get() {
+        return value.sum();
+    }
+
+    public void reset() {
+        value.reset();
+    }
+}
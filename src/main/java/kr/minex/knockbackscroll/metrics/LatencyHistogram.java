@@ -0,0 +1,184 @@
+package kr.minex.knockbackscroll.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 고정 메모리 지연시간 히스토그램 (HdrHistogram 방식의 로그-선형 버킷)
+ *
+ * - 0~31ns는 1ns 단위 버킷
+ * - 그 이상은 2의 거듭제곱 구간마다 16개 버킷 (상대 오차 1/16 이하)
+ * - 전체 long 범위를 976개 버킷으로 표현하며, 기록 수와 무관하게 메모리가 고정됨
+ *
+ * 기록은 락 없이 원자적으로 처리되며, 다른 스레드에서 스냅샷을 읽어도 안전합니다.
+ * (스냅샷은 기록과 동시에 만들어지면 마지막 몇 건이 빠질 수 있음)
+ */
+public final class LatencyHistogram {
+
+    // 구간당 버킷 수 = 2^SUB_BUCKET_BITS
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    // 1ns 단위로 그대로 저장하는 값의 범위 (0 ~ LINEAR_LIMIT-1)
+    private static final int LINEAR_LIMIT = SUB_BUCKETS * 2;
+
+    // 전체 버킷 수 (최대 shift = 63 - SUB_BUCKET_BITS)
+    private static final int BUCKET_COUNT = LINEAR_LIMIT + (63 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final String name;
+    private final String description;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder totalCount = new LongAdder();
+    private final LongAdder totalSum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    public LatencyHistogram(String name, String description) {
+        this.name = name;
+        this.description = description;
+    }
+
+    /**
+     * 지표 이름 반환 (내보내기용, 영문 snake_case)
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 지표 설명 반환
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * 값 기록
+     * @param nanos 지연시간 (나노초, 음수는 0으로 처리)
+     */
+    public void record(long nanos) {
+        long value = Math.max(0L, nanos);
+        counts.getAndIncrement(indexOf(value));
+        totalCount.increment();
+        totalSum.add(value);
+
+        long currentMax = max.get();
+        while (value > currentMax && !max.compareAndSet(currentMax, value)) {
+            currentMax = max.get();
+        }
+    }
+
+    /**
+     * 현재 상태의 스냅샷 생성
+     */
+    public Snapshot snapshot() {
+        long[] copy = new long[BUCKET_COUNT];
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            copy[i] = counts.get(i);
+            count += copy[i];
+        }
+        return new Snapshot(copy, count, totalSum.sum(), max.get());
+    }
+
+    /**
+     * 기록 초기화
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts.set(i, 0L);
+        }
+        totalCount.reset();
+        totalSum.reset();
+        max.set(0L);
+    }
+
+    /**
+     * 기록된 값 수 반환
+     */
+    public long getCount() {
+        return totalCount.sum();
+    }
+
+    static int indexOf(long value) {
+        if (value < LINEAR_LIMIT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) - SUB_BUCKETS;
+        return LINEAR_LIMIT + (shift - 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * 버킷에 속하는 가장 큰 값 반환
+     */
+    static long highestValueOf(int index) {
+        if (index < LINEAR_LIMIT) {
+            return index;
+        }
+        int shift = (index - LINEAR_LIMIT) / SUB_BUCKETS + 1;
+        long subBucket = (index - LINEAR_LIMIT) % SUB_BUCKETS + SUB_BUCKETS;
+        long upper = ((subBucket + 1) << shift) - 1;
+        return upper < 0 ? Long.MAX_VALUE : upper;
+    }
+
+    /**
+     * 히스토그램 스냅샷 (불변)
+     */
+    public static final class Snapshot {
+
+        private final long[] counts;
+        private final long count;
+        private final long sum;
+        private final long max;
+
+        private Snapshot(long[] counts, long count, long sum, long max) {
+            this.counts = counts;
+            this.count = count;
+            this.sum = sum;
+            this.max = max;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * 기록된 값의 합 반환 (나노초)
+         */
+        public long getSum() {
+            return sum;
+        }
+
+        /**
+         * 최댓값 반환 (나노초, 버킷이 아닌 정확한 값)
+         */
+        public long getMax() {
+            return max;
+        }
+
+        /**
+         * 백분위 값 반환
+         * @param percentile 0~100
+         * @return 해당 백분위 이하 값이 속한 버킷의 상한 (나노초, 최댓값을 넘지 않음), 기록이 없으면 0
+         */
+        public long getValueAtPercentile(double percentile) {
+            if (count == 0) {
+                return 0L;
+            }
+            double clamped = Math.min(100.0, Math.max(0.0, percentile));
+            long target = Math.max(1L, (long) Math.ceil(clamped / 100.0 * count));
+
+            long cumulative = 0;
+            for (int i = 0; i < counts.length; i++) {
+                cumulative += counts[i];
+                if (cumulative >= target) {
+                    return Math.min(highestValueOf(i), max);
+                }
+            }
+            return max;
+        }
+    }
+}
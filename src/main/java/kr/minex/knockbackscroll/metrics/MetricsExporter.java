@@ -0,0 +1,85 @@
+package kr.minex.knockbackscroll.metrics;
+
+import kr.minex.knockbackscroll.KnockbackScroll;
+import kr.minex.knockbackscroll.config.ScrollConfig;
+import kr.minex.knockbackscroll.scheduler.ScrollTask;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.logging.Level;
+
+/**
+ * 지표 파일 주기적 내보내기
+ * 비동기 태스크로 지표를 파일에 기록합니다.
+ * 임시 파일에 쓴 뒤 교체하므로, 수집기가 쓰는 중인 파일을 읽는 일이 없습니다.
+ */
+public class MetricsExporter {
+
+    private final KnockbackScroll plugin;
+
+    private ScrollTask task;
+
+    // 마지막 기록이 실패했는지 여부 (같은 오류 로그 반복 방지)
+    private volatile boolean lastExportFailed;
+
+    public MetricsExporter(KnockbackScroll plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * 설정에 따라 내보내기 시작 (이미 실행 중이면 다시 시작)
+     */
+    public void start() {
+        stop();
+
+        ScrollConfig config = plugin.getConfigManager().getSnapshot();
+        if (!config.metricsExportEnabled()) {
+            return;
+        }
+
+        MetricsFormat format = MetricsFormat.fromId(config.metricsExportFormat());
+        if (format == null) {
+            plugin.getLogger().warning("알 수 없는 지표 형식: " + config.metricsExportFormat() + ", 기본값(prometheus) 사용");
+            format = MetricsFormat.PROMETHEUS;
+        }
+
+        Path file = plugin.getDataFolder().toPath().resolve(config.metricsExportFile());
+        long periodTicks = Math.max(1, config.metricsExportIntervalSeconds()) * 20L;
+        MetricsFormat selected = format;
+        task = plugin.getScrollScheduler().runAsyncTimer(() -> export(file, selected), periodTicks, periodTicks);
+    }
+
+    /**
+     * 내보내기 정지
+     */
+    public void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+    }
+
+    /**
+     * 지표를 파일로 기록
+     * @param file 대상 파일
+     * @param format 형식
+     */
+    public void export(Path file, MetricsFormat format) {
+        String content = format.render(plugin.getMetrics(), System.currentTimeMillis());
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            Files.write(temp, content.getBytes(StandardCharsets.UTF_8));
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            lastExportFailed = false;
+        } catch (IOException e) {
+            if (!lastExportFailed) {
+                plugin.getLogger().log(Level.WARNING, "지표 파일 기록 실패: " + file, e);
+            }
+            lastExportFailed = true;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package kr.minex.knockbackscroll.metrics;
+
+/**
+ * 지표 내보내기 형식
+ */
+public enum MetricsFormat {
+
+    /**
+     * Prometheus 텍스트 형식 (node_exporter textfile collector 용)
+     */
+    PROMETHEUS("prometheus") {
+        @Override
+        public String render(ScrollMetrics metrics, long timestampMillis) {
+            StringBuilder builder = new StringBuilder(2048);
+            for (Counter counter : metrics.getCounters()) {
+                String name = PREFIX + counter.getName() + "_total";
+                builder.append("# HELP ").append(name).append(' ').append(counter.getDescription()).append('\n');
+                builder.append("# TYPE ").append(name).append(" counter\n");
+                builder.append(name).append(' ').append(counter.get()).append('\n');
+            }
+            for (LatencyHistogram histogram : metrics.getHistograms()) {
+                LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+                String name = PREFIX + histogram.getName() + "_seconds";
+                builder.append("# HELP ").append(name).append(' ').append(histogram.getDescription()).append('\n');
+                builder.append("# TYPE ").append(name).append(" summary\n");
+                for (double quantile : QUANTILES) {
+                    builder.append(name).append("{quantile=\"").append(quantile).append("\"} ")
+                            .append(seconds(snapshot.getValueAtPercentile(quantile * 100.0))).append('\n');
+                }
+                builder.append(name).append("_sum ").append(seconds(snapshot.getSum())).append('\n');
+                builder.append(name).append("_count ").append(snapshot.getCount()).append('\n');
+                builder.append("# TYPE ").append(name).append("_max gauge\n");
+                builder.append(name).append("_max ").append(seconds(snapshot.getMax())).append('\n');
+            }
+            return builder.toString();
+        }
+    },
+
+    /**
+     * JSON 형식 (나노초 단위)
+     */
+    JSON("json") {
+        @Override
+        public String render(ScrollMetrics metrics, long timestampMillis) {
+            StringBuilder builder = new StringBuilder(2048);
+            builder.append("{\"timestamp\":").append(timestampMillis).append(",\"counters\":{");
+            boolean first = true;
+            for (Counter counter : metrics.getCounters()) {
+                if (!first) {
+                    builder.append(',');
+                }
+                first = false;
+                builder.append('"').append(counter.getName()).append("\":").append(counter.get());
+            }
+            builder.append("},\"latencies\":{");
+            first = true;
+            for (LatencyHistogram histogram : metrics.getHistograms()) {
+                if (!first) {
+                    builder.append(',');
+                }
+                first = false;
+                LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+                builder.append('"').append(histogram.getName()).append("\":{")
+                        .append("\"count\":").append(snapshot.getCount())
+                        .append(",\"sum_ns\":").append(snapshot.getSum())
+                        .append(",\"p50_ns\":").append(snapshot.getValueAtPercentile(50.0))
+                        .append(",\"p99_ns\":").append(snapshot.getValueAtPercentile(99.0))
+                        .append(",\"max_ns\":").append(snapshot.getMax())
+                        .append('}');
+            }
+            builder.append("}}\n");
+            return builder.toString();
+        }
+    };
+
+    private static final String PREFIX = "knockbackscroll_";
+    private static final double[] QUANTILES = {0.5, 0.99};
+
+    private final String id;
+
+    MetricsFormat(String id) {
+        this.id = id;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * 지표를 문자열로 변환
+     * @param metrics 지표
+     * @param timestampMillis 기록 시각 (epoch 밀리초)
+     */
+    public abstract String render(ScrollMetrics metrics, long timestampMillis);
+
+    /**
+     * ID로 형식 찾기
+     * @return 형식, 없으면 null
+     */
+    public static MetricsFormat fromId(String id) {
+        for (MetricsFormat format : values()) {
+            if (format.id.equalsIgnoreCase(id)) {
+                return format;
+            }
+        }
+        return null;
+    }
+
+    private static String seconds(long nanos) {
+        return Double.toString(nanos / 1_000_000_000.0);
+    }
+}
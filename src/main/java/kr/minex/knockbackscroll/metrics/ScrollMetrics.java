@@ -0,0 +1,107 @@
+package kr.minex.knockbackscroll.metrics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 플러그인 런타임 지표 모음
+ * 핫패스에서 사용하는 카운터와 지연시간 히스토그램을 한곳에서 관리합니다.
+ *
+ * 시간 측정은 비활성화 시 System.nanoTime() 호출도 하지 않습니다.
+ * <pre>
+ * long start = metrics.startTimer();
+ * ...
+ * metrics.stopTimer(metrics.interact, start);
+ * </pre>
+ */
+public final class ScrollMetrics {
+
+    private final List<Counter> counters = new ArrayList<>();
+    private final List<LatencyHistogram> histograms = new ArrayList<>();
+
+    // ===== 카운터 =====
+    public final Counter scrollCheckFiltered = counter("scroll_check_filtered", "아이템 종류로 걸러진 우클릭");
+    public final Counter scrollCheckHits = counter("scroll_check_hits", "주문서로 판별된 우클릭");
+    public final Counter scrollCheckMisses = counter("scroll_check_misses", "주문서가 아닌 것으로 판별된 우클릭");
+    public final Counter activations = counter("activations", "효과 활성화");
+    public final Counter extensions = counter("extensions", "활성화된 효과 연장/갱신");
+    public final Counter cooldownRejections = counter("cooldown_rejections", "쿨타임으로 거부된 사용");
+    public final Counter feedbackSuppressed = counter("feedback_suppressed", "전송을 생략한 거부 안내");
+    public final Counter expirations = counter("expirations", "효과 만료");
+    public final Counter hudUpdates = counter("hud_updates", "카운트다운 HUD 전송");
+    public final Counter partyRecipients = counter("party_recipients", "광역 주문서로 효과를 받은 아군");
+    public final Counter auditDropped = counter("audit_dropped", "가득 차서 버린 감사 기록");
+
+    // ===== 지연시간 =====
+    public final LatencyHistogram interact = histogram("interact", "주문서 후보 우클릭 처리");
+    public final LatencyHistogram expirySweep = histogram("expiry_sweep", "틱당 효과 만료 처리");
+    public final LatencyHistogram attributeApply = histogram("attribute_apply", "넉백 저항 속성 적용");
+    public final LatencyHistogram attributeRemove = histogram("attribute_remove", "넉백 저항 속성 제거");
+    public final LatencyHistogram hudTick = histogram("hud_tick", "틱당 카운트다운 HUD 갱신");
+    public final LatencyHistogram partyQuery = histogram("party_query", "광역 주문서 주변 아군 검색");
+
+    // 시간 측정 여부
+    private volatile boolean timingEnabled = true;
+
+    /**
+     * 시간 측정 시작
+     * @return 시작 시각 (나노초), 측정이 꺼져 있으면 0
+     */
+    public long startTimer() {
+        return timingEnabled ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * 시간 측정 종료 후 기록
+     * @param histogram 기록할 히스토그램
+     * @param start {@link #startTimer()} 반환값 (0이면 무시)
+     */
+    public void stopTimer(LatencyHistogram histogram, long start) {
+        if (start != 0L) {
+            histogram.record(System.nanoTime() - start);
+        }
+    }
+
+    public boolean isTimingEnabled() {
+        return timingEnabled;
+    }
+
+    public void setTimingEnabled(boolean timingEnabled) {
+        this.timingEnabled = timingEnabled;
+    }
+
+    /**
+     * 모든 카운터 반환 (등록 순서)
+     */
+    public List<Counter> getCounters() {
+        return Collections.unmodifiableList(counters);
+    }
+
+    /**
+     * 모든 히스토그램 반환 (등록 순서)
+     */
+    public List<LatencyHistogram> getHistograms() {
+        return Collections.unmodifiableList(histograms);
+    }
+
+    /**
+     * 모든 지표 초기화
+     */
+    public void reset() {
+        counters.forEach(Counter::reset);
+        histograms.forEach(LatencyHistogram::reset);
+    }
+
+    private Counter counter(String name, String description) {
+        Counter counter = new Counter(name, description);
+        counters.add(counter);
+        return counter;
+    }
+
+    private LatencyHistogram histogram(String name, String description) {
+        LatencyHistogram histogram = new LatencyHistogram(name, description);
+        histograms.add(histogram);
+        return histogram;
+    }
+}
@@ -1,69 +1,165 @@
 package kr.minex.knockbackscroll.models;
 
+import org.bukkit.Material;
+
+import java.util.List;
+
 /**
- * 주문서 타입 열거형
- * 1회용과 다회용(무제한) 주문서 구분
+ * 주문서 타입
+ * config.yml의 scrolls 항목 하나에 해당하며, 타입마다 지속시간, 쿨타임, 넉백 저항 수치, 소모 여부, 아이템 모양을 가집니다.
+ *
+ * - ID(설정 키)는 아이템 데이터에 저장되므로 이미 지급된 주문서를 식별하는 기준입니다.
+ * - 반경(radius)이 0보다 크면 광역(파티) 주문서로, 사용자 주변의 아군에게도 같은 효과를 부여합니다.
+ * - 번호(numericId)는 실행 중에만 쓰는 작은 정수로, 배열 인덱스 조회에 사용합니다.
+ *   리로드해도 같은 ID는 같은 번호를 유지합니다. ({@link ScrollTypeRegistry})
+ *
+ * 불변 객체이므로 리로드 중에도 안전하게 공유할 수 있습니다.
  */
-public enum ScrollType {
-
-    SINGLE_USE("single-use", "1회용"),
-    UNLIMITED("unlimited", "다회용");
+public final class ScrollType {
 
+    private final int numericId;
     private final String id;
     private final String displayName;
+    private final List<String> aliases;
+    private final int durationSeconds;
+    private final int cooldownSeconds;
+    private final double resistance;
+    private final boolean consumable;
+    private final double radius;
+    private final double partyCooldownRatio;
+    private final Material material;
+    private final boolean glowing;
+    private final String itemName;
+    private final List<String> lore;
 
-    ScrollType(String id, String displayName) {
+    public ScrollType(int numericId, String id, String displayName, List<String> aliases,
+                      int durationSeconds, int cooldownSeconds, double resistance, boolean consumable,
+                      double radius, double partyCooldownRatio, Material material, boolean glowing, String itemName, List<String> lore) {
+        this.numericId = numericId;
         this.id = id;
         this.displayName = displayName;
+        this.aliases = List.copyOf(aliases);
+        this.durationSeconds = durationSeconds;
+        this.cooldownSeconds = cooldownSeconds;
+        this.resistance = resistance;
+        this.consumable = consumable;
+        this.radius = radius;
+        this.partyCooldownRatio = partyCooldownRatio;
+        this.material = material;
+        this.glowing = glowing;
+        this.itemName = itemName;
+        this.lore = List.copyOf(lore);
+    }
+
+    /**
+     * 실행 중 타입 번호 반환 (배열 인덱스용, 0 이상)
+     */
+    public int getNumericId() {
+        return numericId;
     }
 
     /**
-     * 주문서 타입 ID 반환
-     * @return 타입 ID (예: "single", "unlimited")
+     * 주문서 타입 ID 반환 (아이템 데이터에 저장되는 값)
+     * @return 타입 ID (예: "single-use", "unlimited")
      */
     public String getId() {
         return id;
     }
 
     /**
-     * 표시용 이름 반환
-     * @return 한국어 표시명 (예: "1회용", "다회용")
+     * 표시용 이름 반환 (명령어 입력, 메시지 {type})
+     * @return 표시명 (예: "1회용", "다회용")
      */
     public String getDisplayName() {
         return displayName;
     }
 
     /**
-     * ID로 ScrollType 찾기
-     * @param id 타입 ID
-     * @return 해당 ScrollType, 없으면 null
+     * 명령어에서 함께 인식할 다른 이름 반환
      */
-    public static ScrollType fromId(String id) {
-        if (id == null) {
-            return null;
-        }
-        for (ScrollType type : values()) {
-            if (type.id.equalsIgnoreCase(id)) {
-                return type;
-            }
-        }
-        return null;
+    public List<String> getAliases() {
+        return aliases;
     }
 
     /**
-     * 표시명으로 ScrollType 찾기
-     * @param name 한국어 표시명
-     * @return 해당 ScrollType, 없으면 null
+     * 효과 지속시간 반환 (초)
      */
-    public static ScrollType fromDisplayName(String name) {
-        if (name == null) {
-            return null;
-        }
-        for (ScrollType type : values()) {
-            if (type.displayName.equals(name)) {
-                return type;
-            }
-        }
-        return null;
+    public int getDurationSeconds() {
+        return durationSeconds;
+    }
+
+    /**
+     * 사용 후 쿨타임 반환 (초)
+     */
+    public int getCooldownSeconds() {
+        return cooldownSeconds;
+    }
+
+    /**
+     * 넉백 저항 수치 반환 (0.0 ~ 1.0, 1.0이면 넉백 완전 무효화)
+     */
+    public double getResistance() {
+        return resistance;
+    }
+
+    /**
+     * 사용 시 소모 여부 반환
+     */
+    public boolean isConsumable() {
+        return consumable;
+    }
+
+    /**
+     * 효과를 함께 받을 아군 범위 반환 (블록, 0이면 사용자만)
+     */
+    public double getRadius() {
+        return radius;
+    }
+
+    /**
+     * 광역(파티) 주문서 여부
+     */
+    public boolean isParty() {
+        return radius > 0.0;
+    }
+
+    /**
+     * 효과를 함께 받은 아군에게 적용할 쿨타임 비율 반환 (0.0 ~ 1.0, 사용자 쿨타임 기준)
+     */
+    public double getPartyCooldownRatio() {
+        return partyCooldownRatio;
+    }
+
+    /**
+     * 생성 시 아이템 종류 반환
+     */
+    public Material getMaterial() {
+        return material;
+    }
+
+    /**
+     * 인챈트 반짝임 표시 여부 반환
+     */
+    public boolean isGlowing() {
+        return glowing;
+    }
+
+    /**
+     * 아이템 표시명 반환 (색상 코드 적용됨)
+     */
+    public String getItemName() {
+        return itemName;
+    }
+
+    /**
+     * 아이템 설명 반환 (색상 코드, {duration}/{cooldown} 적용됨)
+     */
+    public List<String> getLore() {
+        return lore;
+    }
+
+    @Override
+    public String toString() {
+        return "ScrollType{" + id + "#" + numericId + "}";
     }
 }
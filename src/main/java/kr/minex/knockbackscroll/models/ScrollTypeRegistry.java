@@ -0,0 +1,159 @@
+package kr.minex.knockbackscroll.models;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 주문서 타입 목록 (불변)
+ * 리로드 시 새 목록을 만들어 참조만 교체하므로, 읽는 쪽은 잠금 없이 한 시점의 목록을 일관되게 봅니다.
+ *
+ * - 번호 조회: 배열 인덱스 (할당 없음)
+ * - ID 조회: 아이템 데이터에 저장된 ID로 해시 조회 (대소문자 구분, 저장 시 소문자로 통일)
+ * - 이름 조회: 명령어 입력용, ID/표시명/별칭을 대소문자 구분 없이 조회
+ */
+public final class ScrollTypeRegistry {
+
+    // 빈 목록 (초기화 전 기본값)
+    public static final ScrollTypeRegistry EMPTY = new ScrollTypeRegistry(List.of());
+
+    // 번호 -> 타입 (제거된 번호는 null)
+    private final ScrollType[] byNumericId;
+
+    // ID -> 타입
+    private final Map<String, ScrollType> byId;
+
+    // 소문자 ID/표시명/별칭 -> 타입
+    private final Map<String, ScrollType> byName;
+
+    // 설정 순서대로의 타입 목록
+    private final List<ScrollType> types;
+
+    // 표시명 목록 (탭 완성용)
+    private final List<String> displayNames;
+
+    // 광역(파티) 타입 존재 여부 (주변 플레이어 격자 유지 여부)
+    private final boolean hasPartyTypes;
+
+    /**
+     * @param types 타입 목록 (번호와 ID는 서로 겹치지 않아야 함)
+     * @throws IllegalArgumentException 번호나 ID가 겹치는 경우
+     */
+    public ScrollTypeRegistry(List<ScrollType> types) {
+        int maxNumericId = -1;
+        for (ScrollType type : types) {
+            maxNumericId = Math.max(maxNumericId, type.getNumericId());
+        }
+
+        ScrollType[] numeric = new ScrollType[maxNumericId + 1];
+        Map<String, ScrollType> ids = new HashMap<>();
+        Map<String, ScrollType> names = new HashMap<>();
+        List<String> display = new ArrayList<>(types.size());
+
+        for (ScrollType type : types) {
+            if (numeric[type.getNumericId()] != null) {
+                throw new IllegalArgumentException("중복된 타입 번호: " + type.getNumericId());
+            }
+            if (ids.putIfAbsent(type.getId(), type) != null) {
+                throw new IllegalArgumentException("중복된 타입 ID: " + type.getId());
+            }
+            numeric[type.getNumericId()] = type;
+            display.add(type.getDisplayName());
+        }
+
+        // 이름 충돌 시 ID > 표시명 > 별칭 순으로 우선
+        for (ScrollType type : types) {
+            names.put(normalize(type.getId()), type);
+        }
+        for (ScrollType type : types) {
+            names.putIfAbsent(normalize(type.getDisplayName()), type);
+        }
+        for (ScrollType type : types) {
+            for (String alias : type.getAliases()) {
+                names.putIfAbsent(normalize(alias), type);
+            }
+        }
+
+        this.byNumericId = numeric;
+        this.byId = ids;
+        this.byName = names;
+        this.types = List.copyOf(types);
+        this.displayNames = Collections.unmodifiableList(display);
+        this.hasPartyTypes = types.stream().anyMatch(ScrollType::isParty);
+    }
+
+    /**
+     * 번호로 타입 찾기
+     * @param numericId 타입 번호
+     * @return 해당 타입, 범위 밖이거나 제거된 번호면 null
+     */
+    public ScrollType fromNumericId(int numericId) {
+        if (numericId < 0 || numericId >= byNumericId.length) {
+            return null;
+        }
+        return byNumericId[numericId];
+    }
+
+    /**
+     * 아이템에 저장된 ID로 타입 찾기
+     * @param id 타입 ID
+     * @return 해당 타입, 없으면 null
+     */
+    public ScrollType fromId(String id) {
+        if (id == null) {
+            return null;
+        }
+        return byId.get(id);
+    }
+
+    /**
+     * 명령어 입력으로 타입 찾기 (ID, 표시명, 별칭)
+     * @param name 입력값
+     * @return 해당 타입, 없으면 null
+     */
+    public ScrollType fromName(String name) {
+        if (name == null) {
+            return null;
+        }
+        return byName.get(normalize(name));
+    }
+
+    /**
+     * 설정 순서대로의 타입 목록 반환
+     */
+    public List<ScrollType> getTypes() {
+        return types;
+    }
+
+    /**
+     * 표시명 목록 반환
+     */
+    public List<String> getDisplayNames() {
+        return displayNames;
+    }
+
+    /**
+     * 번호 배열 크기 반환 (번호별 배열을 만들 때 사용)
+     */
+    public int getNumericIdBound() {
+        return byNumericId.length;
+    }
+
+    /**
+     * 광역(파티) 주문서 타입이 하나라도 있는지 확인
+     */
+    public boolean hasPartyTypes() {
+        return hasPartyTypes;
+    }
+
+    public boolean isEmpty() {
+        return types.isEmpty();
+    }
+
+    private static String normalize(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,49 @@
+package kr.minex.knockbackscroll.models;
+
+/**
+ * 효과가 이미 활성화된 상태에서 주문서를 다시 사용했을 때의 처리 방식
+ */
+public enum StackPolicy {
+
+    /**
+     * 사용 거부 (이미 활성화됨 안내)
+     */
+    REJECT("reject"),
+
+    /**
+     * 남은 시간에 지속시간을 더함 (최대 누적 시간까지)
+     */
+    EXTEND("extend"),
+
+    /**
+     * 남은 시간을 지속시간으로 다시 채움 (남은 시간이 더 길면 거부)
+     */
+    REFRESH("refresh");
+
+    private final String id;
+
+    StackPolicy(String id) {
+        this.id = id;
+    }
+
+    /**
+     * 설정 파일에 쓰는 이름 반환
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * 설정 이름으로 처리 방식 조회 (대소문자 무시)
+     * @param id 설정 이름
+     * @return 처리 방식, 알 수 없으면 null
+     */
+    public static StackPolicy fromId(String id) {
+        for (StackPolicy policy : values()) {
+            if (policy.id.equalsIgnoreCase(id)) {
+                return policy;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,73 @@
+package kr.minex.knockbackscroll.scheduler;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.Plugin;
+
+/**
+ * 일반 서버(Bukkit/Paper)용 스케줄러
+ * 전역 작업과 엔티티 작업 모두 메인 스레드에서 실행합니다.
+ */
+final class BukkitScrollScheduler implements ScrollScheduler {
+
+    private final Plugin plugin;
+
+    BukkitScrollScheduler(Plugin plugin) {
+        this.plugin = plugin;
+    }
+
+    @Override
+    public boolean isRegionized() {
+        return false;
+    }
+
+    @Override
+    public void runGlobal(Runnable task) {
+        Bukkit.getScheduler().runTask(plugin, task);
+    }
+
+    @Override
+    public ScrollTask runGlobalTimer(Runnable task, long delayTicks, long periodTicks) {
+        return Bukkit.getScheduler().runTaskTimer(plugin, task, delayTicks, periodTicks)::cancel;
+    }
+
+    @Override
+    public void runAsync(Runnable task) {
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, task);
+    }
+
+    @Override
+    public ScrollTask runAsyncTimer(Runnable task, long delayTicks, long periodTicks) {
+        return Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, task, delayTicks, periodTicks)::cancel;
+    }
+
+    @Override
+    public void runForEntity(Entity entity, Runnable task, Runnable retired) {
+        Bukkit.getScheduler().runTask(plugin, () -> {
+            if (entity.isValid()) {
+                task.run();
+            } else if (retired != null) {
+                retired.run();
+            }
+        });
+    }
+
+    @Override
+    public ScrollTask runForEntityLater(Entity entity, Runnable task, long delayTicks) {
+        return Bukkit.getScheduler().runTaskLater(plugin, () -> {
+            if (entity.isValid()) {
+                task.run();
+            }
+        }, delayTicks)::cancel;
+    }
+
+    @Override
+    public boolean isOwnedByCurrentThread(Entity entity) {
+        return Bukkit.isPrimaryThread();
+    }
+
+    @Override
+    public void cancelAll() {
+        Bukkit.getScheduler().cancelTasks(plugin);
+    }
+}
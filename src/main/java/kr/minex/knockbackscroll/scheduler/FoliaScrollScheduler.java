@@ -0,0 +1,100 @@
+package kr.minex.knockbackscroll.scheduler;
+
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.Plugin;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Folia용 스케줄러
+ * 전역 작업은 전역 리전 스케줄러, 엔티티 작업은 엔티티 스케줄러(엔티티가 속한 리전 스레드)에서 실행합니다.
+ *
+ * Folia API 클래스를 직접 참조하므로, {@link #isSupported()}가 true일 때만 로드해야 합니다.
+ */
+final class FoliaScrollScheduler implements ScrollScheduler {
+
+    // Folia에만 있는 클래스 (감지용)
+    private static final String REGIONIZED_SERVER_CLASS = "io.papermc.paper.threadedregions.RegionizedServer";
+
+    private static final long MILLIS_PER_TICK = 50L;
+
+    private final Plugin plugin;
+
+    FoliaScrollScheduler(Plugin plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Folia 서버인지 확인
+     */
+    static boolean isSupported() {
+        try {
+            Class.forName(REGIONIZED_SERVER_CLASS);
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public boolean isRegionized() {
+        return true;
+    }
+
+    @Override
+    public void runGlobal(Runnable task) {
+        Bukkit.getGlobalRegionScheduler().execute(plugin, task);
+    }
+
+    @Override
+    public ScrollTask runGlobalTimer(Runnable task, long delayTicks, long periodTicks) {
+        ScheduledTask scheduled = Bukkit.getGlobalRegionScheduler()
+                .runAtFixedRate(plugin, ignored -> task.run(), Math.max(1L, delayTicks), periodTicks);
+        return scheduled::cancel;
+    }
+
+    @Override
+    public void runAsync(Runnable task) {
+        Bukkit.getAsyncScheduler().runNow(plugin, ignored -> task.run());
+    }
+
+    @Override
+    public ScrollTask runAsyncTimer(Runnable task, long delayTicks, long periodTicks) {
+        ScheduledTask scheduled = Bukkit.getAsyncScheduler().runAtFixedRate(plugin, ignored -> task.run(),
+                delayTicks * MILLIS_PER_TICK, periodTicks * MILLIS_PER_TICK, TimeUnit.MILLISECONDS);
+        return scheduled::cancel;
+    }
+
+    @Override
+    public void runForEntity(Entity entity, Runnable task, Runnable retired) {
+        // 예약 시점에 이미 제거된 엔티티는 어느 콜백도 호출되지 않으므로 직접 실행
+        if (!entity.getScheduler().execute(plugin, task, retired, 1L) && retired != null) {
+            retired.run();
+        }
+    }
+
+    @Override
+    public ScrollTask runForEntityLater(Entity entity, Runnable task, long delayTicks) {
+        ScheduledTask scheduled = entity.getScheduler()
+                .runDelayed(plugin, ignored -> task.run(), null, Math.max(1L, delayTicks));
+        if (scheduled == null) {
+            // 엔티티가 이미 제거됨
+            return () -> { };
+        }
+        return scheduled::cancel;
+    }
+
+    @Override
+    public boolean isOwnedByCurrentThread(Entity entity) {
+        return Bukkit.isOwnedByCurrentRegion(entity);
+    }
+
+    @Override
+    public void cancelAll() {
+        Bukkit.getGlobalRegionScheduler().cancelTasks(plugin);
+        Bukkit.getAsyncScheduler().cancelTasks(plugin);
+        // 엔티티 작업은 플러그인 비활성화 시 Folia가 함께 정리함
+    }
+}
@@ -0,0 +1,101 @@
+package kr.minex.knockbackscroll.scheduler;
+
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.Plugin;
+
+/**
+ * 작업 예약 추상화
+ * 일반 서버(Bukkit/Paper)에서는 메인 스레드 스케줄러를, Folia에서는 전역/엔티티 리전 스케줄러를 사용합니다.
+ *
+ * - 전역 작업: 특정 엔티티와 무관한 작업 (시계, 지표, 리로드 게시 등)
+ * - 엔티티 작업: 해당 엔티티를 소유한 스레드에서 실행되어야 하는 작업 (속성 변경, 인벤토리 등)
+ *   Folia에서는 엔티티가 속한 리전 스레드, 일반 서버에서는 메인 스레드에서 실행됩니다.
+ *   엔티티가 제거되면(퇴장 등) 실행되지 않습니다.
+ */
+public interface ScrollScheduler {
+
+    /**
+     * 서버에 맞는 스케줄러 생성
+     * @param plugin 작업 소유 플러그인
+     */
+    static ScrollScheduler create(Plugin plugin) {
+        return FoliaScrollScheduler.isSupported() ? new FoliaScrollScheduler(plugin) : new BukkitScrollScheduler(plugin);
+    }
+
+    /**
+     * 리전 단위로 병렬 틱을 처리하는 서버(Folia)인지 여부
+     */
+    boolean isRegionized();
+
+    /**
+     * 다음 틱에 전역 작업 실행
+     */
+    void runGlobal(Runnable task);
+
+    /**
+     * 전역 작업 반복 실행
+     * @param delayTicks 첫 실행까지의 틱 (1 이상)
+     * @param periodTicks 반복 주기 (틱)
+     */
+    ScrollTask runGlobalTimer(Runnable task, long delayTicks, long periodTicks);
+
+    /**
+     * 비동기 스레드에서 즉시 실행
+     */
+    void runAsync(Runnable task);
+
+    /**
+     * 비동기 스레드에서 반복 실행
+     * @param delayTicks 첫 실행까지의 틱 (1틱 = 50ms)
+     * @param periodTicks 반복 주기 (틱)
+     */
+    ScrollTask runAsyncTimer(Runnable task, long delayTicks, long periodTicks);
+
+    /**
+     * 다음 틱에 엔티티 소유 스레드에서 실행
+     */
+    default void runForEntity(Entity entity, Runnable task) {
+        runForEntity(entity, task, null);
+    }
+
+    /**
+     * 다음 틱에 엔티티 소유 스레드에서 실행
+     * @param retired 엔티티가 이미 제거되어 실행하지 못한 경우 대신 실행할 작업 (null 허용, 스레드 지정 없음)
+     */
+    void runForEntity(Entity entity, Runnable task, Runnable retired);
+
+    /**
+     * 지정한 틱 뒤에 엔티티 소유 스레드에서 실행
+     * @param delayTicks 지연 (1 이상)
+     */
+    ScrollTask runForEntityLater(Entity entity, Runnable task, long delayTicks);
+
+    /**
+     * 현재 스레드가 엔티티를 소유하고 있으면 바로 실행, 아니면 소유 스레드에 예약
+     */
+    default void executeForEntity(Entity entity, Runnable task) {
+        executeForEntity(entity, task, null);
+    }
+
+    /**
+     * 현재 스레드가 엔티티를 소유하고 있으면 바로 실행, 아니면 소유 스레드에 예약
+     * @param retired 엔티티가 이미 제거되어 실행하지 못한 경우 대신 실행할 작업 (null 허용)
+     */
+    default void executeForEntity(Entity entity, Runnable task, Runnable retired) {
+        if (isOwnedByCurrentThread(entity)) {
+            task.run();
+        } else {
+            runForEntity(entity, task, retired);
+        }
+    }
+
+    /**
+     * 현재 스레드에서 엔티티를 다룰 수 있는지 확인
+     */
+    boolean isOwnedByCurrentThread(Entity entity);
+
+    /**
+     * 이 플러그인이 예약한 모든 작업 취소
+     */
+    void cancelAll();
+}
@@ -0,0 +1,14 @@
+package kr.minex.knockbackscroll.scheduler;
+
+/**
+ * 예약된 작업 핸들
+ * 스케줄러 구현체(Bukkit / Folia)의 작업 객체를 감쌉니다.
+ */
+@FunctionalInterface
+public interface ScrollTask {
+
+    /**
+     * 작업 취소 (이미 실행되었거나 취소된 경우 아무것도 하지 않음)
+     */
+    void cancel();
+}
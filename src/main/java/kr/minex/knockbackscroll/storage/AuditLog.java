@@ -0,0 +1,497 @@
+package kr.minex.knockbackscroll.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 주문서 생성/지정/사용 감사 로그
+ * 한 줄에 JSON 하나씩 추가 전용 파일({@value #ACTIVE_FILE})에 기록합니다.
+ *
+ * - {@link #append}는 잠금 없는 큐에 넣기만 하며, 여러 스레드(메인/리전 스레드)에서 동시에 호출할 수 있음
+ * - 큐가 가득 차면 기다리지 않고 버림 (호출자가 반환값으로 집계)
+ * - 전용 쓰기 스레드가 주기마다 또는 대기 기록이 한 배치만큼 쌓이면 깨어나 모아서 기록
+ * - 파일이 지정 크기를 넘거나 지정 시간이 지나면 audit-&lt;시각&gt;.log로 교체하고 gzip으로 압축
+ */
+public final class AuditLog implements AutoCloseable {
+
+    // 기록 중인 파일 이름
+    public static final String ACTIVE_FILE = "audit.log";
+
+    // 교체된 파일 이름 형식 (audit-<UTC 시각>.log[.gz])
+    private static final String ROTATED_PREFIX = "audit-";
+    private static final String ROTATED_SUFFIX = ".log";
+    private static final String COMPRESSED_SUFFIX = ".gz";
+    private static final DateTimeFormatter ROTATED_TIME =
+            DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss").withZone(ZoneOffset.UTC);
+
+    // 쓰기 스레드를 바로 깨울 대기 기록 수
+    private static final int BATCH_SIZE = 256;
+
+    // 쓰기 버퍼 크기
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    // 종료 대기 시간
+    private static final long CLOSE_TIMEOUT_MILLIS = 10_000L;
+
+    private final Path directory;
+    private final Options options;
+    private final LongSupplier wallClock;
+    private final Logger logger;
+
+    // 기록 대기 큐 (다중 생산자 / 단일 소비자) 와 대기 기록 수
+    private final ConcurrentLinkedQueue<Entry> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+
+    // ===== 쓰기 스레드 전용 =====
+    private FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    private final StringBuilder line = new StringBuilder(256);
+    private long segmentBytes;
+    private long segmentStart;
+
+    private final Thread writer;
+    private volatile boolean closed;
+    private volatile boolean failed;
+
+    /**
+     * 감사 로그 설정
+     * @param queueCapacity 쓰기 대기 중인 기록의 최대 개수
+     * @param flushIntervalMillis 모아서 쓰는 주기 (밀리초)
+     * @param rotateBytes 파일 교체 크기 (바이트, 0이면 사용 안 함)
+     * @param rotateIntervalMillis 파일 교체 주기 (밀리초, 0이면 사용 안 함)
+     * @param compress 교체된 파일 gzip 압축 여부
+     */
+    public record Options(int queueCapacity, long flushIntervalMillis, long rotateBytes,
+                          long rotateIntervalMillis, boolean compress) {
+    }
+
+    private AuditLog(Path directory, Options options, LongSupplier wallClock, Logger logger,
+                     FileChannel channel, long segmentStart) throws IOException {
+        this.directory = directory;
+        this.options = options;
+        this.wallClock = wallClock;
+        this.logger = logger;
+        this.channel = channel;
+        this.segmentBytes = channel.size();
+        this.segmentStart = segmentStart;
+
+        this.writer = new Thread(this::runWriter, "KnockbackScroll-Audit");
+        this.writer.setDaemon(true);
+    }
+
+    /**
+     * 감사 로그 열기 (기존 파일이 있으면 이어서 기록) 후 쓰기 스레드 시작
+     * @param directory 저장 폴더
+     * @param options 설정
+     * @param wallClock 실제 시각 (epoch 밀리초) 공급자 (파일 교체 기준)
+     * @param logger 로거
+     * @return 열린 감사 로그
+     * @throws IOException 파일을 열 수 없는 경우
+     */
+    public static AuditLog open(Path directory, Options options, LongSupplier wallClock, Logger logger)
+            throws IOException {
+        Files.createDirectories(directory);
+        Path active = directory.resolve(ACTIVE_FILE);
+
+        // 이어서 기록하는 파일은 처음 만든 시각부터 교체 주기를 계산
+        long segmentStart = wallClock.getAsLong();
+        if (Files.exists(active)) {
+            segmentStart = Math.min(segmentStart,
+                    Files.readAttributes(active, BasicFileAttributes.class).creationTime().toMillis());
+        }
+
+        FileChannel channel = FileChannel.open(active,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        AuditLog auditLog;
+        try {
+            auditLog = new AuditLog(directory, options, wallClock, logger, channel, segmentStart);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        auditLog.writer.start();
+        return auditLog;
+    }
+
+    /**
+     * 기록 요청 (큐에 넣기만 하므로 블로킹 없음)
+     * @param entry 기록
+     * @return 큐에 넣었으면 true, 큐가 가득 찼거나 닫혔거나 쓰기 오류로 중단되었으면 false
+     */
+    public boolean append(Entry entry) {
+        if (closed || failed) {
+            return false;
+        }
+        int size = pending.incrementAndGet();
+        if (size > options.queueCapacity()) {
+            pending.decrementAndGet();
+            return false;
+        }
+        queue.offer(entry);
+
+        // 한 배치가 쌓인 순간에만 깨움 (이후 생산자는 unpark 비용 없음)
+        if (size == BATCH_SIZE) {
+            LockSupport.unpark(writer);
+        }
+        return true;
+    }
+
+    /**
+     * 쓰기 대기 중인 기록 수 반환
+     */
+    public int getPending() {
+        return pending.get();
+    }
+
+    /**
+     * 대기 중인 기록을 모두 쓰고 닫기
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        LockSupport.unpark(writer);
+
+        try {
+            writer.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writer.isAlive()) {
+            logger.warning("감사 로그 쓰기 스레드가 제한 시간 내에 종료되지 않았습니다.");
+        }
+    }
+
+    // ===== 쓰기 스레드 =====
+
+    private void runWriter() {
+        long intervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1L, options.flushIntervalMillis()));
+        try {
+            // 이전 실행에서 압축하지 못한 파일 정리
+            if (options.compress()) {
+                compressLeftovers();
+            }
+
+            while (true) {
+                // 닫힘 여부를 먼저 읽어야 그 이전에 들어온 기록까지 모두 씀
+                boolean stopping = closed;
+                if (!stopping && pending.get() < BATCH_SIZE) {
+                    LockSupport.parkNanos(this, intervalNanos);
+                    stopping = closed;
+                }
+
+                if (shouldRotate()) {
+                    rotate();
+                }
+                drain();
+
+                if (stopping) {
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            failed = true;
+            logger.log(Level.SEVERE, "감사 로그 기록 중 오류가 발생하여 기록을 중단합니다.", e);
+        } finally {
+            queue.clear();
+            pending.set(0);
+            try {
+                channel.close();
+            } catch (IOException e) {
+                logger.log(Level.WARNING, "감사 로그 파일을 닫지 못했습니다.", e);
+            }
+        }
+    }
+
+    /**
+     * 대기 중인 기록을 버퍼에 모아 파일에 쓰기
+     */
+    private void drain() throws IOException {
+        boolean written = false;
+        Entry entry;
+        while ((entry = queue.poll()) != null) {
+            pending.decrementAndGet();
+            line.setLength(0);
+            entry.appendJson(line);
+            line.append('\n');
+
+            byte[] bytes = line.toString().getBytes(StandardCharsets.UTF_8);
+            if (buffer.remaining() < bytes.length) {
+                flush();
+            }
+            if (bytes.length > buffer.capacity()) {
+                write(ByteBuffer.wrap(bytes));
+            } else {
+                buffer.put(bytes);
+            }
+            written = true;
+
+            // 한 번에 많이 쌓여도 교체 크기를 크게 넘지 않도록 기록 단위로 확인
+            if (options.rotateBytes() > 0L && segmentBytes + buffer.position() >= options.rotateBytes()) {
+                flush();
+                rotate();
+                written = false;
+            }
+        }
+
+        if (written) {
+            flush();
+            channel.force(false);
+        }
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        write(buffer);
+        buffer.clear();
+    }
+
+    private void write(ByteBuffer source) throws IOException {
+        while (source.hasRemaining()) {
+            segmentBytes += channel.write(source);
+        }
+    }
+
+    /**
+     * 현재 파일 교체 여부 (빈 파일은 교체하지 않음)
+     */
+    private boolean shouldRotate() {
+        if (segmentBytes == 0L) {
+            return false;
+        }
+        if (options.rotateBytes() > 0L && segmentBytes >= options.rotateBytes()) {
+            return true;
+        }
+        return options.rotateIntervalMillis() > 0L
+                && wallClock.getAsLong() - segmentStart >= options.rotateIntervalMillis();
+    }
+
+    /**
+     * 현재 파일을 교체된 이름으로 옮기고 새 파일 열기 (압축 설정 시 옮긴 파일 압축)
+     */
+    private void rotate() throws IOException {
+        channel.force(true);
+        channel.close();
+
+        long now = wallClock.getAsLong();
+        String baseName = ROTATED_PREFIX + ROTATED_TIME.format(Instant.ofEpochMilli(now));
+        Path rotated = directory.resolve(baseName + ROTATED_SUFFIX);
+        for (int i = 1; Files.exists(rotated) || Files.exists(compressedPath(rotated)); i++) {
+            rotated = directory.resolve(baseName + "-" + i + ROTATED_SUFFIX);
+        }
+        Files.move(directory.resolve(ACTIVE_FILE), rotated, StandardCopyOption.ATOMIC_MOVE);
+
+        channel = FileChannel.open(directory.resolve(ACTIVE_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        segmentBytes = 0L;
+        segmentStart = now;
+
+        if (options.compress()) {
+            compress(rotated);
+        }
+    }
+
+    /**
+     * 교체되었지만 압축되지 않은 파일 압축 (압축 도중 종료된 경우)
+     */
+    private void compressLeftovers() throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory,
+                ROTATED_PREFIX + "*" + ROTATED_SUFFIX)) {
+            for (Path file : files) {
+                compress(file);
+            }
+        }
+    }
+
+    /**
+     * 파일을 gzip으로 압축한 뒤 원본 삭제 (임시 파일에 쓴 뒤 교체)
+     */
+    private void compress(Path source) throws IOException {
+        Path target = compressedPath(source);
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try (InputStream in = Files.newInputStream(source);
+             OutputStream out = new GZIPOutputStream(Files.newOutputStream(temp), BUFFER_SIZE)) {
+            in.transferTo(out);
+        }
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        Files.delete(source);
+    }
+
+    private static Path compressedPath(Path file) {
+        return file.resolveSibling(file.getFileName() + COMPRESSED_SUFFIX);
+    }
+
+    /**
+     * 기록 종류
+     */
+    public enum Action {
+        CREATE("create"),
+        CONVERT("convert"),
+        USE("use");
+
+        private final String id;
+
+        Action(String id) {
+            this.id = id;
+        }
+
+        /**
+         * 파일에 기록되는 이름
+         */
+        public String getId() {
+            return id;
+        }
+    }
+
+    /**
+     * 감사 기록 (불변)
+     * 호출 스레드에서는 값만 담고, 문자열 변환은 쓰기 스레드에서 합니다.
+     */
+    public static final class Entry {
+
+        private final Action action;
+        private final long time;
+        private final String actor;
+        private final UUID actorId;
+        private final String typeId;
+        private final int amount;
+
+        // 생성: 대상 / 지정: 아이템 종류 / 사용: 월드
+        private final String subject;
+
+        // 생성: 받은 인원 / 사용: 블록 좌표
+        private final int recipients;
+        private final int x;
+        private final int y;
+        private final int z;
+
+        private Entry(Action action, long time, String actor, UUID actorId, String typeId, int amount,
+                      String subject, int recipients, int x, int y, int z) {
+            this.action = action;
+            this.time = time;
+            this.actor = actor;
+            this.actorId = actorId;
+            this.typeId = typeId;
+            this.amount = amount;
+            this.subject = subject;
+            this.recipients = recipients;
+            this.x = x;
+            this.y = y;
+            this.z = z;
+        }
+
+        /**
+         * 주문서 생성(지급) 기록
+         * @param time 시각 (epoch 밀리초)
+         * @param actor 명령어 실행자 이름
+         * @param actorId 실행자 UUID (콘솔이면 null)
+         * @param typeId 주문서 타입 ID
+         * @param amount 1인당 수량
+         * @param target 대상 인자 (플레이어 이름, @a, world:&lt;월드&gt;)
+         * @param recipients 받은 인원
+         */
+        public static Entry create(long time, String actor, UUID actorId, String typeId, int amount,
+                                   String target, int recipients) {
+            return new Entry(Action.CREATE, time, actor, actorId, typeId, amount, target, recipients, 0, 0, 0);
+        }
+
+        /**
+         * 손에 든 아이템을 주문서로 지정한 기록
+         * @param material 변환한 아이템 종류
+         * @param amount 변환한 아이템 수량
+         */
+        public static Entry convert(long time, String actor, UUID actorId, String typeId, String material,
+                                    int amount) {
+            return new Entry(Action.CONVERT, time, actor, actorId, typeId, amount, material, 0, 0, 0, 0);
+        }
+
+        /**
+         * 주문서 사용 기록
+         * @param world 사용한 월드 이름
+         */
+        public static Entry use(long time, String actor, UUID actorId, String typeId, String world,
+                                int x, int y, int z) {
+            return new Entry(Action.USE, time, actor, actorId, typeId, 1, world, 0, x, y, z);
+        }
+
+        public Action getAction() {
+            return action;
+        }
+
+        /**
+         * JSON 한 줄로 변환 (줄바꿈 제외)
+         */
+        void appendJson(StringBuilder out) {
+            out.append("{\"time\":\"");
+            DateTimeFormatter.ISO_INSTANT.formatTo(Instant.ofEpochMilli(time), out);
+            out.append("\",\"action\":\"").append(action.getId()).append('"');
+            appendString(out, "actor", actor);
+            appendString(out, "actor_uuid", actorId == null ? null : actorId.toString());
+            appendString(out, "type", typeId);
+            out.append(",\"amount\":").append(amount);
+            switch (action) {
+                case CREATE -> {
+                    appendString(out, "target", subject);
+                    out.append(",\"recipients\":").append(recipients);
+                }
+                case CONVERT -> appendString(out, "material", subject);
+                case USE -> {
+                    appendString(out, "world", subject);
+                    out.append(",\"x\":").append(x).append(",\"y\":").append(y).append(",\"z\":").append(z);
+                }
+            }
+            out.append('}');
+        }
+
+        private static void appendString(StringBuilder out, String key, String value) {
+            out.append(",\"").append(key).append("\":");
+            if (value == null) {
+                out.append("null");
+                return;
+            }
+            out.append('"');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                switch (c) {
+                    case '"' -> out.append("\\\"");
+                    case '\\' -> out.append("\\\\");
+                    case '\n' -> out.append("\\n");
+                    case '\r' -> out.append("\\r");
+                    case '\t' -> out.append("\\t");
+                    default -> {
+                        if (c < 0x20) {
+                            out.append(String.format("\\u%04x", (int) c));
+                        } else {
+                            out.append(c);
+                        }
+                    }
+                }
+            }
+            out.append('"');
+        }
+    }
+}
@@ -0,0 +1,402 @@
+package kr.minex.knockbackscroll.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.LongSupplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+/**
+ * 쿨타임/효과 종료 시각 저널
+ * (UUID, 종류, 값) 레코드를 추가 전용 바이너리 파일에 기록하고,
+ * 레코드가 쌓이면 살아있는 상태만 스냅샷 파일로 압축합니다.
+ *
+ * 파일 형식 (저널/스냅샷 공통, 빅 엔디안)
+ * - 헤더: magic(4) + version(4)
+ * - 레코드: uuidMost(8) + uuidLeast(8) + kind(1) + value(8) + crc32(4)
+ * - value: 쿨타임/효과는 종료 시각, 효과 타입은 주문서 타입 번호 (효과 레코드보다 먼저 기록)
+ *
+ * 복구 시 스냅샷 -> 저널 순서로 재생하며 같은 키는 나중 레코드가 우선합니다.
+ * 잘리거나 CRC가 맞지 않는 레코드를 만나면 그 지점에서 재생을 멈추고 저널을 잘라냅니다.
+ * (추가 전용이므로 깨진 쓰기는 항상 파일 끝에만 생김)
+ *
+ * 쓰기는 전용 스레드에서 배치 단위로 처리되며, {@link #append}는 큐에 넣기만 합니다.
+ */
+public final class ScrollJournal implements AutoCloseable {
+
+    // 레코드 종류
+    public static final byte KIND_COOLDOWN = 1;
+    public static final byte KIND_EFFECT = 2;
+    public static final byte KIND_EFFECT_TYPE = 3;
+
+    // 파일 이름
+    public static final String JOURNAL_FILE = "journal.bin";
+    public static final String SNAPSHOT_FILE = "snapshot.bin";
+
+    // 헤더 크기 (magic + version)
+    public static final int HEADER_SIZE = 8;
+
+    // 레코드 크기 (uuid 16 + kind 1 + value 8 + crc 4)
+    public static final int RECORD_SIZE = 29;
+
+    private static final int MAGIC = 0x4B42534A; // "KBSJ"
+    private static final int VERSION = 1;
+    private static final int PAYLOAD_SIZE = RECORD_SIZE - 4;
+
+    // 한 번에 기록할 최대 레코드 수
+    private static final int BATCH_SIZE = 256;
+
+    // 한 번에 매핑할 최대 크기 (레코드 크기의 배수)
+    private static final int MAX_MAP_SIZE = (Integer.MAX_VALUE / RECORD_SIZE) * RECORD_SIZE;
+
+    // 종료 대기 시간
+    private static final long CLOSE_TIMEOUT_MILLIS = 10_000L;
+
+    // 쓰기 스레드 종료 신호
+    private static final Record POISON = new Record(0L, 0L, (byte) 0, 0L);
+
+    private final Path snapshotFile;
+    private final int compactThreshold;
+    private final LongSupplier wallClock;
+    private final Logger logger;
+
+    // 시작 시 복구된 상태 (호출 스레드 소유)
+    private final Map<UUID, StoredScrollState> recovered;
+
+    // 기록 대기 큐
+    private final BlockingQueue<Record> queue = new LinkedBlockingQueue<>();
+
+    // ===== 쓰기 스레드 전용 =====
+    private final Map<UUID, StoredScrollState> live;
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocate(BATCH_SIZE * RECORD_SIZE);
+    private final CRC32 crc = new CRC32();
+    private long journalRecords;
+
+    private final Thread writer;
+    private volatile boolean closed;
+    private volatile boolean failed;
+
+    private ScrollJournal(Path directory, int compactThreshold, LongSupplier wallClock, Logger logger,
+                          Map<UUID, StoredScrollState> live, FileChannel channel) throws IOException {
+        this.snapshotFile = directory.resolve(SNAPSHOT_FILE);
+        this.compactThreshold = Math.max(1, compactThreshold);
+        this.wallClock = wallClock;
+        this.logger = logger;
+        this.live = live;
+        this.channel = channel;
+        this.journalRecords = (channel.size() - HEADER_SIZE) / RECORD_SIZE;
+
+        this.recovered = new HashMap<>(live.size() * 2);
+        for (Map.Entry<UUID, StoredScrollState> entry : live.entrySet()) {
+            StoredScrollState state = entry.getValue();
+            recovered.put(entry.getKey(),
+                    new StoredScrollState(state.getCooldownEnd(), state.getEffectEnd(), state.getEffectTypeId()));
+        }
+
+        this.writer = new Thread(this::runWriter, "KnockbackScroll-Journal");
+        this.writer.setDaemon(true);
+    }
+
+    /**
+     * 저널 열기 (스냅샷과 저널을 재생하여 상태 복구 후 쓰기 스레드 시작)
+     * @param directory 저장 폴더
+     * @param compactThreshold 압축을 시작할 저널 레코드 수
+     * @param wallClock 실제 시각 (epoch 밀리초) 공급자
+     * @param logger 로거
+     * @return 열린 저널
+     * @throws IOException 파일을 열 수 없는 경우
+     */
+    public static ScrollJournal open(Path directory, int compactThreshold, LongSupplier wallClock, Logger logger)
+            throws IOException {
+        Files.createDirectories(directory);
+        Path snapshot = directory.resolve(SNAPSHOT_FILE);
+        Path journal = directory.resolve(JOURNAL_FILE);
+
+        // 1. 스냅샷 -> 저널 순서로 재생
+        Map<UUID, StoredScrollState> live = new HashMap<>();
+        replay(snapshot, live, logger);
+        long validLength = replay(journal, live, logger);
+
+        // 2. 깨진 꼬리 제거 (헤더가 깨졌으면 새로 작성)
+        FileChannel channel = FileChannel.open(journal,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            if (validLength < HEADER_SIZE) {
+                channel.truncate(0);
+                ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+                header.putInt(MAGIC).putInt(VERSION).flip();
+                while (header.hasRemaining()) {
+                    channel.write(header, header.position());
+                }
+                channel.force(true);
+            } else if (validLength < channel.size()) {
+                logger.warning("저널 끝의 손상된 레코드를 잘라냈습니다: "
+                        + (channel.size() - validLength) + " bytes");
+                channel.truncate(validLength);
+                channel.force(true);
+            }
+            channel.position(channel.size());
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+
+        // 3. 이미 끝난 상태 제거
+        long now = wallClock.getAsLong();
+        live.values().removeIf(state -> state.isExpired(now));
+
+        ScrollJournal scrollJournal = new ScrollJournal(directory, compactThreshold, wallClock, logger, live, channel);
+        scrollJournal.writer.start();
+        return scrollJournal;
+    }
+
+    /**
+     * 시작 시 복구된 상태 반환 (UUID -> 종료 시각/효과 타입, 이미 끝난 항목 제외)
+     * 반환된 맵은 호출자가 소유하며 이후 기록과 무관합니다.
+     */
+    public Map<UUID, StoredScrollState> getRecovered() {
+        return recovered;
+    }
+
+    /**
+     * 레코드 기록 요청 (큐에 넣기만 하므로 블로킹 없음)
+     * @param uuid 플레이어 UUID
+     * @param kind {@link #KIND_COOLDOWN}, {@link #KIND_EFFECT} 또는 {@link #KIND_EFFECT_TYPE}
+     * @param value 종료 시각 (epoch 밀리초, 0이면 해제) 또는 효과 타입 번호
+     * @return 큐에 넣었으면 true, 닫혔거나 쓰기 오류로 중단되었으면 false
+     */
+    public boolean append(UUID uuid, byte kind, long value) {
+        if (closed || failed) {
+            return false;
+        }
+        return queue.offer(new Record(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), kind, value));
+    }
+
+    /**
+     * 대기 중인 레코드를 모두 기록하고 닫기
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        queue.offer(POISON);
+
+        try {
+            writer.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writer.isAlive()) {
+            logger.warning("저널 쓰기 스레드가 제한 시간 내에 종료되지 않았습니다.");
+        }
+    }
+
+    // ===== 쓰기 스레드 =====
+
+    private void runWriter() {
+        List<Record> batch = new ArrayList<>(BATCH_SIZE);
+        try {
+            boolean stop = false;
+            while (!stop) {
+                batch.add(queue.take());
+                queue.drainTo(batch, BATCH_SIZE - 1);
+
+                // 1. 배치를 한 번의 쓰기로 기록
+                buffer.clear();
+                int written = 0;
+                for (Record record : batch) {
+                    if (record == POISON) {
+                        stop = true;
+                        continue;
+                    }
+                    encode(buffer, record.most, record.least, record.kind, record.value);
+                    live.computeIfAbsent(new UUID(record.most, record.least), key -> new StoredScrollState())
+                            .set(record.kind, record.value);
+                    written++;
+                }
+                batch.clear();
+
+                if (written > 0) {
+                    buffer.flip();
+                    while (buffer.hasRemaining()) {
+                        channel.write(buffer);
+                    }
+                    channel.force(false);
+                    journalRecords += written;
+                }
+
+                // 2. 레코드가 쌓이면 스냅샷으로 압축
+                if (journalRecords >= compactThreshold) {
+                    compact();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            failed = true;
+            logger.log(Level.SEVERE, "저널 기록 중 오류가 발생하여 기록을 중단합니다.", e);
+        } finally {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                logger.log(Level.WARNING, "저널 파일을 닫지 못했습니다.", e);
+            }
+        }
+    }
+
+    /**
+     * 살아있는 상태만 스냅샷으로 기록하고 저널 비우기
+     * 스냅샷 교체 후 저널을 비우기 전에 중단되어도, 재생 순서상 같은 상태가 복구됩니다.
+     */
+    private void compact() throws IOException {
+        long now = wallClock.getAsLong();
+        live.values().removeIf(state -> state.isExpired(now));
+
+        // 1. 임시 파일에 스냅샷 작성
+        Path temp = snapshotFile.resolveSibling(SNAPSHOT_FILE + ".tmp");
+        try (FileChannel out = FileChannel.open(temp,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            buffer.clear();
+            buffer.putInt(MAGIC).putInt(VERSION);
+            for (Map.Entry<UUID, StoredScrollState> entry : live.entrySet()) {
+                if (buffer.remaining() < RECORD_SIZE * 3) {
+                    flush(out);
+                }
+                UUID uuid = entry.getKey();
+                StoredScrollState state = entry.getValue();
+                if (state.getCooldownEnd() > now) {
+                    encode(buffer, uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(),
+                            KIND_COOLDOWN, state.getCooldownEnd());
+                }
+                if (state.getEffectEnd() > now) {
+                    if (state.getEffectTypeId() >= 0) {
+                        encode(buffer, uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(),
+                                KIND_EFFECT_TYPE, state.getEffectTypeId());
+                    }
+                    encode(buffer, uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(),
+                            KIND_EFFECT, state.getEffectEnd());
+                }
+            }
+            flush(out);
+            out.force(true);
+        }
+
+        // 2. 스냅샷 교체 후 저널 비우기
+        Files.move(temp, snapshotFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        channel.truncate(HEADER_SIZE);
+        channel.position(HEADER_SIZE);
+        channel.force(true);
+        journalRecords = 0;
+    }
+
+    private void flush(FileChannel out) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private void encode(ByteBuffer target, long most, long least, byte kind, long value) {
+        int start = target.position();
+        target.putLong(most).putLong(least).put(kind).putLong(value);
+        crc.reset();
+        crc.update(target.array(), target.arrayOffset() + start, PAYLOAD_SIZE);
+        target.putInt((int) crc.getValue());
+    }
+
+    // ===== 복구 =====
+
+    /**
+     * 파일을 메모리 매핑하여 레코드 재생
+     * @param file 저널 또는 스냅샷 파일
+     * @param into 재생 결과를 반영할 맵
+     * @param logger 로거
+     * @return 유효한 부분의 길이 (헤더가 없거나 깨졌으면 0)
+     */
+    private static long replay(Path file, Map<UUID, StoredScrollState> into, Logger logger) throws IOException {
+        if (!Files.exists(file)) {
+            return 0L;
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE) {
+                if (size > 0) {
+                    logger.warning("헤더가 손상된 파일을 무시합니다: " + file.getFileName());
+                }
+                return 0L;
+            }
+
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+            if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+                logger.warning("알 수 없는 형식의 파일을 무시합니다: " + file.getFileName());
+                return 0L;
+            }
+
+            CRC32 crc = new CRC32();
+            byte[] payload = new byte[PAYLOAD_SIZE];
+            long position = HEADER_SIZE;
+
+            while (size - position >= RECORD_SIZE) {
+                long windowSize = Math.min(size - position, MAX_MAP_SIZE);
+                windowSize -= windowSize % RECORD_SIZE;
+                MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position, windowSize);
+
+                for (int offset = 0; offset < windowSize; offset += RECORD_SIZE) {
+                    window.get(offset, payload);
+                    crc.reset();
+                    crc.update(payload, 0, PAYLOAD_SIZE);
+                    if ((int) crc.getValue() != window.getInt(offset + PAYLOAD_SIZE)) {
+                        // 깨진 쓰기: 이후 레코드는 신뢰할 수 없음
+                        return position + offset;
+                    }
+
+                    byte kind = window.get(offset + 16);
+                    if (kind == KIND_COOLDOWN || kind == KIND_EFFECT || kind == KIND_EFFECT_TYPE) {
+                        UUID uuid = new UUID(window.getLong(offset), window.getLong(offset + 8));
+                        into.computeIfAbsent(uuid, key -> new StoredScrollState())
+                                .set(kind, window.getLong(offset + 17));
+                    }
+                }
+                position += windowSize;
+            }
+            return position;
+        }
+    }
+
+    /**
+     * 기록 요청
+     */
+    private static final class Record {
+
+        private final long most;
+        private final long least;
+        private final byte kind;
+        private final long value;
+
+        private Record(long most, long least, byte kind, long value) {
+            this.most = most;
+            this.least = least;
+            this.kind = kind;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package kr.minex.knockbackscroll.storage;
+
+/**
+ * 저널에서 복구한 플레이어별 주문서 상태
+ * 시각은 모두 실제 시각(epoch 밀리초) 기준이며, 0은 "없음"을 의미합니다.
+ * 효과 타입 번호는 -1이면 알 수 없음 (타입을 기록하기 전의 저널이거나 타입 없이 부여된 효과)
+ */
+public final class StoredScrollState {
+
+    private long cooldownEnd;
+    private long effectEnd;
+    private int effectTypeId = -1;
+
+    public StoredScrollState() {
+    }
+
+    public StoredScrollState(long cooldownEnd, long effectEnd) {
+        this.cooldownEnd = cooldownEnd;
+        this.effectEnd = effectEnd;
+    }
+
+    public StoredScrollState(long cooldownEnd, long effectEnd, int effectTypeId) {
+        this(cooldownEnd, effectEnd);
+        this.effectTypeId = effectTypeId;
+    }
+
+    public long getCooldownEnd() {
+        return cooldownEnd;
+    }
+
+    public void setCooldownEnd(long cooldownEnd) {
+        this.cooldownEnd = cooldownEnd;
+    }
+
+    public long getEffectEnd() {
+        return effectEnd;
+    }
+
+    public void setEffectEnd(long effectEnd) {
+        this.effectEnd = effectEnd;
+    }
+
+    /**
+     * 효과를 부여한 주문서 타입 번호 반환
+     * @return 타입 번호, 알 수 없으면 -1
+     */
+    public int getEffectTypeId() {
+        return effectTypeId;
+    }
+
+    public void setEffectTypeId(int effectTypeId) {
+        this.effectTypeId = effectTypeId;
+    }
+
+    /**
+     * 종류별 값 설정
+     * @param kind {@link ScrollJournal#KIND_COOLDOWN}, {@link ScrollJournal#KIND_EFFECT} 또는 {@link ScrollJournal#KIND_EFFECT_TYPE}
+     * @param value 종료 시각 (epoch 밀리초, 0이면 해제) 또는 효과 타입 번호
+     */
+    void set(byte kind, long value) {
+        if (kind == ScrollJournal.KIND_COOLDOWN) {
+            cooldownEnd = value;
+        } else if (kind == ScrollJournal.KIND_EFFECT) {
+            effectEnd = value;
+        } else if (kind == ScrollJournal.KIND_EFFECT_TYPE) {
+            effectTypeId = (int) value;
+        }
+    }
+
+    /**
+     * 지정 시각 기준으로 남은 상태가 없는지 여부
+     * @param now 현재 시각 (epoch 밀리초)
+     */
+    boolean isExpired(long now) {
+        return cooldownEnd <= now && effectEnd <= now;
+    }
+}
@@ -0,0 +1,179 @@
+package kr.minex.knockbackscroll.utils;
+
+import java.util.Arrays;
+
+/**
+ * int 전용 해시 집합 (선형 탐사, 박싱 없음)
+ * 엔티티 ID처럼 자주 조회되는 정수 키의 포함 여부 확인용입니다.
+ *
+ * 주의: 동기화하지 않으므로 한 스레드(메인 스레드)에서만 사용해야 합니다.
+ */
+public final class IntHashSet {
+
+    // 빈 칸 표시 (이 값 자체는 hasFreeKey로 따로 관리)
+    private static final int FREE = Integer.MIN_VALUE;
+
+    private static final int MIN_CAPACITY = 16;
+
+    private int[] keys;
+    private int mask;
+    private int size;
+
+    // FREE 값 자체가 들어있는지 여부
+    private boolean hasFreeKey;
+
+    public IntHashSet() {
+        this(MIN_CAPACITY);
+    }
+
+    /**
+     * @param expectedSize 예상 원소 수
+     */
+    public IntHashSet(int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    /**
+     * 원소 추가
+     * @return 새로 추가되었으면 true
+     */
+    public boolean add(int key) {
+        if (key == FREE) {
+            if (hasFreeKey) {
+                return false;
+            }
+            hasFreeKey = true;
+            size++;
+            return true;
+        }
+
+        int index = indexOf(key);
+        while (keys[index] != FREE) {
+            if (keys[index] == key) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[index] = key;
+        size++;
+
+        // 부하율 50% 이하 유지
+        if (size * 2 > keys.length) {
+            rehash(keys.length * 2);
+        }
+        return true;
+    }
+
+    /**
+     * 포함 여부 확인
+     */
+    public boolean contains(int key) {
+        if (key == FREE) {
+            return hasFreeKey;
+        }
+
+        int index = indexOf(key);
+        while (true) {
+            int stored = keys[index];
+            if (stored == key) {
+                return true;
+            }
+            if (stored == FREE) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    /**
+     * 원소 제거 (후방 이동 방식, 묘비 없음)
+     * @return 제거되었으면 true
+     */
+    public boolean remove(int key) {
+        if (key == FREE) {
+            if (!hasFreeKey) {
+                return false;
+            }
+            hasFreeKey = false;
+            size--;
+            return true;
+        }
+
+        int index = indexOf(key);
+        while (keys[index] != key) {
+            if (keys[index] == FREE) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+
+        // 뒤따르는 원소를 빈 칸으로 당겨 탐사 체인 유지
+        int hole = index;
+        int next = (hole + 1) & mask;
+        while (keys[next] != FREE) {
+            int home = indexOf(keys[next]);
+            // home이 (hole, next] 구간 밖이면 hole로 이동 가능
+            boolean movable = hole <= next
+                    ? (home <= hole || home > next)
+                    : (home <= hole && home > next);
+            if (movable) {
+                keys[hole] = keys[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[hole] = FREE;
+        size--;
+        return true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * 모든 원소 제거
+     */
+    public void clear() {
+        Arrays.fill(keys, FREE);
+        hasFreeKey = false;
+        size = 0;
+    }
+
+    private int indexOf(int key) {
+        int h = key * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        Arrays.fill(keys, FREE);
+        mask = capacity - 1;
+    }
+
+    private void rehash(int capacity) {
+        int[] oldKeys = keys;
+        allocate(capacity);
+        for (int key : oldKeys) {
+            if (key != FREE) {
+                int index = indexOf(key);
+                while (keys[index] != FREE) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = key;
+            }
+        }
+    }
+
+    private static int capacityFor(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < expectedSize * 2) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+}
@@ -0,0 +1,21 @@
+package kr.minex.knockbackscroll.utils;
+
+/**
+ * System.nanoTime() 기반 단조 시계
+ * 틱 시작 시 한 번 읽은 값을 캐싱하여 사용합니다.
+ * 실제 경과 시간을 따르므로 랙이 발생하면 효과가 더 적은 틱 동안 유지됩니다.
+ */
+public class NanoTimeScrollClock implements ScrollClock {
+
+    private volatile long cachedMillis = System.nanoTime() / 1_000_000L;
+
+    @Override
+    public long now() {
+        return cachedMillis;
+    }
+
+    @Override
+    public void tick() {
+        cachedMillis = System.nanoTime() / 1_000_000L;
+    }
+}
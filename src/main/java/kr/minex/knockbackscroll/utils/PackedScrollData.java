@@ -0,0 +1,73 @@
+package kr.minex.knockbackscroll.utils;
+
+/**
+ * 주문서 아이템 식별 데이터 인코딩 유틸리티
+ * 형식 버전, 타입 번호, 플래그를 int 하나로 묶어 PDC 키 하나(INTEGER)에 저장합니다.
+ *
+ * <pre>
+ *  31        24 23                      8 7         0
+ * +------------+-------------------------+-----------+
+ * | 형식 버전   | 타입 번호 (0 ~ 65535)     | 플래그     |
+ * +------------+-------------------------+-----------+
+ * </pre>
+ */
+public final class PackedScrollData {
+
+    // 현재 형식 버전 (0은 사용하지 않음)
+    public static final int VERSION = 1;
+
+    // 타입 번호 최댓값 (16비트)
+    public static final int MAX_TYPE_ID = 0xFFFF;
+
+    // 지정 명령어로 기존 아이템을 변환한 주문서
+    public static final int FLAG_CONVERTED = 1;
+
+    private static final int VERSION_SHIFT = 24;
+    private static final int TYPE_SHIFT = 8;
+    private static final int FLAGS_MASK = 0xFF;
+
+    private PackedScrollData() {
+        // 인스턴스화 방지
+    }
+
+    /**
+     * 현재 형식으로 인코딩
+     * @param typeId 타입 번호 (0 ~ {@link #MAX_TYPE_ID})
+     * @param flags 플래그 (하위 8비트만 사용)
+     * @return 인코딩된 값
+     */
+    public static int pack(int typeId, int flags) {
+        if (typeId < 0 || typeId > MAX_TYPE_ID) {
+            throw new IllegalArgumentException("타입 번호 범위 초과: " + typeId);
+        }
+        return (VERSION << VERSION_SHIFT) | (typeId << TYPE_SHIFT) | (flags & FLAGS_MASK);
+    }
+
+    /**
+     * 형식 버전 반환
+     */
+    public static int version(int packed) {
+        return packed >>> VERSION_SHIFT;
+    }
+
+    /**
+     * 타입 번호 반환
+     */
+    public static int typeId(int packed) {
+        return (packed >>> TYPE_SHIFT) & MAX_TYPE_ID;
+    }
+
+    /**
+     * 플래그 반환
+     */
+    public static int flags(int packed) {
+        return packed & FLAGS_MASK;
+    }
+
+    /**
+     * 플래그 포함 여부 확인
+     */
+    public static boolean hasFlag(int packed, int flag) {
+        return (packed & flag) != 0;
+    }
+}
@@ -0,0 +1,175 @@
+package kr.minex.knockbackscroll.utils;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 대소문자를 구분하지 않는 접두사 트라이 (탭 완성 후보 검색용)
+ * 값은 입력한 그대로 돌려주며, 키는 문자별 {@link Character#toLowerCase(char)}로 비교합니다.
+ * 입력값을 소문자 문자열로 바꾸지 않고 문자 단위로 내려가므로 검색 시 문자열을 새로 만들지 않습니다.
+ *
+ * - 자식은 문자 순으로 정렬된 배열에 보관 (이진 탐색, 결과는 항상 문자 순)
+ * - 대소문자만 다른 값은 하나로 취급 (나중에 추가한 값이 우선)
+ * - 모든 메서드는 동기화되어 있어, 접속/퇴장(메인/리전 스레드)과 비동기 탭 완성이 동시에 사용할 수 있음
+ */
+public final class PrefixTrie {
+
+    private static final char[] NO_KEYS = new char[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    private final Node root = new Node();
+    private int size;
+
+    /**
+     * 값 추가
+     * @param value 추가할 값 (빈 문자열 무시)
+     * @return 새로 추가되었으면 true, 대소문자만 다른 값을 교체했거나 이미 있으면 false
+     */
+    public synchronized boolean add(String value) {
+        if (value.isEmpty()) {
+            return false;
+        }
+        Node node = root;
+        for (int i = 0; i < value.length(); i++) {
+            node = node.childOrCreate(Character.toLowerCase(value.charAt(i)));
+        }
+        boolean added = node.value == null;
+        node.value = value;
+        if (added) {
+            size++;
+        }
+        return added;
+    }
+
+    /**
+     * 값 제거 (대소문자 무시, 빈 가지는 함께 정리)
+     * @param value 제거할 값
+     * @return 제거되었으면 true
+     */
+    public synchronized boolean remove(String value) {
+        if (value.isEmpty()) {
+            return false;
+        }
+        Node[] path = new Node[value.length() + 1];
+        path[0] = root;
+        for (int i = 0; i < value.length(); i++) {
+            Node child = path[i].child(Character.toLowerCase(value.charAt(i)));
+            if (child == null) {
+                return false;
+            }
+            path[i + 1] = child;
+        }
+
+        Node node = path[value.length()];
+        if (node.value == null) {
+            return false;
+        }
+        node.value = null;
+        size--;
+
+        // 값도 자식도 없는 노드를 끝에서부터 제거
+        for (int i = value.length(); i > 0 && path[i].value == null && path[i].keys.length == 0; i--) {
+            path[i - 1].removeChild(Character.toLowerCase(value.charAt(i - 1)));
+        }
+        return true;
+    }
+
+    /**
+     * 접두사로 시작하는 값을 문자 순으로 수집
+     * @param prefix 접두사 (대소문자 무시, 빈 문자열이면 전체)
+     * @param out 결과를 추가할 목록
+     */
+    public synchronized void collect(String prefix, List<String> out) {
+        Node node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.child(Character.toLowerCase(prefix.charAt(i)));
+        }
+        if (node != null) {
+            node.collect(out);
+        }
+    }
+
+    /**
+     * 저장된 값 수 반환
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * 모든 값 제거
+     */
+    public synchronized void clear() {
+        root.keys = NO_KEYS;
+        root.children = NO_CHILDREN;
+        root.value = null;
+        size = 0;
+    }
+
+    private static final class Node {
+
+        // 정렬된 자식 문자와 같은 순서의 자식 노드
+        private char[] keys = NO_KEYS;
+        private Node[] children = NO_CHILDREN;
+
+        // 이 노드에서 끝나는 값 (없으면 null)
+        private String value;
+
+        private Node child(char key) {
+            int index = Arrays.binarySearch(keys, key);
+            return index >= 0 ? children[index] : null;
+        }
+
+        private Node childOrCreate(char key) {
+            int index = Arrays.binarySearch(keys, key);
+            if (index >= 0) {
+                return children[index];
+            }
+
+            // 정렬 순서를 유지하며 삽입
+            int insert = -index - 1;
+            char[] newKeys = new char[keys.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, insert);
+            System.arraycopy(children, 0, newChildren, 0, insert);
+            System.arraycopy(keys, insert, newKeys, insert + 1, keys.length - insert);
+            System.arraycopy(children, insert, newChildren, insert + 1, children.length - insert);
+
+            Node child = new Node();
+            newKeys[insert] = key;
+            newChildren[insert] = child;
+            keys = newKeys;
+            children = newChildren;
+            return child;
+        }
+
+        private void removeChild(char key) {
+            int index = Arrays.binarySearch(keys, key);
+            if (index < 0) {
+                return;
+            }
+            if (keys.length == 1) {
+                keys = NO_KEYS;
+                children = NO_CHILDREN;
+                return;
+            }
+            char[] newKeys = new char[keys.length - 1];
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(keys, 0, newKeys, 0, index);
+            System.arraycopy(children, 0, newChildren, 0, index);
+            System.arraycopy(keys, index + 1, newKeys, index, keys.length - index - 1);
+            System.arraycopy(children, index + 1, newChildren, index, children.length - index - 1);
+            keys = newKeys;
+            children = newChildren;
+        }
+
+        private void collect(List<String> out) {
+            if (value != null) {
+                out.add(value);
+            }
+            for (Node child : children) {
+                child.collect(out);
+            }
+        }
+    }
+}
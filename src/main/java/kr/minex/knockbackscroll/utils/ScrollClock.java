@@ -0,0 +1,52 @@
+package kr.minex.knockbackscroll.utils;
+
+import java.util.Locale;
+
+/**
+ * 쿨타임/효과 시간 계산용 시계
+ * 모든 시각은 밀리초 단위이며, 구현체마다 기준점이 다르므로
+ * 같은 시계에서 얻은 값끼리만 비교해야 합니다.
+ *
+ * 서버 틱마다 {@link #tick()}이 한 번 호출되며,
+ * {@link #now()}는 그 시점에 캐싱된 값을 반환합니다. (시스템 콜 없음)
+ */
+public interface ScrollClock {
+
+    /**
+     * 서버 1틱의 밀리초
+     */
+    long MILLIS_PER_TICK = 50L;
+
+    /**
+     * 현재 시각 반환 (밀리초)
+     */
+    long now();
+
+    /**
+     * 서버 틱마다 호출 (메인 스레드)
+     */
+    void tick();
+
+    /**
+     * 현재 시각을 틱 단위로 반환 (내림)
+     */
+    default long nowTicks() {
+        return now() / MILLIS_PER_TICK;
+    }
+
+    /**
+     * 설정값으로 시계 생성
+     * @param type 시계 타입 ("tick" 또는 "nanotime")
+     * @return 생성된 시계, 알 수 없는 타입이면 null
+     */
+    static ScrollClock fromType(String type) {
+        if (type == null) {
+            return null;
+        }
+        return switch (type.toLowerCase(Locale.ROOT)) {
+            case "tick" -> new TickScrollClock();
+            case "nanotime" -> new NanoTimeScrollClock();
+            default -> null;
+        };
+    }
+}
@@ -0,0 +1,20 @@
+package kr.minex.knockbackscroll.utils;
+
+/**
+ * 서버 틱 카운터 기반 시계
+ * 틱마다 50ms씩 증가하므로, 랙이 발생해도 지속시간이 항상 같은 틱 수만큼 유지됩니다.
+ */
+public class TickScrollClock implements ScrollClock {
+
+    private volatile long ticks;
+
+    @Override
+    public long now() {
+        return ticks * MILLIS_PER_TICK;
+    }
+
+    @Override
+    public void tick() {
+        ticks++;
+    }
+}
@@ -53,10 +53,11 @@ public final class TimeUtils {
     /**
      * 남은 시간 계산 (밀리초 기준)
      * @param endTimeMillis 종료 시각 (밀리초)
+     * @param nowMillis 현재 시각 (같은 시계 기준, 밀리초)
      * @return 남은 초 (올림), 만료됐으면 0
      */
-    public static long getRemainingSeconds(long endTimeMillis) {
-        long remaining = endTimeMillis - System.currentTimeMillis();
+    public static long getRemainingSeconds(long endTimeMillis, long nowMillis) {
+        long remaining = endTimeMillis - nowMillis;
         if (remaining <= 0) {
             return 0;
         }
@@ -0,0 +1,257 @@
+package kr.minex.knockbackscroll.utils;
+
+import java.util.function.Consumer;
+
+/**
+ * 해시 타이밍 휠
+ * 만료 예약을 틱 단위 버킷에 분산 저장하여, 매 틱 해당 버킷만 확인합니다.
+ *
+ * - 예약: O(1) (버킷 연결 리스트 앞에 삽입)
+ * - 취소: O(1) (이중 연결 리스트에서 분리)
+ * - 틱 진행: 해당 틱 버킷의 항목만 순회 (휠 한 바퀴 이상 남은 항목은 건너뜀)
+ *
+ * 주의: 동기화하지 않으므로 한 스레드(메인 스레드)에서만 사용해야 합니다.
+ *
+ * @param <T> 예약 대상 값 타입
+ */
+public final class TimingWheel<T> {
+
+    private final Timeout<T>[] buckets;
+    private final int mask;
+
+    // 휠이 마지막으로 처리한 틱
+    private long currentTick;
+
+    // 예약된 항목 수
+    private int size;
+
+    /**
+     * @param wheelSize 버킷 수 (2의 거듭제곱으로 올림)
+     */
+    @SuppressWarnings("unchecked")
+    public TimingWheel(int wheelSize) {
+        if (wheelSize <= 0) {
+            throw new IllegalArgumentException("wheelSize는 1 이상이어야 합니다: " + wheelSize);
+        }
+        int normalized = Integer.highestOneBit(wheelSize - 1) << 1;
+        if (wheelSize == 1) {
+            normalized = 1;
+        }
+        this.buckets = (Timeout<T>[]) new Timeout[normalized];
+        this.mask = normalized - 1;
+    }
+
+    /**
+     * 만료 예약
+     * @param value 만료 시 전달할 값
+     * @param delayTicks 지연 틱 (1 미만이면 다음 틱에 만료)
+     * @return 취소용 핸들
+     */
+    public Timeout<T> schedule(T value, long delayTicks) {
+        return scheduleAt(value, currentTick + Math.max(1L, delayTicks));
+    }
+
+    /**
+     * 절대 틱 기준 만료 예약
+     * @param value 만료 시 전달할 값
+     * @param deadlineTick 만료 틱 (이미 지났으면 다음 틱에 만료)
+     * @return 취소용 핸들
+     */
+    public Timeout<T> scheduleAt(T value, long deadlineTick) {
+        long deadline = Math.max(currentTick + 1, deadlineTick);
+        Timeout<T> timeout = new Timeout<>(this, value, deadline);
+        link(timeout);
+        return timeout;
+    }
+
+    /**
+     * 예약 취소
+     * @param timeout 취소할 핸들 (null 허용)
+     * @return 대기 중이던 예약을 취소했으면 true
+     */
+    public boolean cancel(Timeout<T> timeout) {
+        if (timeout == null || timeout.wheel != this || timeout.bucket < 0) {
+            return false;
+        }
+        unlink(timeout);
+        return true;
+    }
+
+    /**
+     * 대기 중인 예약의 만료 틱 변경
+     * 핸들을 그대로 새 버킷으로 옮기므로 새 핸들을 만들지 않으며, 기존 핸들로 계속 취소할 수 있습니다.
+     * @param timeout 변경할 핸들 (null 허용)
+     * @param deadlineTick 새 만료 틱 (이미 지났으면 다음 틱에 만료)
+     * @return 옮겼으면 true, 이미 만료/취소된 핸들이면 false
+     */
+    public boolean reschedule(Timeout<T> timeout, long deadlineTick) {
+        if (timeout == null || timeout.wheel != this || timeout.bucket < 0) {
+            return false;
+        }
+        unlink(timeout);
+        timeout.deadline = Math.max(currentTick + 1, deadlineTick);
+        link(timeout);
+        return true;
+    }
+
+    /**
+     * 한 틱 진행하고, 이번 틱에 만료된 항목을 전달
+     * @param onExpire 만료 콜백
+     */
+    public void advance(Consumer<T> onExpire) {
+        currentTick++;
+
+        // 1. 만료 대상만 버킷에서 분리 (콜백 중 취소/재예약이 순회를 깨뜨리지 않도록)
+        Timeout<T> expired = null;
+        Timeout<T> node = buckets[(int) (currentTick & mask)];
+        while (node != null) {
+            Timeout<T> next = node.next;
+            if (node.deadline <= currentTick) {
+                unlink(node);
+                node.nextExpired = expired;
+                expired = node;
+            }
+            node = next;
+        }
+
+        // 2. 콜백 실행
+        while (expired != null) {
+            Timeout<T> next = expired.nextExpired;
+            expired.nextExpired = null;
+            onExpire.accept(expired.value);
+            expired = next;
+        }
+    }
+
+    /**
+     * 지정한 틱까지 진행하고, 그 사이 만료된 항목을 전달
+     * 예약이 없으면 순회 없이 바로 이동합니다. (뒤로 이동도 허용)
+     * @param targetTick 목표 틱
+     * @param onExpire 만료 콜백
+     */
+    public void advanceTo(long targetTick, Consumer<T> onExpire) {
+        if (size == 0) {
+            currentTick = targetTick;
+            return;
+        }
+        while (currentTick < targetTick && size > 0) {
+            advance(onExpire);
+        }
+        if (size == 0 && currentTick < targetTick) {
+            currentTick = targetTick;
+        }
+    }
+
+    /**
+     * 휠이 마지막으로 처리한 틱 반환
+     */
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
+    /**
+     * 예약된 항목 수 반환
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 모든 예약 제거
+     */
+    public void clear() {
+        for (int i = 0; i < buckets.length; i++) {
+            Timeout<T> node = buckets[i];
+            while (node != null) {
+                Timeout<T> next = node.next;
+                node.prev = null;
+                node.next = null;
+                node.bucket = -1;
+                node = next;
+            }
+            buckets[i] = null;
+        }
+        size = 0;
+    }
+
+    private void link(Timeout<T> timeout) {
+        int index = (int) (timeout.deadline & mask);
+        Timeout<T> head = buckets[index];
+        timeout.bucket = index;
+        timeout.prev = null;
+        timeout.next = head;
+        if (head != null) {
+            head.prev = timeout;
+        }
+        buckets[index] = timeout;
+        size++;
+    }
+
+    private void unlink(Timeout<T> timeout) {
+        if (timeout.prev != null) {
+            timeout.prev.next = timeout.next;
+        } else {
+            buckets[timeout.bucket] = timeout.next;
+        }
+        if (timeout.next != null) {
+            timeout.next.prev = timeout.prev;
+        }
+        timeout.prev = null;
+        timeout.next = null;
+        timeout.bucket = -1;
+        size--;
+    }
+
+    /**
+     * 예약 핸들
+     * @param <T> 예약 대상 값 타입
+     */
+    public static final class Timeout<T> {
+
+        private final TimingWheel<T> wheel;
+        private final T value;
+        private long deadline;
+
+        private Timeout<T> prev;
+        private Timeout<T> next;
+        private Timeout<T> nextExpired;
+
+        // 소속 버킷 인덱스 (-1이면 대기 중이 아님)
+        private int bucket = -1;
+
+        private Timeout(TimingWheel<T> wheel, T value, long deadline) {
+            this.wheel = wheel;
+            this.value = value;
+            this.deadline = deadline;
+        }
+
+        /**
+         * 예약 값 반환
+         */
+        public T getValue() {
+            return value;
+        }
+
+        /**
+         * 만료 예정 틱 반환
+         */
+        public long getDeadline() {
+            return deadline;
+        }
+
+        /**
+         * 아직 만료/취소되지 않았는지 여부
+         */
+        public boolean isPending() {
+            return bucket >= 0;
+        }
+
+        /**
+         * 예약 취소
+         * @return 대기 중이던 예약을 취소했으면 true
+         */
+        public boolean cancel() {
+            return wheel.cancel(this);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package kr.minex.knockbackscroll;
+
+import kr.minex.knockbackscroll.storage.AuditLog;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("감사 로그 기록 테스트")
+class AuditLogTest {
+
+    private static final Logger LOGGER = Logger.getLogger("AuditLogTest");
+
+    // 테스트 중에는 주기로 깨어나지 않을 만큼 긴 간격
+    private static final long NEVER = 3_600_000L;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("닫을 때 대기 중인 기록이 모두 JSON 한 줄씩 기록되어야 한다")
+    void 기록_형식_테스트() throws IOException {
+        UUID staff = UUID.randomUUID();
+        try (AuditLog auditLog = open(new AuditLog.Options(1024, NEVER, 0L, 0L, true), new AtomicLong())) {
+            assertTrue(auditLog.append(AuditLog.Entry.create(0L, "Staff", staff, "single-use", 64, "@a", 3)));
+            assertTrue(auditLog.append(AuditLog.Entry.convert(1_000L, "Staff", staff, "unlimited", "STICK", 1)));
+            assertTrue(auditLog.append(AuditLog.Entry.use(2_000L, "Player \"1\"", null, "single-use", "world", 10, 64, -5)));
+        }
+
+        List<String> lines = Files.readAllLines(directory.resolve(AuditLog.ACTIVE_FILE));
+        assertEquals(List.of(
+                "{\"time\":\"1970-01-01T00:00:00Z\",\"action\":\"create\",\"actor\":\"Staff\",\"actor_uuid\":\"" + staff
+                        + "\",\"type\":\"single-use\",\"amount\":64,\"target\":\"@a\",\"recipients\":3}",
+                "{\"time\":\"1970-01-01T00:00:01Z\",\"action\":\"convert\",\"actor\":\"Staff\",\"actor_uuid\":\"" + staff
+                        + "\",\"type\":\"unlimited\",\"amount\":1,\"material\":\"STICK\"}",
+                "{\"time\":\"1970-01-01T00:00:02Z\",\"action\":\"use\",\"actor\":\"Player \\\"1\\\"\",\"actor_uuid\":null"
+                        + ",\"type\":\"single-use\",\"amount\":1,\"world\":\"world\",\"x\":10,\"y\":64,\"z\":-5}"),
+                lines);
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 기다리지 않고 버려야 하며, 닫은 뒤의 기록도 버려야 한다")
+    void 가득_찬_큐_버림_테스트() throws IOException {
+        AuditLog auditLog = open(new AuditLog.Options(4, NEVER, 0L, 0L, true), new AtomicLong());
+        int accepted = 0;
+        for (int i = 0; i < 10; i++) {
+            if (auditLog.append(use(i))) {
+                accepted++;
+            }
+        }
+        assertEquals(4, accepted);
+        assertEquals(4, auditLog.getPending());
+
+        auditLog.close();
+        assertFalse(auditLog.append(use(10)));
+        assertEquals(4, Files.readAllLines(directory.resolve(AuditLog.ACTIVE_FILE)).size());
+    }
+
+    @Test
+    @DisplayName("크기나 시간이 넘으면 파일을 교체하고 압축해야 하며, 기록은 빠짐없이 남아야 한다")
+    void 파일_교체_압축_테스트() throws IOException {
+        AtomicLong clock = new AtomicLong();
+        // 한 배치(256개)를 넘겨 쓰기 스레드를 깨움
+        try (AuditLog auditLog = open(new AuditLog.Options(10_000, 10L, 4_096L, 0L, true), clock)) {
+            for (int i = 0; i < 1_000; i++) {
+                assertTrue(auditLog.append(use(i)));
+            }
+            waitUntilWritten(auditLog);
+
+            // 시간 기준 교체
+            clock.set(NEVER);
+            assertTrue(auditLog.append(use(1_000)));
+            waitUntilWritten(auditLog);
+        }
+
+        List<String> lines = new ArrayList<>();
+        List<Path> archives;
+        try (Stream<Path> files = Files.list(directory)) {
+            archives = files.filter(file -> file.getFileName().toString().startsWith("audit-")).sorted().toList();
+        }
+        assertFalse(archives.isEmpty());
+        for (Path archive : archives) {
+            assertTrue(archive.getFileName().toString().endsWith(".log.gz"), archive.toString());
+            try (InputStream in = new GZIPInputStream(Files.newInputStream(archive))) {
+                lines.addAll(new String(in.readAllBytes(), StandardCharsets.UTF_8).lines().toList());
+            }
+        }
+        lines.addAll(Files.readAllLines(directory.resolve(AuditLog.ACTIVE_FILE)));
+
+        // 같은 초에 교체된 파일은 이름 순서가 기록 순서와 다를 수 있으므로 좌표로 확인
+        assertTrue(archives.size() > 1);
+        assertEquals(1_001, lines.size());
+        boolean[] seen = new boolean[lines.size()];
+        for (String line : lines) {
+            int start = line.indexOf("\"x\":") + 4;
+            seen[Integer.parseInt(line.substring(start, line.indexOf(',', start)))] = true;
+        }
+        for (int i = 0; i < seen.length; i++) {
+            assertTrue(seen[i], "누락된 기록: " + i);
+        }
+    }
+
+    private AuditLog open(AuditLog.Options options, AtomicLong clock) throws IOException {
+        return AuditLog.open(directory, options, clock::get, LOGGER);
+    }
+
+    private static AuditLog.Entry use(int x) {
+        return AuditLog.Entry.use(0L, "Player", UUID.randomUUID(), "single-use", "world", x, 64, 0);
+    }
+
+    private static void waitUntilWritten(AuditLog auditLog) {
+        long deadline = System.currentTimeMillis() + 5_000L;
+        while (auditLog.getPending() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertEquals(0, auditLog.getPending());
+    }
+}
@@ -0,0 +1,50 @@
+package kr.minex.knockbackscroll;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import kr.minex.knockbackscroll.config.ConfigFileWatcher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("설정 파일 자동 리로드 테스트")
+class ConfigFileWatcherTest {
+
+    private ServerMock server;
+    private KnockbackScroll plugin;
+
+    @BeforeEach
+    void setUp() {
+        server = MockBukkit.mock();
+        plugin = MockBukkit.load(KnockbackScroll.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    @Test
+    @DisplayName("기본값에서는 감시 스레드를 만들지 않아야 한다")
+    void 기본값_비활성화_테스트() {
+        assertFalse(plugin.getConfigWatcher().isRunning());
+    }
+
+    @Test
+    @DisplayName("설정으로 켜면 감시를 시작하고, 플러그인 비활성화 시 정지해야 한다")
+    void 시작_정지_테스트() {
+        plugin.getConfig().set("auto-reload.enabled", true);
+        plugin.saveConfig();
+        plugin.getConfigManager().reload();
+
+        ConfigFileWatcher watcher = plugin.getConfigWatcher();
+        watcher.apply(plugin.getConfigManager().getSnapshot());
+        assertTrue(watcher.isRunning());
+
+        server.getPluginManager().disablePlugin(plugin);
+        assertFalse(watcher.isRunning());
+    }
+}
@@ -0,0 +1,132 @@
+package kr.minex.knockbackscroll;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import be.seeseemelk.mockbukkit.entity.PlayerMock;
+import kr.minex.knockbackscroll.config.ScrollConfig;
+import org.bukkit.Material;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("설정 리로드 스냅샷 테스트")
+class ConfigReloadTest {
+
+    private ServerMock server;
+    private KnockbackScroll plugin;
+
+    @BeforeEach
+    void setUp() {
+        server = MockBukkit.mock();
+        plugin = MockBukkit.load(KnockbackScroll.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    @Test
+    @DisplayName("검증에 실패하면 이전 스냅샷이 그대로 유지되어야 한다")
+    void 검증_실패_시_이전_설정_유지_테스트() {
+        ScrollConfig before = plugin.getConfigManager().getSnapshot();
+
+        plugin.getConfig().set("settings.cooldown", -5);
+        plugin.saveConfig();
+
+        assertFalse(plugin.getConfigManager().reload());
+        assertSame(before, plugin.getConfigManager().getSnapshot());
+    }
+
+    @Test
+    @DisplayName("리로드 명령어는 비동기로 읽은 설정을 메인 스레드에서 게시해야 한다")
+    void 비동기_리로드_게시_테스트() {
+        PlayerMock admin = server.addPlayer("Admin");
+        admin.setOp(true);
+        ScrollConfig before = plugin.getConfigManager().getSnapshot();
+
+        plugin.getConfig().set("settings.cooldown", before.cooldownSeconds() + 7);
+        plugin.saveConfig();
+
+        server.dispatchCommand(admin, "넉백저항주문서 리로드");
+        server.getScheduler().waitAsyncTasksFinished();
+        server.getScheduler().performOneTick();
+
+        ScrollConfig after = plugin.getConfigManager().getSnapshot();
+        assertNotSame(before, after);
+        assertEquals(before.cooldownSeconds() + 7, after.cooldownSeconds());
+    }
+
+    @Test
+    @DisplayName("타입 번호 파일에 같은 번호가 겹치면 검증 실패로 처리하고 이전 스냅샷을 유지해야 한다")
+    void 타입_번호_중복_검증_실패_테스트() throws IOException {
+        ScrollConfig before = plugin.getConfigManager().getSnapshot();
+
+        File idFile = new File(plugin.getDataFolder(), "scroll-type-ids.yml");
+        YamlConfiguration ids = YamlConfiguration.loadConfiguration(idFile);
+        ids.set("single-use", 0);
+        ids.set("unlimited", 0);
+        ids.save(idFile);
+
+        assertFalse(plugin.getConfigManager().reload());
+        assertSame(before, plugin.getConfigManager().getSnapshot());
+
+        // 비동기 리로드도 예외 없이 검증 실패로 끝나야 함
+        CompletableFuture<ScrollConfig> future = plugin.getConfigManager().loadAsync();
+        server.getScheduler().waitAsyncTasksFinished();
+        ExecutionException error = assertThrows(ExecutionException.class, future::get);
+        assertInstanceOf(InvalidConfigurationException.class, error.getCause());
+    }
+
+    @Test
+    @DisplayName("저장 전에 읽은 설정이 게시되어도 지정 명령어로 추가한 아이템 종류가 빠지지 않아야 한다")
+    void 아이템_종류_추가_중_리로드_테스트() {
+        plugin.getConfig().set("scroll-detection.materials", List.of("PAPER"));
+        plugin.saveConfig();
+        assertTrue(plugin.getConfigManager().reload());
+        assertFalse(plugin.getConfigManager().isScrollMaterial(Material.STICK));
+
+        // 파일 저장 전에 읽은 스냅샷
+        ScrollConfig stale = plugin.getConfigManager().getSnapshot();
+        plugin.getConfigManager().addScrollMaterial(Material.STICK);
+        plugin.getConfigManager().publish(stale);
+        assertTrue(plugin.getConfigManager().isScrollMaterial(Material.STICK));
+
+        // 저장된 파일을 다시 읽어도 유지
+        server.getScheduler().waitAsyncTasksFinished();
+        assertTrue(plugin.getConfigManager().reload());
+        assertTrue(plugin.getConfigManager().isScrollMaterial(Material.STICK));
+
+        // 파일에 반영된 뒤에는 관리자가 목록에서 지우면 빠져야 함
+        plugin.reloadConfig();
+        plugin.getConfig().set("scroll-detection.materials", List.of("PAPER"));
+        plugin.saveConfig();
+        assertTrue(plugin.getConfigManager().reload());
+        assertFalse(plugin.getConfigManager().isScrollMaterial(Material.STICK));
+    }
+
+    @Test
+    @DisplayName("판별 목록이 비어 있어도 지정 명령어로 추가한 아이템 종류는 저장되어 리로드 후에도 유지되어야 한다")
+    void 빈_목록_아이템_종류_추가_테스트() {
+        assertFalse(plugin.getConfigManager().isScrollMaterial(Material.STICK));
+
+        plugin.getConfigManager().addScrollMaterial(Material.STICK);
+        assertTrue(plugin.getConfigManager().isScrollMaterial(Material.STICK));
+
+        server.getScheduler().waitAsyncTasksFinished();
+        assertTrue(plugin.getConfigManager().reload());
+        assertTrue(plugin.getConfigManager().isScrollMaterial(Material.STICK));
+        assertFalse(plugin.getConfigManager().isScrollMaterial(Material.DIAMOND));
+    }
+}
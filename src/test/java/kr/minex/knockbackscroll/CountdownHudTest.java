@@ -0,0 +1,83 @@
+package kr.minex.knockbackscroll;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import be.seeseemelk.mockbukkit.entity.PlayerMock;
+import kr.minex.knockbackscroll.managers.CountdownHud;
+import kr.minex.knockbackscroll.metrics.Counter;
+import kr.minex.knockbackscroll.utils.ManualScrollClock;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("남은 시간 액션바 표시 테스트")
+class CountdownHudTest {
+
+    private ServerMock server;
+    private KnockbackScroll plugin;
+    private ManualScrollClock clock;
+
+    @BeforeEach
+    void setUp() {
+        server = MockBukkit.mock();
+        plugin = MockBukkit.load(KnockbackScroll.class);
+        clock = new ManualScrollClock(1_000L);
+        plugin.setScrollClock(clock);
+    }
+
+    @AfterEach
+    void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    @Test
+    @DisplayName("표시되는 초가 바뀔 때만 전송해야 한다")
+    void 초_변경_시에만_전송_테스트() {
+        PlayerMock player = server.addPlayer("TestPlayer");
+        CountdownHud hud = plugin.getCountdownHud();
+        Counter updates = plugin.getMetrics().hudUpdates;
+
+        // 기본 지속시간 10초
+        plugin.getEffectManager().activateEffect(player);
+        hud.tick();
+        assertEquals(1, updates.get());
+
+        // 같은 초 안에서는 전송하지 않음
+        clock.advance(500L);
+        hud.tick();
+        hud.tick();
+        assertEquals(1, updates.get());
+
+        // 초가 바뀌면 한 번 전송
+        clock.advance(500L);
+        hud.tick();
+        assertEquals(2, updates.get());
+    }
+
+    @Test
+    @DisplayName("효과가 끝나면 쿨타임으로, 모두 끝나면 지우기로 한 번씩 전송해야 한다")
+    void 종류_전환_테스트() {
+        PlayerMock player = server.addPlayer("TestPlayer");
+        CountdownHud hud = plugin.getCountdownHud();
+        Counter updates = plugin.getMetrics().hudUpdates;
+
+        plugin.getEffectManager().activateEffect(player, 1_000L);
+        plugin.getCooldownManager().setCooldown(player, 3_000L);
+        hud.tick();
+        assertEquals(1, updates.get());
+
+        // 효과 종료 -> 쿨타임 2초 표시
+        clock.advance(1_000L);
+        hud.tick();
+        assertEquals(2, updates.get());
+
+        // 쿨타임 종료 -> 지우기
+        clock.advance(2_000L);
+        hud.tick();
+        hud.tick();
+        assertEquals(3, updates.get());
+    }
+}
@@ -0,0 +1,70 @@
+package kr.minex.knockbackscroll;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import be.seeseemelk.mockbukkit.entity.PlayerMock;
+import org.bukkit.event.entity.EntityDamageEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("폭발 데미지 핸들러 동적 등록 테스트")
+class ExplosionHandlerRegistrationTest {
+
+    private ServerMock server;
+    private KnockbackScroll plugin;
+
+    @BeforeEach
+    void setUp() {
+        server = MockBukkit.mock();
+        plugin = MockBukkit.load(KnockbackScroll.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    @Test
+    @DisplayName("효과가 하나라도 있는 동안에만 핸들러가 등록되어야 한다")
+    void 효과_기간_동안만_등록_테스트() {
+        PlayerMock first = server.addPlayer("First");
+        PlayerMock second = server.addPlayer("Second");
+
+        assertFalse(plugin.getKnockbackListener().isExplosionHandlerRegistered());
+        assertEquals(0, EntityDamageEvent.getHandlerList().getRegisteredListeners().length);
+
+        plugin.getEffectManager().activateEffect(first);
+        plugin.getEffectManager().activateEffect(second);
+        assertTrue(plugin.getKnockbackListener().isExplosionHandlerRegistered());
+        assertEquals(1, EntityDamageEvent.getHandlerList().getRegisteredListeners().length);
+
+        // 한 명만 해제되면 유지
+        plugin.getEffectManager().deactivateEffect(first);
+        assertTrue(plugin.getKnockbackListener().isExplosionHandlerRegistered());
+
+        // 마지막 효과가 해제되면 핸들러도 해제
+        plugin.getEffectManager().deactivateEffect(second);
+        assertFalse(plugin.getKnockbackListener().isExplosionHandlerRegistered());
+        assertEquals(0, EntityDamageEvent.getHandlerList().getRegisteredListeners().length);
+    }
+
+    @Test
+    @DisplayName("효과가 만료되면 핸들러가 해제되어야 한다")
+    void 만료_시_해제_테스트() {
+        PlayerMock player = server.addPlayer("TestPlayer");
+
+        // 지속시간 0초: 활성화 직후 만료 대상이 되어 다음 만료 체커 실행 때 정리됨
+        plugin.getConfig().set("settings.duration", 0);
+        plugin.saveConfig();
+        plugin.getConfigManager().reload();
+        plugin.getEffectManager().activateEffect(player);
+        assertTrue(plugin.getKnockbackListener().isExplosionHandlerRegistered());
+
+        server.getScheduler().performTicks(20);
+        assertFalse(plugin.getKnockbackListener().isExplosionHandlerRegistered());
+    }
+}
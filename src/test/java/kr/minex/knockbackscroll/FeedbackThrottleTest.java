@@ -0,0 +1,106 @@
+package kr.minex.knockbackscroll;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import be.seeseemelk.mockbukkit.entity.PlayerMock;
+import kr.minex.knockbackscroll.managers.FeedbackThrottle;
+import kr.minex.knockbackscroll.managers.PlayerScrollData;
+import kr.minex.knockbackscroll.utils.ManualScrollClock;
+import org.bukkit.block.BlockFace;
+import org.bukkit.event.block.Action;
+import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.inventory.EquipmentSlot;
+import org.bukkit.inventory.ItemStack;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("거부 안내 전송 제한 테스트")
+class FeedbackThrottleTest {
+
+    private ServerMock server;
+    private KnockbackScroll plugin;
+    private ManualScrollClock clock;
+    private FeedbackThrottle throttle;
+
+    @BeforeEach
+    void setUp() {
+        server = MockBukkit.mock();
+        plugin = MockBukkit.load(KnockbackScroll.class);
+        clock = new ManualScrollClock(1_000L);
+        plugin.setScrollClock(clock);
+        throttle = new FeedbackThrottle(plugin);
+    }
+
+    @AfterEach
+    void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    @Test
+    @DisplayName("같은 초의 안내는 한 번만 보내야 한다")
+    void 같은_초_중복_차단_테스트() {
+        PlayerMock player = server.addPlayer("TestPlayer");
+        PlayerScrollData data = plugin.getPlayerState().getOrCreate(player.getUniqueId());
+
+        assertTrue(throttle.tryAcquire(data, FeedbackThrottle.KIND_COOLDOWN, 30));
+        for (int i = 0; i < 20; i++) {
+            assertFalse(throttle.tryAcquire(data, FeedbackThrottle.KIND_COOLDOWN, 30));
+        }
+        assertEquals(20, plugin.getMetrics().feedbackSuppressed.get());
+
+        clock.advance(1_000L);
+        assertTrue(throttle.tryAcquire(data, FeedbackThrottle.KIND_COOLDOWN, 29));
+    }
+
+    @Test
+    @DisplayName("값이 빠르게 바뀌어도 버킷 크기를 넘겨 보내지 않아야 한다")
+    void 토큰_버킷_테스트() {
+        PlayerMock player = server.addPlayer("TestPlayer");
+        PlayerScrollData data = plugin.getPlayerState().getOrCreate(player.getUniqueId());
+
+        assertTrue(throttle.tryAcquire(data, FeedbackThrottle.KIND_COOLDOWN, 5));
+        assertTrue(throttle.tryAcquire(data, FeedbackThrottle.KIND_ALREADY_ACTIVE, 5));
+        assertFalse(throttle.tryAcquire(data, FeedbackThrottle.KIND_COOLDOWN, 4));
+
+        // 1초 뒤 토큰 하나 충전
+        clock.advance(1_000L);
+        assertTrue(throttle.tryAcquire(data, FeedbackThrottle.KIND_COOLDOWN, 4));
+    }
+
+    @Test
+    @DisplayName("이미 활성화됨 안내는 남은 초가 바뀌어도 다시 보내지 않아야 한다")
+    void 이미_활성화_안내_한번_테스트() {
+        PlayerMock player = server.addPlayer("TestPlayer");
+        plugin.getEffectManager().activateEffect(player, 10_000L);
+        ItemStack scroll = plugin.getScrollManager().createScroll(
+                plugin.getScrollManager().getScrollTypes().fromId("single-use"));
+        player.getInventory().setItemInMainHand(scroll);
+
+        for (int i = 0; i < 5; i++) {
+            server.getPluginManager().callEvent(new PlayerInteractEvent(player, Action.RIGHT_CLICK_AIR,
+                    scroll, null, BlockFace.SELF, EquipmentSlot.HAND));
+            clock.advance(1_000L);
+        }
+
+        // 첫 클릭만 안내하고 나머지 4번은 남은 초와 무관하게 차단
+        assertEquals(4, plugin.getMetrics().feedbackSuppressed.get());
+        assertEquals(1, player.getInventory().getItemInMainHand().getAmount());
+    }
+
+    @Test
+    @DisplayName("새 쿨타임이 시작되면 이전과 같은 초여도 안내해야 한다")
+    void 새_쿨타임_초기화_테스트() {
+        PlayerMock player = server.addPlayer("TestPlayer");
+        plugin.getCooldownManager().setCooldown(player, 10_000L);
+        PlayerScrollData data = plugin.getPlayerState().get(player.getUniqueId());
+
+        assertTrue(throttle.tryAcquire(data, FeedbackThrottle.KIND_COOLDOWN, 10));
+        clock.advance(10_000L);
+        plugin.getCooldownManager().setCooldown(player, 10_000L);
+        assertTrue(throttle.tryAcquire(data, FeedbackThrottle.KIND_COOLDOWN, 10));
+    }
+}
@@ -0,0 +1,57 @@
+package kr.minex.knockbackscroll;
+
+import kr.minex.knockbackscroll.utils.IntHashSet;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("int 해시 집합 테스트")
+class IntHashSetTest {
+
+    @Test
+    @DisplayName("추가/제거/조회 결과가 HashSet과 같아야 한다")
+    void 무작위_연산_비교_테스트() {
+        IntHashSet set = new IntHashSet();
+        Set<Integer> expected = new HashSet<>();
+        Random random = new Random(12345L);
+
+        for (int i = 0; i < 50_000; i++) {
+            // 좁은 범위로 충돌과 재삽입을 자주 발생시킴
+            int key = random.nextInt(2_000) - 1_000;
+            if (random.nextBoolean()) {
+                assertEquals(expected.add(key), set.add(key));
+            } else {
+                assertEquals(expected.remove(key), set.remove(key));
+            }
+            assertEquals(expected.size(), set.size());
+        }
+
+        for (int key = -1_000; key < 1_000; key++) {
+            assertEquals(expected.contains(key), set.contains(key), "key=" + key);
+        }
+    }
+
+    @Test
+    @DisplayName("빈 칸 표시값과 같은 키도 저장할 수 있어야 한다")
+    void 경계값_키_테스트() {
+        IntHashSet set = new IntHashSet();
+        assertFalse(set.contains(Integer.MIN_VALUE));
+        assertTrue(set.add(Integer.MIN_VALUE));
+        assertTrue(set.add(0));
+        assertTrue(set.contains(Integer.MIN_VALUE));
+        assertEquals(2, set.size());
+
+        assertTrue(set.remove(Integer.MIN_VALUE));
+        assertFalse(set.contains(Integer.MIN_VALUE));
+        assertTrue(set.contains(0));
+
+        set.clear();
+        assertTrue(set.isEmpty());
+        assertFalse(set.contains(0));
+    }
+}
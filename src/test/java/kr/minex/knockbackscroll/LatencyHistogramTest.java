@@ -0,0 +1,72 @@
+package kr.minex.knockbackscroll;
+
+import kr.minex.knockbackscroll.metrics.LatencyHistogram;
+import kr.minex.knockbackscroll.metrics.MetricsFormat;
+import kr.minex.knockbackscroll.metrics.ScrollMetrics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("지연시간 히스토그램 테스트")
+class LatencyHistogramTest {
+
+    @Test
+    @DisplayName("백분위 값은 상대 오차 1/16 이내여야 한다")
+    void 백분위_정확도_테스트() {
+        LatencyHistogram histogram = new LatencyHistogram("test", "테스트");
+        for (long value = 1; value <= 10_000; value++) {
+            histogram.record(value * 1_000L);
+        }
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(10_000, snapshot.getCount());
+        assertEquals(10_000_000L, snapshot.getMax());
+        assertWithin(5_000_000L, snapshot.getValueAtPercentile(50.0));
+        assertWithin(9_900_000L, snapshot.getValueAtPercentile(99.0));
+        assertEquals(10_000_000L, snapshot.getValueAtPercentile(100.0), "100%는 최댓값을 넘지 않아야 함");
+    }
+
+    @Test
+    @DisplayName("작은 값과 극단적인 값도 기록할 수 있어야 한다")
+    void 경계값_테스트() {
+        LatencyHistogram histogram = new LatencyHistogram("test", "테스트");
+        histogram.record(-5L);
+        histogram.record(0L);
+        histogram.record(7L);
+        histogram.record(Long.MAX_VALUE);
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(4, snapshot.getCount());
+        assertEquals(0L, snapshot.getValueAtPercentile(50.0));
+        assertEquals(Long.MAX_VALUE, snapshot.getMax());
+
+        histogram.reset();
+        assertEquals(0, histogram.snapshot().getCount());
+        assertEquals(0L, histogram.snapshot().getValueAtPercentile(99.0));
+    }
+
+    @Test
+    @DisplayName("Prometheus 형식에는 카운터와 요약 지표가 모두 포함되어야 한다")
+    void 프로메테우스_형식_테스트() {
+        ScrollMetrics metrics = new ScrollMetrics();
+        metrics.activations.add(3);
+        metrics.interact.record(2_000L);
+
+        String text = MetricsFormat.PROMETHEUS.render(metrics, 0L);
+        assertTrue(text.contains("# TYPE knockbackscroll_activations_total counter"));
+        assertTrue(text.contains("knockbackscroll_activations_total 3\n"));
+        assertTrue(text.contains("knockbackscroll_interact_seconds{quantile=\"0.99\"} 2.0E-6\n"));
+        assertTrue(text.contains("knockbackscroll_interact_seconds_count 1\n"));
+
+        String json = MetricsFormat.JSON.render(metrics, 42L);
+        assertTrue(json.startsWith("{\"timestamp\":42,"));
+        assertTrue(json.contains("\"activations\":3"));
+        assertTrue(json.contains("\"interact\":{\"count\":1,\"sum_ns\":2000,\"p50_ns\":2000"));
+    }
+
+    private static void assertWithin(long expected, long actual) {
+        assertTrue(Math.abs(actual - expected) <= expected / 16,
+                "기대값 " + expected + " 대비 오차가 큼: " + actual);
+    }
+}
@@ -0,0 +1,107 @@
+package kr.minex.knockbackscroll;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import be.seeseemelk.mockbukkit.entity.PlayerMock;
+import kr.minex.knockbackscroll.utils.ManualScrollClock;
+import org.bukkit.attribute.Attribute;
+import org.bukkit.attribute.AttributeInstance;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("수동 시계 기반 만료 테스트")
+class ManualClockExpirationTest {
+
+    private ServerMock server;
+    private KnockbackScroll plugin;
+    private ManualScrollClock clock;
+
+    @BeforeEach
+    void setUp() {
+        server = MockBukkit.mock();
+        plugin = MockBukkit.load(KnockbackScroll.class);
+        clock = new ManualScrollClock(1_000L);
+        plugin.setScrollClock(clock);
+    }
+
+    @AfterEach
+    void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    @Test
+    @DisplayName("효과는 지속시간이 정확히 지난 틱에 만료되어야 한다")
+    void 효과_정확_만료_테스트() {
+        PlayerMock player = server.addPlayer("TestPlayer");
+        AttributeInstance attribute = player.getAttribute(Attribute.GENERIC_KNOCKBACK_RESISTANCE);
+        assertNotNull(attribute);
+
+        // 기본 지속시간 10초
+        plugin.getEffectManager().activateEffect(player);
+
+        // 만료 1틱 전
+        clock.advance(9_950L);
+        server.getScheduler().performOneTick();
+        assertTrue(plugin.getEffectManager().hasActiveEffect(player));
+        assertTrue(hasScrollModifier(attribute), "만료 전에는 모디파이어가 유지되어야 함");
+
+        // 만료 틱
+        clock.advance(50L);
+        assertFalse(plugin.getEffectManager().hasActiveEffect(player));
+        server.getScheduler().performOneTick();
+        assertFalse(hasScrollModifier(attribute), "만료 틱에 모디파이어가 제거되어야 함");
+    }
+
+    @Test
+    @DisplayName("다른 플레이어의 효과 활성화가 만료된 효과를 대신 처리하지 않아야 한다")
+    void 활성화_중_만료_미처리_테스트() {
+        PlayerMock first = server.addPlayer("FirstPlayer");
+        PlayerMock second = server.addPlayer("SecondPlayer");
+        AttributeInstance attribute = first.getAttribute(Attribute.GENERIC_KNOCKBACK_RESISTANCE);
+        assertNotNull(attribute);
+
+        plugin.getEffectManager().activateEffect(first, 50L);
+        clock.advance(50L);
+
+        // 만료 틱이 지났어도 틱 작업 전까지는 모디파이어가 남아 있어야 함
+        plugin.getEffectManager().activateEffect(second, 10_000L);
+        assertTrue(hasScrollModifier(attribute), "활성화 중에 다른 플레이어의 만료를 처리하면 안 됨");
+
+        server.getScheduler().performOneTick();
+        assertFalse(hasScrollModifier(attribute), "만료는 틱 작업에서 처리되어야 함");
+        assertTrue(plugin.getEffectManager().hasActiveEffect(second));
+    }
+
+    @Test
+    @DisplayName("쿨타임은 수동 시계 기준으로 계산되어야 한다")
+    void 쿨타임_수동_시계_테스트() {
+        PlayerMock player = server.addPlayer("TestPlayer");
+
+        // 기본 쿨타임 60초
+        plugin.getCooldownManager().setCooldown(player);
+        assertTrue(plugin.getCooldownManager().isOnCooldown(player));
+        assertEquals(60, plugin.getCooldownManager().getRemainingCooldown(player));
+
+        // 서버 틱이 진행되어도 수동 시계는 그대로
+        server.getScheduler().performTicks(100);
+        assertEquals(60, plugin.getCooldownManager().getRemainingCooldown(player));
+
+        clock.advance(59_001L);
+        assertEquals(1, plugin.getCooldownManager().getRemainingCooldown(player));
+
+        clock.advance(999L);
+        assertFalse(plugin.getCooldownManager().isOnCooldown(player));
+
+        // 조회는 저장된 종료 시각을 지우지 않아야 함 (동시에 설정된 새 쿨타임을 덮어쓰지 않도록)
+        assertEquals(61_000L, plugin.getPlayerState().get(player.getUniqueId()).getCooldownEnd());
+    }
+
+    private boolean hasScrollModifier(AttributeInstance attribute) {
+        return attribute.getModifiers().stream()
+                .anyMatch(mod -> "knockback_scroll_resistance".equals(mod.getName()));
+    }
+}
@@ -0,0 +1,52 @@
+package kr.minex.knockbackscroll;
+
+import kr.minex.knockbackscroll.config.MessageTemplate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.text.NumberFormat;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("메시지 템플릿 테스트")
+class MessageTemplateTest {
+
+    @Test
+    @DisplayName("플레이스홀더가 값으로 치환되어야 한다")
+    void 플레이스홀더_치환_테스트() {
+        MessageTemplate template = MessageTemplate.compile("효과 {duration}초, 타입 {type}");
+
+        assertEquals("효과 10초, 타입 1회용", template.render(null, "duration", 10, "type", "1회용"));
+        assertEquals("[P] 효과 10초, 타입 1회용", template.render("[P] ", "type", "1회용", "duration", 10));
+    }
+
+    @Test
+    @DisplayName("정수는 기존 NumberFormat과 같은 형식으로 천 단위 구분되어야 한다")
+    void 천단위_구분_테스트() {
+        MessageTemplate template = MessageTemplate.compile("{value}");
+
+        for (long value : new long[]{0, 7, 999, 1000, 12345, 1234567, -98765}) {
+            assertEquals(NumberFormat.getInstance().format(value), template.render(null, "value", value));
+        }
+        assertEquals(NumberFormat.getInstance().format(1234.5), template.render(null, "value", 1234.5));
+    }
+
+    @Test
+    @DisplayName("값이 없는 플레이스홀더와 잘못된 중괄호는 원문을 유지해야 한다")
+    void 원문_유지_테스트() {
+        MessageTemplate template = MessageTemplate.compile("{a} { b } {} {c");
+
+        assertEquals("{a} { b } {} {c", template.render(null));
+        assertEquals("1 { b } {} {c", template.render(null, "a", 1));
+    }
+
+    @Test
+    @DisplayName("플레이스홀더가 없는 템플릿은 같은 문자열을 반환해야 한다")
+    void 정적_메시지_테스트() {
+        MessageTemplate template = MessageTemplate.compile("설정이 리로드되었습니다.");
+
+        assertFalse(template.isEmpty());
+        assertEquals("설정이 리로드되었습니다.", template.render(null));
+        assertTrue(MessageTemplate.compile("").isEmpty());
+    }
+}
@@ -0,0 +1,79 @@
+package kr.minex.knockbackscroll;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import be.seeseemelk.mockbukkit.entity.PlayerMock;
+import kr.minex.knockbackscroll.listeners.KnockbackListener;
+import org.bukkit.attribute.Attribute;
+import org.bukkit.attribute.AttributeInstance;
+import org.bukkit.attribute.AttributeModifier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("넉백 저항 모디파이어 생명주기 테스트")
+class ModifierLifecycleTest {
+
+    private ServerMock server;
+    private KnockbackScroll plugin;
+
+    @BeforeEach
+    void setUp() {
+        server = MockBukkit.mock();
+        plugin = MockBukkit.load(KnockbackScroll.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    @Test
+    @DisplayName("반복 적용해도 고정 UUID 모디파이어가 하나만 있어야 한다")
+    void 중복_적용_방지_테스트() {
+        PlayerMock player = server.addPlayer("TestPlayer");
+        AttributeInstance attribute = player.getAttribute(Attribute.GENERIC_KNOCKBACK_RESISTANCE);
+        assertNotNull(attribute);
+        KnockbackListener listener = plugin.getKnockbackListener();
+
+        listener.applyKnockbackResistance(player);
+        List<AttributeModifier> first = scrollModifiers(attribute);
+        listener.applyKnockbackResistance(player);
+        List<AttributeModifier> second = scrollModifiers(attribute);
+
+        assertEquals(1, second.size());
+        assertEquals(first.get(0).getUniqueId(), second.get(0).getUniqueId(), "UUID는 항상 같아야 함");
+
+        listener.removeKnockbackResistance(player);
+        assertTrue(scrollModifiers(attribute).isEmpty());
+    }
+
+    @Test
+    @DisplayName("이전 버전 모디파이어 검사는 플레이어당 한 번만 실행되어야 한다")
+    void 이전_버전_모디파이어_1회_정리_테스트() {
+        PlayerMock player = server.addPlayer("TestPlayer");
+        AttributeInstance attribute = player.getAttribute(Attribute.GENERIC_KNOCKBACK_RESISTANCE);
+        assertNotNull(attribute);
+
+        // 접속 시 이미 검사가 끝났으므로, 이후 추가된 무작위 UUID 모디파이어는 다시 검사하지 않음
+        AttributeModifier legacy = new AttributeModifier(UUID.randomUUID(), "knockback_scroll_resistance",
+                1.0, AttributeModifier.Operation.ADD_NUMBER);
+        attribute.addModifier(legacy);
+
+        plugin.getKnockbackListener().removeLegacyModifiers(player);
+        assertEquals(1, scrollModifiers(attribute).size(), "검사 완료 표시가 있으면 다시 훑지 않아야 함");
+    }
+
+    private List<AttributeModifier> scrollModifiers(AttributeInstance attribute) {
+        return attribute.getModifiers().stream()
+                .filter(mod -> "knockback_scroll_resistance".equals(mod.getName()))
+                .collect(Collectors.toList());
+    }
+}
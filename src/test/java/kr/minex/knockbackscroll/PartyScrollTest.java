@@ -0,0 +1,132 @@
+package kr.minex.knockbackscroll;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import be.seeseemelk.mockbukkit.entity.PlayerMock;
+import kr.minex.knockbackscroll.managers.PlayerGrid;
+import kr.minex.knockbackscroll.models.ScrollType;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.BlockFace;
+import org.bukkit.entity.Player;
+import org.bukkit.event.block.Action;
+import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.inventory.EquipmentSlot;
+import org.bukkit.inventory.ItemStack;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("광역 주문서 테스트")
+class PartyScrollTest {
+
+    private ServerMock server;
+    private KnockbackScroll plugin;
+    private World world;
+
+    @BeforeEach
+    void setUp() {
+        server = MockBukkit.mock();
+        plugin = MockBukkit.load(KnockbackScroll.class);
+        world = server.addSimpleWorld("party");
+    }
+
+    @AfterEach
+    void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    @Test
+    @DisplayName("격자 검색은 반경 안의 플레이어만 찾고, 칸을 넘어 이동해도 따라가야 한다")
+    void 격자_반경_검색_테스트() {
+        PlayerGrid grid = plugin.getPlayerGrid();
+        grid.apply(true, server.getOnlinePlayers());
+
+        PlayerMock user = addPlayerAt("User", 0, 0);
+        PlayerMock near = addPlayerAt("Near", 5, 3);
+        PlayerMock far = addPlayerAt("Far", 40, 0);
+
+        assertEquals(List.of(near), findNearby(user, 8));
+
+        // 칸 경계를 넘어 반경 안으로 이동
+        moveTo(far, -7, 0);
+        List<Player> result = findNearby(user, 8);
+        assertEquals(2, result.size());
+        assertTrue(result.contains(far));
+
+        grid.remove(near.getUniqueId());
+        assertEquals(List.of(far), findNearby(user, 8));
+    }
+
+    @Test
+    @DisplayName("광역 주문서는 주변 아군에게 효과와 비율만큼의 쿨타임을 부여해야 한다")
+    void 광역_효과_부여_테스트() {
+        ScrollType party = addPartyType();
+        PlayerMock user = addPlayerAt("User", 0, 0);
+        PlayerMock ally = addPlayerAt("Ally", 4, 0);
+        PlayerMock busy = addPlayerAt("Busy", 0, 4);
+        PlayerMock far = addPlayerAt("Far", 50, 0);
+
+        // 남은 쿨타임이 더 긴 아군은 그대로 유지
+        plugin.getCooldownManager().setCooldown(busy, 100_000L);
+
+        ItemStack scroll = plugin.getScrollManager().createScroll(party);
+        user.getInventory().setItemInMainHand(scroll);
+        server.getPluginManager().callEvent(new PlayerInteractEvent(user, Action.RIGHT_CLICK_AIR,
+                scroll, null, BlockFace.SELF, EquipmentSlot.HAND));
+
+        assertTrue(plugin.getEffectManager().hasActiveEffect(user));
+        assertEquals(60, plugin.getCooldownManager().getRemainingCooldown(user));
+
+        assertTrue(plugin.getEffectManager().hasActiveEffect(ally));
+        assertEquals(30, plugin.getCooldownManager().getRemainingCooldown(ally));
+
+        assertTrue(plugin.getEffectManager().hasActiveEffect(busy));
+        assertEquals(100, plugin.getCooldownManager().getRemainingCooldown(busy));
+
+        assertFalse(plugin.getEffectManager().hasActiveEffect(far));
+        assertEquals(0, plugin.getCooldownManager().getRemainingCooldown(far));
+        assertEquals(2, plugin.getMetrics().partyRecipients.get());
+    }
+
+    private ScrollType addPartyType() {
+        plugin.getConfig().set("scrolls.party.name", "파티");
+        plugin.getConfig().set("scrolls.party.duration", 10);
+        plugin.getConfig().set("scrolls.party.cooldown", 60);
+        plugin.getConfig().set("scrolls.party.radius", 8);
+        plugin.getConfig().set("scrolls.party.party-cooldown", 0.5);
+        plugin.getConfig().set("scrolls.party.item.material", Material.PAPER.name());
+        plugin.saveConfig();
+        plugin.getConfigManager().reload();
+        plugin.getScrollManager().reload();
+
+        ScrollType party = plugin.getScrollManager().getScrollTypes().fromName("파티");
+        assertTrue(party.isParty());
+        plugin.getPlayerGrid().apply(true, server.getOnlinePlayers());
+        return party;
+    }
+
+    private PlayerMock addPlayerAt(String name, double x, double z) {
+        PlayerMock player = server.addPlayer(name);
+        moveTo(player, x, z);
+        return player;
+    }
+
+    private void moveTo(PlayerMock player, double x, double z) {
+        player.setLocation(new Location(world, x, 64, z));
+        plugin.getPlayerGrid().update(player, player.getLocation());
+    }
+
+    private List<Player> findNearby(Player user, double radius) {
+        List<Player> result = new ArrayList<>();
+        plugin.getPlayerGrid().findNearby(user.getLocation(), radius, user.getUniqueId(), result);
+        return result;
+    }
+}
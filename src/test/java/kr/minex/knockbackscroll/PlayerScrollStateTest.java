@@ -0,0 +1,90 @@
+package kr.minex.knockbackscroll;
+
+import kr.minex.knockbackscroll.managers.PlayerScrollData;
+import kr.minex.knockbackscroll.managers.PlayerScrollState;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("플레이어 상태 저장소 테스트")
+class PlayerScrollStateTest {
+
+    @Test
+    @DisplayName("생성한 상태는 같은 UUID로 다시 조회되어야 한다")
+    void 상태_생성_조회_테스트() {
+        PlayerScrollState state = new PlayerScrollState();
+        UUID uuid = UUID.randomUUID();
+
+        assertNull(state.get(uuid));
+
+        PlayerScrollData data = state.getOrCreate(uuid);
+        assertSame(data, state.get(uuid));
+        assertSame(data, state.getOrCreate(uuid), "중복 생성 시 기존 상태를 반환해야 함");
+        assertEquals(uuid, data.getOwner());
+    }
+
+    @Test
+    @DisplayName("제거 후 다시 만든 상태는 초기화되어 있어야 한다")
+    void 상태_제거_재생성_테스트() {
+        PlayerScrollState state = new PlayerScrollState();
+        UUID uuid = UUID.randomUUID();
+
+        PlayerScrollData data = state.getOrCreate(uuid);
+        data.setCooldownEnd(1234L);
+        data.setEffectEnd(5678L);
+        state.remove(uuid);
+
+        assertNull(state.get(uuid));
+        assertEquals(0, state.size());
+
+        PlayerScrollData recreated = state.getOrCreate(uuid);
+        assertEquals(0L, recreated.getCooldownEnd());
+        assertEquals(0L, recreated.getEffectEnd());
+        assertEquals(-1, recreated.getProtectedEntityId());
+        assertEquals(-1, recreated.getHeldCacheType());
+    }
+
+    @Test
+    @DisplayName("여러 리전 스레드에서 동시에 생성해도 값이 유실되지 않아야 한다")
+    void 동시_생성_테스트() throws InterruptedException {
+        PlayerScrollState state = new PlayerScrollState();
+        int threads = 4;
+        int perThread = 2000;
+        UUID[][] uuids = new UUID[threads][perThread];
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+
+        for (int t = 0; t < threads; t++) {
+            UUID[] own = uuids[t];
+            new Thread(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < own.length; i++) {
+                        own[i] = UUID.randomUUID();
+                        state.getOrCreate(own[i]).setCooldownEnd(i + 1);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            }).start();
+        }
+        start.countDown();
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+
+        assertEquals(threads * perThread, state.size());
+        for (UUID[] own : uuids) {
+            for (int i = 0; i < own.length; i++) {
+                PlayerScrollData data = state.get(own[i]);
+                assertNotNull(data);
+                assertEquals(i + 1, data.getCooldownEnd());
+            }
+        }
+    }
+}
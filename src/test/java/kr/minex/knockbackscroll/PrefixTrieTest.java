@@ -0,0 +1,60 @@
+package kr.minex.knockbackscroll;
+
+import kr.minex.knockbackscroll.utils.PrefixTrie;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("접두사 트라이 테스트")
+class PrefixTrieTest {
+
+    @Test
+    @DisplayName("대소문자를 무시하고 접두사로 시작하는 값을 입력한 그대로 문자 순으로 찾아야 한다")
+    void 접두사_검색_테스트() {
+        PrefixTrie trie = new PrefixTrie();
+        trie.add("Steve");
+        trie.add("stone");
+        trie.add("Alex");
+        trie.add("생성");
+        trie.add("world:world_nether");
+
+        assertEquals(List.of("Steve", "stone"), collect(trie, "ST"));
+        assertEquals(List.of("Steve"), collect(trie, "steve"));
+        assertEquals(List.of("생성"), collect(trie, "생"));
+        assertEquals(List.of("world:world_nether"), collect(trie, "WORLD:"));
+        assertTrue(collect(trie, "stevenson").isEmpty());
+        assertEquals(5, collect(trie, "").size());
+    }
+
+    @Test
+    @DisplayName("제거한 값은 검색되지 않아야 하며, 다른 값의 가지는 유지되어야 한다")
+    void 제거_테스트() {
+        PrefixTrie trie = new PrefixTrie();
+        assertTrue(trie.add("Steve"));
+        assertTrue(trie.add("Stev"));
+        assertFalse(trie.add("STEVE"), "대소문자만 다른 값은 교체");
+        assertEquals(2, trie.size());
+
+        assertTrue(trie.remove("steve"));
+        assertFalse(trie.remove("Steve"));
+        assertEquals(List.of("Stev"), collect(trie, "s"));
+
+        assertTrue(trie.remove("Stev"));
+        assertEquals(0, trie.size());
+        assertTrue(collect(trie, "").isEmpty());
+
+        // 정리된 가지에 다시 추가
+        trie.add("Steve");
+        assertEquals(List.of("Steve"), collect(trie, "st"));
+    }
+
+    private static List<String> collect(PrefixTrie trie, String prefix) {
+        List<String> result = new ArrayList<>();
+        trie.collect(prefix, result);
+        return result;
+    }
+}
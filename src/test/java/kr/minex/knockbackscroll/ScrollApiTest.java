@@ -0,0 +1,156 @@
+package kr.minex.knockbackscroll;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import be.seeseemelk.mockbukkit.entity.PlayerMock;
+import kr.minex.knockbackscroll.api.KnockbackScrollApi;
+import kr.minex.knockbackscroll.api.event.ScrollActivateEvent;
+import kr.minex.knockbackscroll.api.event.ScrollCause;
+import kr.minex.knockbackscroll.api.event.ScrollCooldownStartEvent;
+import kr.minex.knockbackscroll.api.event.ScrollEffectExpireEvent;
+import kr.minex.knockbackscroll.models.ScrollType;
+import kr.minex.knockbackscroll.utils.ManualScrollClock;
+import org.bukkit.block.BlockFace;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.Action;
+import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.inventory.EquipmentSlot;
+import org.bukkit.inventory.ItemStack;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("공개 API와 이벤트 테스트")
+class ScrollApiTest {
+
+    private ServerMock server;
+    private KnockbackScroll plugin;
+    private ManualScrollClock clock;
+
+    @BeforeEach
+    void setUp() {
+        server = MockBukkit.mock();
+        plugin = MockBukkit.load(KnockbackScroll.class);
+        clock = new ManualScrollClock(1_000L);
+        plugin.setScrollClock(clock);
+    }
+
+    @AfterEach
+    void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    @Test
+    @DisplayName("ServicesManager에서 조회한 API로 효과를 부여하고 조회할 수 있어야 한다")
+    void 서비스_등록_부여_조회_테스트() {
+        KnockbackScrollApi api = server.getServicesManager().load(KnockbackScrollApi.class);
+        assertNotNull(api);
+        assertEquals(KnockbackScrollApi.VERSION, api.getApiVersion());
+        assertTrue(api.getScrollTypeIds().contains("single-use"));
+
+        // 리스너가 없으면 이벤트 객체를 만들지 않음
+        assertFalse(ScrollActivateEvent.hasListeners());
+
+        PlayerMock player = server.addPlayer("TestPlayer");
+        assertTrue(api.grantEffect(player.getUniqueId(), 5_000L, 0.5).join());
+        assertTrue(api.hasActiveEffect(player.getUniqueId()));
+        assertEquals(5_000L, api.getRemainingEffectMillis(player.getUniqueId()));
+
+        assertTrue(api.setCooldown(player.getUniqueId(), 3_000L).join());
+        assertEquals(3_000L, api.getRemainingCooldownMillis(player.getUniqueId()));
+
+        assertTrue(api.cancelEffect(player.getUniqueId()).join());
+        assertTrue(api.clearCooldown(player.getUniqueId()).join());
+        assertFalse(api.hasActiveEffect(player.getUniqueId()));
+        assertFalse(api.isOnCooldown(player.getUniqueId()));
+
+        // 접속 중이 아닌 플레이어
+        assertFalse(api.grantEffect(UUID.randomUUID(), 5_000L, 1.0).join());
+    }
+
+    @Test
+    @DisplayName("활성화 이벤트를 취소하면 주문서가 소모되지 않고 쿨타임도 시작되지 않아야 한다")
+    void 활성화_이벤트_취소_테스트() {
+        server.getPluginManager().registerEvents(new Listener() {
+            @EventHandler
+            public void onActivate(ScrollActivateEvent event) {
+                assertEquals(ScrollCause.SCROLL, event.getCause());
+                event.setCancelled(true);
+            }
+
+            @EventHandler
+            public void onCooldown(ScrollCooldownStartEvent event) {
+                fail("취소된 사용은 쿨타임을 시작하지 않아야 함");
+            }
+        }, plugin);
+
+        PlayerMock player = server.addPlayer("TestPlayer");
+        ScrollType single = plugin.getScrollManager().getScrollTypes().fromId("single-use");
+        ItemStack scroll = plugin.getScrollManager().createScroll(single);
+        player.getInventory().setItemInMainHand(scroll);
+
+        server.getPluginManager().callEvent(new PlayerInteractEvent(player, Action.RIGHT_CLICK_AIR,
+                scroll, null, BlockFace.SELF, EquipmentSlot.HAND));
+
+        assertFalse(plugin.getEffectManager().hasActiveEffect(player));
+        assertFalse(plugin.getCooldownManager().isOnCooldown(player));
+        ItemStack returned = player.getInventory().getItemInMainHand();
+        assertEquals(1, returned.getAmount(), "취소되면 소모한 주문서를 돌려받아야 함");
+        assertSame(single, plugin.getScrollManager().getScrollType(returned));
+    }
+
+    @Test
+    @DisplayName("묶음에서 사용한 주문서도 활성화가 취소되면 같은 묶음으로 돌아와야 한다")
+    void 활성화_이벤트_취소_묶음_반환_테스트() {
+        server.getPluginManager().registerEvents(new Listener() {
+            @EventHandler
+            public void onActivate(ScrollActivateEvent event) {
+                event.setCancelled(true);
+            }
+        }, plugin);
+
+        PlayerMock player = server.addPlayer("TestPlayer");
+        ScrollType single = plugin.getScrollManager().getScrollTypes().fromId("single-use");
+        ItemStack scroll = plugin.getScrollManager().createScroll(single);
+        scroll.setAmount(3);
+        player.getInventory().setItemInMainHand(scroll);
+
+        server.getPluginManager().callEvent(new PlayerInteractEvent(player, Action.RIGHT_CLICK_AIR,
+                scroll, null, BlockFace.SELF, EquipmentSlot.HAND));
+
+        assertEquals(3, player.getInventory().getItemInMainHand().getAmount());
+        assertFalse(plugin.getEffectManager().hasActiveEffect(player));
+    }
+
+    @Test
+    @DisplayName("만료 이벤트를 취소하면 지정한 시간만큼 연장되어야 한다")
+    void 만료_이벤트_연장_테스트() {
+        Listener extender = new Listener() {
+            @EventHandler
+            public void onExpire(ScrollEffectExpireEvent event) {
+                event.setExtensionMillis(2_000L);
+                event.setCancelled(true);
+            }
+        };
+        server.getPluginManager().registerEvents(extender, plugin);
+
+        PlayerMock player = server.addPlayer("TestPlayer");
+        plugin.getEffectManager().activateEffect(player, 1_000L);
+
+        clock.advance(1_000L);
+        plugin.getEffectManager().processExpirations();
+        assertTrue(plugin.getEffectManager().hasActiveEffect(player));
+        assertEquals(2, plugin.getEffectManager().getRemainingEffectTime(player));
+
+        ScrollEffectExpireEvent.getHandlerList().unregister(extender);
+        clock.advance(2_000L);
+        plugin.getEffectManager().processExpirations();
+        assertFalse(plugin.getEffectManager().hasActiveEffect(player));
+    }
+}
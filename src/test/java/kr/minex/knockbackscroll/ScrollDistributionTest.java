@@ -0,0 +1,69 @@
+package kr.minex.knockbackscroll;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import be.seeseemelk.mockbukkit.entity.PlayerMock;
+import org.bukkit.inventory.ItemStack;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("주문서 대량 지급 테스트")
+class ScrollDistributionTest {
+
+    private ServerMock server;
+    private KnockbackScroll plugin;
+
+    @BeforeEach
+    void setUp() {
+        server = MockBukkit.mock();
+        plugin = MockBukkit.load(KnockbackScroll.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    @Test
+    @DisplayName("수량은 최대 스택 단위로 나뉘어 지급되어야 한다")
+    void 수량_스택_분할_테스트() {
+        PlayerMock player = server.addPlayer("TestPlayer");
+        player.setOp(true);
+
+        server.dispatchCommand(player, "넉백저항주문서 생성 1회용 130");
+        server.getScheduler().performOneTick();
+
+        assertEquals(130, countScrolls(player));
+        assertEquals(0, plugin.getScrollDistributor().getPendingCount());
+    }
+
+    @Test
+    @DisplayName("@a 선택자는 접속 중인 모든 플레이어에게 지급해야 한다")
+    void 전체_선택자_지급_테스트() {
+        PlayerMock admin = server.addPlayer("Admin");
+        admin.setOp(true);
+        PlayerMock first = server.addPlayer("First");
+        PlayerMock second = server.addPlayer("Second");
+
+        server.dispatchCommand(admin, "넉백저항주문서 생성 다회용 3 @a");
+        server.getScheduler().performTicks(5);
+
+        assertEquals(3, countScrolls(admin));
+        assertEquals(3, countScrolls(first));
+        assertEquals(3, countScrolls(second));
+    }
+
+    private int countScrolls(PlayerMock player) {
+        int total = 0;
+        for (ItemStack item : player.getInventory().getContents()) {
+            if (plugin.getScrollManager().isKnockbackScroll(item)) {
+                total += item.getAmount();
+            }
+        }
+        return total;
+    }
+}
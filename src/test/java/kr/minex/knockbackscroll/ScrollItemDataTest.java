@@ -0,0 +1,190 @@
+package kr.minex.knockbackscroll;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import be.seeseemelk.mockbukkit.entity.PlayerMock;
+import kr.minex.knockbackscroll.api.event.ScrollActivateEvent;
+import kr.minex.knockbackscroll.managers.PlayerScrollData;
+import kr.minex.knockbackscroll.models.ScrollType;
+import kr.minex.knockbackscroll.utils.PackedScrollData;
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.block.BlockFace;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.Action;
+import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.inventory.EquipmentSlot;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("주문서 아이템 식별 데이터 테스트")
+class ScrollItemDataTest {
+
+    private ServerMock server;
+    private KnockbackScroll plugin;
+
+    @BeforeEach
+    void setUp() {
+        server = MockBukkit.mock();
+        plugin = MockBukkit.load(KnockbackScroll.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    @Test
+    @DisplayName("인코딩한 버전, 타입 번호, 플래그를 그대로 읽을 수 있어야 한다")
+    void 인코딩_테스트() {
+        int packed = PackedScrollData.pack(PackedScrollData.MAX_TYPE_ID, PackedScrollData.FLAG_CONVERTED);
+        assertEquals(PackedScrollData.VERSION, PackedScrollData.version(packed));
+        assertEquals(PackedScrollData.MAX_TYPE_ID, PackedScrollData.typeId(packed));
+        assertTrue(PackedScrollData.hasFlag(packed, PackedScrollData.FLAG_CONVERTED));
+
+        assertEquals(0, PackedScrollData.typeId(PackedScrollData.pack(0, 0)));
+        assertThrows(IllegalArgumentException.class, () -> PackedScrollData.pack(PackedScrollData.MAX_TYPE_ID + 1, 0));
+    }
+
+    @Test
+    @DisplayName("새로 만든 주문서는 키 하나만 가져야 한다")
+    void 단일_키_테스트() {
+        ScrollType unlimited = plugin.getScrollManager().getScrollTypes().fromId("unlimited");
+        ItemStack scroll = plugin.getScrollManager().createScroll(unlimited);
+
+        PersistentDataContainer pdc = scroll.getItemMeta().getPersistentDataContainer();
+        assertEquals(1, pdc.getKeys().size());
+        assertSame(unlimited, plugin.getScrollManager().getScrollType(scroll));
+    }
+
+    @Test
+    @DisplayName("이전 형식 주문서는 인식되고, 처음 사용할 때 새 형식으로 바뀌어야 한다")
+    void 이전_형식_변환_테스트() {
+        PlayerMock player = server.addPlayer("TestPlayer");
+        ItemStack legacy = new ItemStack(Material.PAPER);
+        ItemMeta meta = legacy.getItemMeta();
+        meta.getPersistentDataContainer().set(new NamespacedKey(plugin, "knockback_scroll"), PersistentDataType.BYTE, (byte) 1);
+        meta.getPersistentDataContainer().set(new NamespacedKey(plugin, "scroll_type"), PersistentDataType.STRING, "unlimited");
+        legacy.setItemMeta(meta);
+
+        ScrollType unlimited = plugin.getScrollManager().getScrollTypes().fromId("unlimited");
+        assertTrue(plugin.getScrollManager().isKnockbackScroll(legacy));
+        assertSame(unlimited, plugin.getScrollManager().getScrollType(legacy));
+
+        player.getInventory().setItemInMainHand(legacy);
+        server.getPluginManager().callEvent(new PlayerInteractEvent(player, Action.RIGHT_CLICK_AIR,
+                legacy, null, BlockFace.SELF, EquipmentSlot.HAND));
+
+        assertTrue(plugin.getEffectManager().hasActiveEffect(player));
+        ItemStack migrated = player.getInventory().getItemInMainHand();
+        PersistentDataContainer pdc = migrated.getItemMeta().getPersistentDataContainer();
+        assertTrue(pdc.has(new NamespacedKey(plugin, "scroll"), PersistentDataType.INTEGER));
+        assertFalse(pdc.has(new NamespacedKey(plugin, "knockback_scroll"), PersistentDataType.BYTE));
+        assertFalse(pdc.has(new NamespacedKey(plugin, "scroll_type"), PersistentDataType.STRING));
+        assertSame(unlimited, plugin.getScrollManager().getScrollType(migrated));
+    }
+
+    @Test
+    @DisplayName("기본 설정은 주문서 타입의 아이템 종류만 검사해야 한다")
+    void 기본_판별_목록_테스트() {
+        PlayerMock player = server.addPlayer("TestPlayer");
+        ItemStack legacy = createLegacyStickScroll();
+
+        assertTrue(plugin.getConfigManager().isScrollMaterial(Material.PAPER));
+        assertFalse(plugin.getConfigManager().isScrollMaterial(Material.STICK));
+
+        player.getInventory().setItemInMainHand(legacy);
+        server.getPluginManager().callEvent(new PlayerInteractEvent(player, Action.RIGHT_CLICK_AIR,
+                legacy, null, BlockFace.SELF, EquipmentSlot.HAND));
+
+        assertFalse(plugin.getEffectManager().hasActiveEffect(player));
+    }
+
+    @Test
+    @DisplayName("전체 검사를 켜면 이전 버전에서 종이가 아닌 아이템으로 변환한 주문서도 발동되어야 한다")
+    void 이전_형식_변환_아이템_발동_테스트() {
+        plugin.getConfig().set("scroll-detection.all-materials", true);
+        plugin.saveConfig();
+        assertTrue(plugin.getConfigManager().reload());
+
+        PlayerMock player = server.addPlayer("TestPlayer");
+        ItemStack legacy = createLegacyStickScroll();
+        assertTrue(plugin.getConfigManager().isScrollMaterial(Material.STICK));
+
+        player.getInventory().setItemInMainHand(legacy);
+        server.getPluginManager().callEvent(new PlayerInteractEvent(player, Action.RIGHT_CLICK_AIR,
+                legacy, null, BlockFace.SELF, EquipmentSlot.HAND));
+
+        assertTrue(plugin.getEffectManager().hasActiveEffect(player));
+        assertTrue(plugin.getCooldownManager().isOnCooldown(player));
+    }
+
+    @Test
+    @DisplayName("판별 후 손의 아이템이 바뀌어 소모하지 못하면 발동하지 않아야 한다")
+    void 소모_실패_되돌림_테스트() {
+        server.getPluginManager().registerEvents(new Listener() {
+            @EventHandler
+            public void onActivate(ScrollActivateEvent event) {
+                fail("소모하지 못한 사용은 활성화 이벤트를 호출하지 않아야 함");
+            }
+        }, plugin);
+
+        PlayerMock player = server.addPlayer("TestPlayer");
+        ScrollType singleUse = plugin.getScrollManager().getScrollTypes().fromId("single-use");
+        ItemStack scroll = plugin.getScrollManager().createScroll(singleUse);
+        player.getInventory().setItemInMainHand(scroll);
+
+        // 판별 캐시를 채운 뒤, 무효화 이벤트 없이 같은 종류의 일반 아이템으로 교체
+        PlayerScrollData data = plugin.getPlayerState().get(player.getUniqueId());
+        assertSame(singleUse, plugin.getScrollManager().getHeldScrollType(player, data, scroll.getType()));
+        ItemStack plain = new ItemStack(scroll.getType(), 5);
+        player.getInventory().setItemInMainHand(plain);
+
+        server.getPluginManager().callEvent(new PlayerInteractEvent(player, Action.RIGHT_CLICK_AIR,
+                plain, null, BlockFace.SELF, EquipmentSlot.HAND));
+
+        assertFalse(plugin.getEffectManager().hasActiveEffect(player));
+        assertFalse(plugin.getCooldownManager().isOnCooldown(player));
+        assertEquals(5, player.getInventory().getItemInMainHand().getAmount(), "일반 아이템은 소모되지 않아야 함");
+    }
+
+    @Test
+    @DisplayName("다른 플러그인이 아이템 사용을 막은 클릭은 주문서를 쓰지 않아야 한다")
+    void 아이템_사용_차단_테스트() {
+        PlayerMock player = server.addPlayer("TestPlayer");
+        ScrollType singleUse = plugin.getScrollManager().getScrollTypes().fromId("single-use");
+        ItemStack scroll = plugin.getScrollManager().createScroll(singleUse);
+        player.getInventory().setItemInMainHand(scroll);
+
+        PlayerInteractEvent event = new PlayerInteractEvent(player, Action.RIGHT_CLICK_AIR,
+                scroll, null, BlockFace.SELF, EquipmentSlot.HAND);
+        event.setUseItemInHand(Event.Result.DENY);
+        server.getPluginManager().callEvent(event);
+
+        assertFalse(plugin.getEffectManager().hasActiveEffect(player));
+        assertFalse(plugin.getCooldownManager().isOnCooldown(player));
+        assertEquals(1, player.getInventory().getItemInMainHand().getAmount());
+    }
+
+    /**
+     * 이전 버전 형식(BYTE 표시 + STRING 타입)으로 변환된 막대기 주문서
+     */
+    private ItemStack createLegacyStickScroll() {
+        ItemStack legacy = new ItemStack(Material.STICK);
+        ItemMeta meta = legacy.getItemMeta();
+        meta.getPersistentDataContainer().set(new NamespacedKey(plugin, "knockback_scroll"), PersistentDataType.BYTE, (byte) 1);
+        meta.getPersistentDataContainer().set(new NamespacedKey(plugin, "scroll_type"), PersistentDataType.STRING, "unlimited");
+        legacy.setItemMeta(meta);
+        return legacy;
+    }
+}
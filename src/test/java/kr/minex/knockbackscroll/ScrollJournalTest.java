@@ -0,0 +1,216 @@
+package kr.minex.knockbackscroll;
+
+import kr.minex.knockbackscroll.storage.ScrollJournal;
+import kr.minex.knockbackscroll.storage.StoredScrollState;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("쿨타임/효과 저널 복구 테스트")
+class ScrollJournalTest {
+
+    private static final Logger LOGGER = Logger.getLogger("ScrollJournalTest");
+
+    // 테스트용 현재 시각 (epoch 밀리초)
+    private static final long NOW = 1_000_000L;
+
+    // 압축이 일어나지 않을 만큼 큰 임계값
+    private static final int NO_COMPACTION = 1_000_000;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("기록한 쿨타임과 효과는 다시 열었을 때 복구되어야 한다")
+    void 기록_복구_테스트() throws IOException {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+
+        try (ScrollJournal journal = open(NO_COMPACTION)) {
+            journal.append(first, ScrollJournal.KIND_COOLDOWN, NOW + 60_000L);
+            journal.append(first, ScrollJournal.KIND_EFFECT, NOW + 10_000L);
+            journal.append(second, ScrollJournal.KIND_COOLDOWN, NOW + 30_000L);
+            // 나중 레코드가 우선
+            journal.append(second, ScrollJournal.KIND_COOLDOWN, NOW + 45_000L);
+        }
+
+        try (ScrollJournal journal = open(NO_COMPACTION)) {
+            Map<UUID, StoredScrollState> recovered = journal.getRecovered();
+            assertEquals(2, recovered.size());
+            assertEquals(NOW + 60_000L, recovered.get(first).getCooldownEnd());
+            assertEquals(NOW + 10_000L, recovered.get(first).getEffectEnd());
+            assertEquals(NOW + 45_000L, recovered.get(second).getCooldownEnd());
+            assertEquals(0L, recovered.get(second).getEffectEnd());
+        }
+    }
+
+    @Test
+    @DisplayName("이미 끝난 상태와 해제된 상태는 복구되지 않아야 한다")
+    void 만료_해제_제외_테스트() throws IOException {
+        UUID expired = UUID.randomUUID();
+        UUID removed = UUID.randomUUID();
+
+        try (ScrollJournal journal = open(NO_COMPACTION)) {
+            journal.append(expired, ScrollJournal.KIND_COOLDOWN, NOW - 1L);
+            journal.append(removed, ScrollJournal.KIND_EFFECT, NOW + 10_000L);
+            journal.append(removed, ScrollJournal.KIND_EFFECT, 0L);
+        }
+
+        try (ScrollJournal journal = open(NO_COMPACTION)) {
+            assertTrue(journal.getRecovered().isEmpty());
+        }
+    }
+
+    @Test
+    @DisplayName("마지막 레코드가 잘린 경우 온전한 레코드까지만 복구하고 이어서 기록할 수 있어야 한다")
+    void 잘린_쓰기_복구_테스트() throws IOException {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+
+        try (ScrollJournal journal = open(NO_COMPACTION)) {
+            journal.append(first, ScrollJournal.KIND_COOLDOWN, NOW + 1_000L);
+            journal.append(second, ScrollJournal.KIND_COOLDOWN, NOW + 2_000L);
+        }
+
+        // 두 번째 레코드 중간에서 잘림
+        Path file = directory.resolve(ScrollJournal.JOURNAL_FILE);
+        truncate(file, ScrollJournal.HEADER_SIZE + ScrollJournal.RECORD_SIZE + 11);
+
+        try (ScrollJournal journal = open(NO_COMPACTION)) {
+            Map<UUID, StoredScrollState> recovered = journal.getRecovered();
+            assertEquals(1, recovered.size());
+            assertEquals(NOW + 1_000L, recovered.get(first).getCooldownEnd());
+            assertEquals(ScrollJournal.HEADER_SIZE + ScrollJournal.RECORD_SIZE, Files.size(file),
+                    "깨진 꼬리는 잘라내야 함");
+
+            journal.append(third, ScrollJournal.KIND_COOLDOWN, NOW + 3_000L);
+        }
+
+        try (ScrollJournal journal = open(NO_COMPACTION)) {
+            Map<UUID, StoredScrollState> recovered = journal.getRecovered();
+            assertEquals(2, recovered.size());
+            assertEquals(NOW + 3_000L, recovered.get(third).getCooldownEnd());
+        }
+    }
+
+    @Test
+    @DisplayName("CRC가 맞지 않는 레코드부터는 복구하지 않아야 한다")
+    void 찢어진_쓰기_복구_테스트() throws IOException {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+
+        try (ScrollJournal journal = open(NO_COMPACTION)) {
+            journal.append(first, ScrollJournal.KIND_COOLDOWN, NOW + 1_000L);
+            journal.append(second, ScrollJournal.KIND_COOLDOWN, NOW + 2_000L);
+            journal.append(third, ScrollJournal.KIND_COOLDOWN, NOW + 3_000L);
+        }
+
+        // 두 번째 레코드의 종료 시각 일부가 기록되지 않은 상태 재현
+        Path file = directory.resolve(ScrollJournal.JOURNAL_FILE);
+        long secondRecord = ScrollJournal.HEADER_SIZE + ScrollJournal.RECORD_SIZE;
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            raf.seek(secondRecord + 20);
+            raf.write(new byte[] {0, 0, 0});
+        }
+
+        try (ScrollJournal journal = open(NO_COMPACTION)) {
+            Map<UUID, StoredScrollState> recovered = journal.getRecovered();
+            assertEquals(1, recovered.size());
+            assertTrue(recovered.containsKey(first));
+            assertEquals(secondRecord, Files.size(file));
+        }
+    }
+
+    @Test
+    @DisplayName("헤더가 깨진 저널은 비우고 새로 시작해야 한다")
+    void 헤더_손상_테스트() throws IOException {
+        Path file = directory.resolve(ScrollJournal.JOURNAL_FILE);
+        Files.write(file, new byte[] {1, 2, 3});
+
+        UUID uuid = UUID.randomUUID();
+        try (ScrollJournal journal = open(NO_COMPACTION)) {
+            assertTrue(journal.getRecovered().isEmpty());
+            journal.append(uuid, ScrollJournal.KIND_EFFECT, NOW + 5_000L);
+        }
+
+        try (ScrollJournal journal = open(NO_COMPACTION)) {
+            assertEquals(NOW + 5_000L, journal.getRecovered().get(uuid).getEffectEnd());
+        }
+    }
+
+    @Test
+    @DisplayName("레코드가 임계값을 넘으면 스냅샷으로 압축되고 같은 상태가 복구되어야 한다")
+    void 압축_테스트() throws IOException {
+        UUID uuid = UUID.randomUUID();
+
+        try (ScrollJournal journal = open(4)) {
+            for (int i = 1; i <= 10; i++) {
+                journal.append(uuid, ScrollJournal.KIND_COOLDOWN, NOW + i * 1_000L);
+            }
+        }
+
+        Path file = directory.resolve(ScrollJournal.JOURNAL_FILE);
+        assertTrue(Files.exists(directory.resolve(ScrollJournal.SNAPSHOT_FILE)));
+        assertTrue(Files.size(file) < ScrollJournal.HEADER_SIZE + 4L * ScrollJournal.RECORD_SIZE,
+                "압축 후 저널은 비워져야 함");
+
+        try (ScrollJournal journal = open(NO_COMPACTION)) {
+            assertEquals(NOW + 10_000L, journal.getRecovered().get(uuid).getCooldownEnd());
+        }
+    }
+
+    @Test
+    @DisplayName("효과 타입 번호는 저널과 스냅샷 모두에서 복구되어야 한다")
+    void 효과_타입_복구_테스트() throws IOException {
+        UUID typed = UUID.randomUUID();
+        UUID legacy = UUID.randomUUID();
+
+        try (ScrollJournal journal = open(NO_COMPACTION)) {
+            journal.append(typed, ScrollJournal.KIND_EFFECT_TYPE, 7);
+            journal.append(typed, ScrollJournal.KIND_EFFECT, NOW + 10_000L);
+            // 타입 레코드 없이 기록된 효과 (이전 형식)
+            journal.append(legacy, ScrollJournal.KIND_EFFECT, NOW + 10_000L);
+        }
+
+        try (ScrollJournal journal = open(NO_COMPACTION)) {
+            Map<UUID, StoredScrollState> recovered = journal.getRecovered();
+            assertEquals(7, recovered.get(typed).getEffectTypeId());
+            assertEquals(-1, recovered.get(legacy).getEffectTypeId());
+        }
+
+        // 레코드 하나로 압축을 일으켜 스냅샷에서 복구
+        try (ScrollJournal journal = open(1)) {
+            journal.append(typed, ScrollJournal.KIND_COOLDOWN, NOW + 60_000L);
+        }
+        assertEquals(ScrollJournal.HEADER_SIZE, Files.size(directory.resolve(ScrollJournal.JOURNAL_FILE)));
+
+        try (ScrollJournal journal = open(NO_COMPACTION)) {
+            Map<UUID, StoredScrollState> recovered = journal.getRecovered();
+            assertEquals(NOW + 10_000L, recovered.get(typed).getEffectEnd());
+            assertEquals(7, recovered.get(typed).getEffectTypeId());
+            assertEquals(-1, recovered.get(legacy).getEffectTypeId());
+        }
+    }
+
+    private ScrollJournal open(int compactThreshold) throws IOException {
+        return ScrollJournal.open(directory, compactThreshold, () -> NOW, LOGGER);
+    }
+
+    private static void truncate(Path file, long length) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            raf.setLength(length);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package kr.minex.knockbackscroll;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import be.seeseemelk.mockbukkit.entity.PlayerMock;
+import kr.minex.knockbackscroll.managers.ScrollManager;
+import kr.minex.knockbackscroll.models.ScrollType;
+import org.bukkit.Material;
+import org.bukkit.attribute.Attribute;
+import org.bukkit.attribute.AttributeModifier;
+import org.bukkit.block.BlockFace;
+import org.bukkit.event.block.Action;
+import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.inventory.EquipmentSlot;
+import org.bukkit.inventory.ItemStack;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("설정 기반 주문서 타입 테스트")
+class ScrollTypeRegistryTest {
+
+    private ServerMock server;
+    private KnockbackScroll plugin;
+
+    @BeforeEach
+    void setUp() {
+        server = MockBukkit.mock();
+        plugin = MockBukkit.load(KnockbackScroll.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    @Test
+    @DisplayName("리로드로 타입을 추가해도 기존 타입 번호와 지급된 아이템은 유지되어야 한다")
+    void 리로드_후_기존_아이템_유지_테스트() {
+        ScrollManager scrollManager = plugin.getScrollManager();
+        ScrollType single = scrollManager.getScrollTypes().fromName("1회용");
+        assertNotNull(single);
+        ItemStack issued = scrollManager.createScroll(single);
+
+        addGoldType();
+        plugin.getConfigManager().reload();
+        scrollManager.reload();
+
+        ScrollType reloaded = scrollManager.getScrollTypes().fromId("single-use");
+        assertNotSame(single, reloaded, "리로드 후에는 새 타입 객체여야 함");
+        assertEquals(single.getNumericId(), reloaded.getNumericId(), "같은 ID는 같은 번호를 유지해야 함");
+        assertSame(reloaded, scrollManager.getScrollType(issued), "이전에 지급된 아이템도 인식되어야 함");
+
+        ScrollType gold = scrollManager.getScrollTypes().fromName("GOLD");
+        assertNotNull(gold);
+        assertSame(gold, scrollManager.getScrollTypes().fromNumericId(gold.getNumericId()));
+        assertSame(gold, scrollManager.getScrollType(scrollManager.createScroll(gold)));
+        assertTrue(scrollManager.getScrollTypes().getDisplayNames().contains("골드"));
+    }
+
+    @Test
+    @DisplayName("사용한 주문서 타입의 지속시간, 쿨타임, 저항 수치, 소모 여부가 적용되어야 한다")
+    void 타입별_효과_적용_테스트() {
+        addGoldType();
+        plugin.getConfigManager().reload();
+        plugin.getScrollManager().reload();
+
+        PlayerMock player = server.addPlayer("TestPlayer");
+        ScrollType gold = plugin.getScrollManager().getScrollTypes().fromName("골드");
+        ItemStack scroll = plugin.getScrollManager().createScroll(gold);
+        player.getInventory().setItemInMainHand(scroll);
+
+        server.getPluginManager().callEvent(new PlayerInteractEvent(player, Action.RIGHT_CLICK_AIR,
+                scroll, null, BlockFace.SELF, EquipmentSlot.HAND));
+
+        assertTrue(plugin.getEffectManager().hasActiveEffect(player));
+        assertEquals(20, plugin.getEffectManager().getRemainingEffectTime(player));
+        assertEquals(5, plugin.getCooldownManager().getRemainingCooldown(player));
+        assertEquals(1, player.getInventory().getItemInMainHand().getAmount(), "소모하지 않는 타입이어야 함");
+
+        List<AttributeModifier> modifiers = player.getAttribute(Attribute.GENERIC_KNOCKBACK_RESISTANCE)
+                .getModifiers().stream()
+                .filter(mod -> "knockback_scroll_resistance".equals(mod.getName()))
+                .toList();
+        assertEquals(1, modifiers.size());
+        assertEquals(0.5, modifiers.get(0).getAmount(), 1e-9);
+    }
+
+    private void addGoldType() {
+        plugin.getConfig().set("scrolls.gold.name", "골드");
+        plugin.getConfig().set("scrolls.gold.duration", 20);
+        plugin.getConfig().set("scrolls.gold.cooldown", 5);
+        plugin.getConfig().set("scrolls.gold.resistance", 0.5);
+        plugin.getConfig().set("scrolls.gold.consumable", false);
+        plugin.getConfig().set("scrolls.gold.item.material", Material.PAPER.name());
+        plugin.saveConfig();
+    }
+}
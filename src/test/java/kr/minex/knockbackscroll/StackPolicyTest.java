@@ -0,0 +1,122 @@
+package kr.minex.knockbackscroll;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import be.seeseemelk.mockbukkit.entity.PlayerMock;
+import kr.minex.knockbackscroll.models.ScrollType;
+import kr.minex.knockbackscroll.utils.ManualScrollClock;
+import org.bukkit.block.BlockFace;
+import org.bukkit.event.block.Action;
+import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.inventory.EquipmentSlot;
+import org.bukkit.inventory.ItemStack;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("효과 중복 사용 처리 테스트")
+class StackPolicyTest {
+
+    private ServerMock server;
+    private KnockbackScroll plugin;
+    private ManualScrollClock clock;
+    private PlayerMock player;
+
+    @BeforeEach
+    void setUp() {
+        server = MockBukkit.mock();
+        plugin = MockBukkit.load(KnockbackScroll.class);
+        clock = new ManualScrollClock(1_000L);
+        plugin.setScrollClock(clock);
+        player = server.addPlayer("TestPlayer");
+    }
+
+    @AfterEach
+    void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    @Test
+    @DisplayName("기본값(reject)은 효과가 활성화된 동안 사용을 거부해야 한다")
+    void 거부_테스트() {
+        ScrollType unlimited = applyPolicy("reject", 60);
+        useScroll(unlimited);
+        clock.advance(4_000L);
+        plugin.getCooldownManager().removeCooldown(player);
+
+        useScroll(unlimited);
+        assertEquals(6, plugin.getEffectManager().getRemainingEffectTime(player));
+        assertEquals(0, plugin.getMetrics().extensions.get());
+    }
+
+    @Test
+    @DisplayName("extend는 남은 시간에 지속시간을 더하되 최대 누적 시간을 넘지 않아야 하며, 속성은 다시 적용하지 않아야 한다")
+    void 연장_테스트() {
+        ScrollType unlimited = applyPolicy("extend", 25);
+        useScroll(unlimited);
+        long applied = plugin.getMetrics().attributeApply.snapshot().getCount();
+
+        clock.advance(4_000L);
+        plugin.getCooldownManager().removeCooldown(player);
+        useScroll(unlimited);
+        assertEquals(16, plugin.getEffectManager().getRemainingEffectTime(player));
+
+        // 최대 누적 시간(25초)에서 멈춤
+        plugin.getCooldownManager().removeCooldown(player);
+        useScroll(unlimited);
+        assertEquals(25, plugin.getEffectManager().getRemainingEffectTime(player));
+
+        // 이미 최대면 거부 (쿨타임도 시작되지 않음)
+        plugin.getCooldownManager().removeCooldown(player);
+        useScroll(unlimited);
+        assertFalse(plugin.getCooldownManager().isOnCooldown(player));
+        assertEquals(2, plugin.getMetrics().extensions.get());
+        assertEquals(applied, plugin.getMetrics().attributeApply.snapshot().getCount());
+
+        // 옮긴 예약대로 만료
+        clock.advance(24_950L);
+        plugin.getEffectManager().processExpirations();
+        assertTrue(plugin.getEffectManager().hasActiveEffect(player));
+        clock.advance(50L);
+        plugin.getEffectManager().processExpirations();
+        assertFalse(plugin.getEffectManager().hasActiveEffect(player));
+    }
+
+    @Test
+    @DisplayName("refresh는 남은 시간을 지속시간으로 다시 채워야 한다")
+    void 갱신_테스트() {
+        ScrollType unlimited = applyPolicy("refresh", 60);
+        useScroll(unlimited);
+
+        clock.advance(7_000L);
+        plugin.getCooldownManager().removeCooldown(player);
+        useScroll(unlimited);
+        assertEquals(10, plugin.getEffectManager().getRemainingEffectTime(player));
+
+        clock.advance(9_950L);
+        plugin.getEffectManager().processExpirations();
+        assertTrue(plugin.getEffectManager().hasActiveEffect(player));
+        clock.advance(50L);
+        plugin.getEffectManager().processExpirations();
+        assertFalse(plugin.getEffectManager().hasActiveEffect(player));
+    }
+
+    private ScrollType applyPolicy(String policy, int maxDurationSeconds) {
+        plugin.getConfig().set("settings.stack-policy", policy);
+        plugin.getConfig().set("settings.stack-max-duration", maxDurationSeconds);
+        plugin.saveConfig();
+        plugin.getConfigManager().reload();
+        plugin.getScrollManager().reload();
+        return plugin.getScrollManager().getScrollTypes().fromId("unlimited");
+    }
+
+    private void useScroll(ScrollType type) {
+        ItemStack scroll = plugin.getScrollManager().createScroll(type);
+        player.getInventory().setItemInMainHand(scroll);
+        server.getPluginManager().callEvent(new PlayerInteractEvent(player, Action.RIGHT_CLICK_AIR,
+                scroll, null, BlockFace.SELF, EquipmentSlot.HAND));
+    }
+}
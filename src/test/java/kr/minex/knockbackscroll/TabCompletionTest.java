@@ -0,0 +1,78 @@
+package kr.minex.knockbackscroll;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import be.seeseemelk.mockbukkit.entity.PlayerMock;
+import kr.minex.knockbackscroll.commands.ScrollTabCompleter;
+import org.bukkit.command.CommandSender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("명령어 탭 완성 테스트")
+class TabCompletionTest {
+
+    private ServerMock server;
+    private KnockbackScroll plugin;
+
+    @BeforeEach
+    void setUp() {
+        server = MockBukkit.mock();
+        plugin = MockBukkit.load(KnockbackScroll.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    @Test
+    @DisplayName("하위 명령어와 주문서 타입은 한글/영문 이름을 모두 완성해야 한다")
+    void 하위_명령어_타입_완성_테스트() {
+        ScrollTabCompleter completer = plugin.getTabCompleter();
+        CommandSender console = server.getConsoleSender();
+
+        assertEquals(List.of("생성"), completer.complete(console, new String[]{"생"}));
+        assertEquals(List.of("convert", "create"), completer.complete(console, new String[]{"C"}));
+        assertEquals(List.of("single", "single-use"), completer.complete(console, new String[]{"create", "sin"}));
+        assertEquals(List.of("1회용"), completer.complete(console, new String[]{"지정", "1"}));
+        assertEquals(List.of("16"), completer.complete(console, new String[]{"생성", "1회용", "16"}));
+        assertTrue(completer.complete(console, new String[]{"리로드", ""}).isEmpty());
+    }
+
+    @Test
+    @DisplayName("대상 후보는 접속/퇴장 시 바로 갱신되어야 한다")
+    void 대상_접속_퇴장_갱신_테스트() {
+        ScrollTabCompleter completer = plugin.getTabCompleter();
+        CommandSender console = server.getConsoleSender();
+        PlayerMock steve = server.addPlayer("Steve");
+        server.addPlayer("Stone");
+
+        assertEquals(List.of("Steve", "Stone"), completer.complete(console, new String[]{"생성", "1회용", "1", "st"}));
+        assertTrue(completer.complete(console, new String[]{"생성", "1회용", "1", ""}).contains("@a"));
+
+        steve.disconnect();
+        assertEquals(List.of("Stone"), completer.complete(console, new String[]{"생성", "1회용", "1", "st"}));
+    }
+
+    @Test
+    @DisplayName("플레이어에게는 숨겨진 플레이어의 이름을 완성하지 않아야 한다")
+    void 숨겨진_플레이어_제외_테스트() {
+        ScrollTabCompleter completer = plugin.getTabCompleter();
+        PlayerMock admin = server.addPlayer("Admin");
+        PlayerMock viewer = server.addPlayer("Viewer");
+        server.addPlayer("Stone");
+
+        viewer.hidePlayer(plugin, admin);
+
+        assertFalse(completer.complete(viewer, new String[]{"생성", "1회용", "1", ""}).contains("Admin"));
+        assertEquals(List.of("Stone"), completer.complete(viewer, new String[]{"생성", "1회용", "1", "st"}));
+        assertTrue(completer.complete(admin, new String[]{"생성", "1회용", "1", ""}).contains("Viewer"));
+        assertTrue(completer.complete(server.getConsoleSender(), new String[]{"생성", "1회용", "1", ""}).contains("Admin"));
+    }
+}
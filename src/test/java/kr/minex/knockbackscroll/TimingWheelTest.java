@@ -0,0 +1,126 @@
+package kr.minex.knockbackscroll;
+
+import kr.minex.knockbackscroll.utils.TimingWheel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("타이밍 휠 테스트")
+class TimingWheelTest {
+
+    @Test
+    @DisplayName("예약한 틱에 정확히 만료되어야 한다")
+    void 예약_틱_정확_만료_테스트() {
+        TimingWheel<String> wheel = new TimingWheel<>(8);
+        List<String> expired = new ArrayList<>();
+
+        wheel.schedule("a", 3);
+
+        wheel.advance(expired::add);
+        wheel.advance(expired::add);
+        assertTrue(expired.isEmpty(), "3틱 전에는 만료되지 않아야 함");
+
+        wheel.advance(expired::add);
+        assertEquals(List.of("a"), expired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("휠 크기보다 긴 지연도 바퀴 수를 지나 정확히 만료되어야 한다")
+    void 휠_한바퀴_이상_지연_테스트() {
+        TimingWheel<String> wheel = new TimingWheel<>(8);
+        List<String> expired = new ArrayList<>();
+
+        wheel.schedule("long", 20);
+
+        for (int i = 0; i < 19; i++) {
+            wheel.advance(expired::add);
+        }
+        assertTrue(expired.isEmpty(), "같은 버킷을 지나가도 기한 전에는 만료되지 않아야 함");
+
+        wheel.advance(expired::add);
+        assertEquals(List.of("long"), expired);
+    }
+
+    @Test
+    @DisplayName("취소한 예약은 만료되지 않아야 한다")
+    void 예약_취소_테스트() {
+        TimingWheel<String> wheel = new TimingWheel<>(8);
+        List<String> expired = new ArrayList<>();
+
+        TimingWheel.Timeout<String> a = wheel.schedule("a", 2);
+        wheel.schedule("b", 2);
+
+        assertTrue(a.cancel());
+        assertFalse(a.isPending());
+        assertFalse(a.cancel(), "이미 취소된 예약은 다시 취소되지 않아야 함");
+
+        wheel.advance(expired::add);
+        wheel.advance(expired::add);
+        assertEquals(List.of("b"), expired);
+    }
+
+    @Test
+    @DisplayName("같은 틱에 만료되는 예약은 콜백 전에 모두 분리되므로, 콜백 중 취소해도 취소되지 않고 모두 전달되어야 한다")
+    void 콜백_중_취소_테스트() {
+        TimingWheel<String> wheel = new TimingWheel<>(8);
+        List<String> expired = new ArrayList<>();
+        List<Boolean> cancelled = new ArrayList<>();
+
+        TimingWheel.Timeout<String> a = wheel.schedule("a", 1);
+        TimingWheel.Timeout<String> b = wheel.schedule("b", 1);
+        TimingWheel.Timeout<String> c = wheel.schedule("c", 1);
+
+        // 첫 콜백에서 나머지(와 자신)를 모두 취소 시도
+        wheel.advance(value -> {
+            if (expired.isEmpty()) {
+                cancelled.add(a.cancel());
+                cancelled.add(b.cancel());
+                cancelled.add(c.cancel());
+            }
+            expired.add(value);
+        });
+
+        assertEquals(List.of(false, false, false), cancelled, "이미 분리된 예약은 취소되지 않아야 함");
+        assertEquals(3, expired.size());
+        assertTrue(expired.containsAll(List.of("a", "b", "c")), "콜백 중 취소한 예약도 전달되어야 함");
+        assertFalse(wheel.reschedule(b, 5), "이미 분리된 예약은 옮길 수 없어야 함");
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("지연이 0이면 다음 틱에 만료되어야 한다")
+    void 지연_0_다음틱_만료_테스트() {
+        TimingWheel<String> wheel = new TimingWheel<>(8);
+        List<String> expired = new ArrayList<>();
+
+        wheel.schedule("now", 0);
+        wheel.advance(expired::add);
+
+        assertEquals(List.of("now"), expired);
+    }
+
+    @Test
+    @DisplayName("예약 틱을 옮기면 같은 핸들이 새 틱에 만료되어야 한다")
+    void 예약_틱_변경_테스트() {
+        TimingWheel<String> wheel = new TimingWheel<>(8);
+        List<String> expired = new ArrayList<>();
+
+        TimingWheel.Timeout<String> a = wheel.schedule("a", 2);
+        assertTrue(wheel.reschedule(a, 12));
+        assertEquals(12, a.getDeadline());
+        assertEquals(1, wheel.size());
+
+        wheel.advanceTo(11, expired::add);
+        assertTrue(expired.isEmpty(), "옮기기 전 틱에는 만료되지 않아야 함");
+        assertTrue(a.isPending());
+
+        wheel.advance(expired::add);
+        assertEquals(List.of("a"), expired);
+        assertFalse(wheel.reschedule(a, 20), "이미 만료된 핸들은 옮길 수 없어야 함");
+    }
+}
@@ -0,0 +1,44 @@
+package kr.minex.knockbackscroll.utils;
+
+/**
+ * 수동 진행 시계 (테스트/벤치마크용)
+ * 서버 틱으로는 진행되지 않으며 {@link #advance(long)}로만 시각이 바뀝니다.
+ */
+public class ManualScrollClock implements ScrollClock {
+
+    private volatile long millis;
+
+    public ManualScrollClock() {
+        this(0L);
+    }
+
+    public ManualScrollClock(long startMillis) {
+        this.millis = startMillis;
+    }
+
+    @Override
+    public long now() {
+        return millis;
+    }
+
+    @Override
+    public void tick() {
+        // 수동 진행 전용
+    }
+
+    /**
+     * 시각 진행
+     * @param deltaMillis 진행할 밀리초
+     */
+    public void advance(long deltaMillis) {
+        millis += deltaMillis;
+    }
+
+    /**
+     * 틱 단위로 시각 진행
+     * @param ticks 진행할 틱 수
+     */
+    public void advanceTicks(long ticks) {
+        advance(ticks * MILLIS_PER_TICK);
+    }
+}